@@ -0,0 +1,92 @@
+package org.project.portfolio.auth;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.project.portfolio.auth.cache.VerifiedTokenCache;
+import org.project.portfolio.auth.dto.TokenStatus;
+import org.project.portfolio.auth.filter.JwtAuthenticationFilter;
+import org.project.portfolio.auth.metrics.AuthMetrics;
+import org.project.portfolio.auth.service.JwtService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+public class JwtFilterChainBenchmark {
+
+  private static final FilterChain CLEARING_FILTER_CHAIN = (request, response) -> SecurityContextHolder.clearContext();
+
+  private JwtService jwtService;
+  private JwtAuthenticationFilter jwtAuthenticationFilter;
+  private MockHttpServletRequest anonymousRequest;
+  private MockHttpServletRequest signUpRequest;
+  private MockHttpServletRequest authenticatedRequest;
+  private MockHttpServletResponse response;
+
+  @Setup
+  public void setUp() {
+    String secretKey = Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+    jwtService = new JwtService(secretKey, "Authorization", 3_600_000L);
+    AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+    jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtService, new VerifiedTokenCache(10_000), authMetrics);
+    String bearerToken = "Bearer " + jwtService.createAccessToken("test@test.kr", "USER");
+
+    anonymousRequest = request("GET", "/api/v1/posts");
+    signUpRequest = request("POST", "/api/v1/signup");
+    signUpRequest.addHeader("Authorization", bearerToken);
+    authenticatedRequest = request("GET", "/api/v1/posts");
+    authenticatedRequest.addHeader("Authorization", bearerToken);
+    response = new MockHttpServletResponse();
+  }
+
+  @Benchmark
+  public void anonymousRequest() throws ServletException, IOException {
+    jwtAuthenticationFilter.doFilter(anonymousRequest, response, CLEARING_FILTER_CHAIN);
+  }
+
+  @Benchmark
+  public void publicRequestWithBearerToken() throws ServletException, IOException {
+    jwtAuthenticationFilter.doFilter(signUpRequest, response, CLEARING_FILTER_CHAIN);
+  }
+
+  @Benchmark
+  public void authenticatedRequest() throws ServletException, IOException {
+    jwtAuthenticationFilter.doFilter(authenticatedRequest, response, CLEARING_FILTER_CHAIN);
+  }
+
+  @Benchmark
+  public Object exceptionPerAnonymousRequest() {
+    TokenStatus status = jwtService.validate(jwtService.extractAccessToken(anonymousRequest)).getStatus();
+    try {
+      throw new JwtException(status.getMessage());
+    } catch (JwtException e) {
+      AuthenticationServiceException exception = new AuthenticationServiceException(e.getLocalizedMessage());
+      anonymousRequest.setAttribute("exception", exception);
+      return exception;
+    }
+  }
+
+  private MockHttpServletRequest request(String method, String path) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+    request.setServletPath(path);
+    return request;
+  }
+}
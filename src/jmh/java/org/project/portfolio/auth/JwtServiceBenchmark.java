@@ -0,0 +1,82 @@
+package org.project.portfolio.auth;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.project.portfolio.auth.dto.TokenVerification;
+import org.project.portfolio.auth.service.JwtService;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(1)
+public class JwtServiceBenchmark {
+
+  private JwtService jwtService;
+  private String accessToken;
+  private String expiredAccessToken;
+  private JwtParser throwingJwtParser;
+
+  @Setup
+  public void setUp() {
+    String secretKey = Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+    jwtService = new JwtService(secretKey, "Authorization", 3_600_000L);
+    accessToken = jwtService.createAccessToken("test@test.kr", "USER");
+    expiredAccessToken = new JwtService(secretKey, "Authorization", -60_000L).createAccessToken("test@test.kr", "USER");
+    throwingJwtParser = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey))).build();
+  }
+
+  @Benchmark
+  public String createAccessToken() {
+    return jwtService.createAccessToken("test@test.kr", "USER");
+  }
+
+  @Benchmark
+  public TokenVerification validate() {
+    return jwtService.validate(accessToken);
+  }
+
+  @Benchmark
+  public TokenVerification validateExpiredToken() {
+    return jwtService.validate(expiredAccessToken);
+  }
+
+  @Benchmark
+  public Object rethrowExpiredToken() {
+    try {
+      try {
+        return throwingJwtParser.parseSignedClaims(expiredAccessToken).getPayload();
+      } catch (ExpiredJwtException e) {
+        throw new JwtException("Expired JWT");
+      }
+    } catch (JwtException e) {
+      return new AuthenticationServiceException(e.getLocalizedMessage());
+    }
+  }
+
+  @Benchmark
+  public String extractEmail() {
+    return jwtService.extractEmail(accessToken);
+  }
+
+  @Benchmark
+  public List<SimpleGrantedAuthority> extractAuthorities() {
+    return jwtService.extractAuthorities(accessToken);
+  }
+}
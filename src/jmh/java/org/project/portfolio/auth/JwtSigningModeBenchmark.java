@@ -0,0 +1,50 @@
+package org.project.portfolio.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.project.portfolio.auth.dto.TokenVerification;
+import org.project.portfolio.auth.key.JwtKeyRing;
+import org.project.portfolio.auth.key.JwtSigningAlgorithm;
+import org.project.portfolio.auth.service.JwtService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class JwtSigningModeBenchmark {
+
+  @Param({"HS256", "ES256", "EDDSA"})
+  private JwtSigningAlgorithm algorithm;
+
+  private JwtService jwtService;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    JwtKeyRing jwtKeyRing = algorithm.isAsymmetric()
+        ? JwtKeyRing.generated(algorithm)
+        : JwtKeyRing.hmac(Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded()));
+    jwtService = new JwtService(jwtKeyRing, "Authorization", 3_600_000L);
+    accessToken = jwtService.createAccessToken("test@test.kr", "USER");
+  }
+
+  @Benchmark
+  public String sign() {
+    return jwtService.createAccessToken("test@test.kr", "USER");
+  }
+
+  @Benchmark
+  public TokenVerification verify() {
+    return jwtService.validate(accessToken);
+  }
+}
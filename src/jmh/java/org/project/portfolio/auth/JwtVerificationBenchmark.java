@@ -0,0 +1,71 @@
+package org.project.portfolio.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.project.portfolio.auth.dto.VerifiedToken;
+import org.project.portfolio.auth.service.JwtService;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class JwtVerificationBenchmark {
+
+  private String secretKey;
+  private JwtService jwtService;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    secretKey = Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+    jwtService = new JwtService(secretKey, "Authorization", 3_600_000L);
+    accessToken = jwtService.createAccessToken("test@test.kr", "USER");
+  }
+
+  @Benchmark
+  public void threeParsesPerRequest(Blackhole blackhole) {
+    Jwts.parser()
+        .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+        .build()
+        .parseSignedClaims(accessToken);
+    String email = Jwts.parser()
+        .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+        .build()
+        .parseSignedClaims(accessToken)
+        .getPayload()
+        .get("email", String.class);
+    String authorities = Jwts.parser()
+        .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+        .build()
+        .parseSignedClaims(accessToken)
+        .getPayload()
+        .get("auth", String.class);
+    List<SimpleGrantedAuthority> grantedAuthorities = Arrays.stream(authorities.split(","))
+        .map(SimpleGrantedAuthority::new)
+        .collect(Collectors.toList());
+
+    blackhole.consume(email);
+    blackhole.consume(grantedAuthorities);
+  }
+
+  @Benchmark
+  public VerifiedToken singleParsePerRequest() {
+    return jwtService.verify(accessToken);
+  }
+}
@@ -0,0 +1,75 @@
+package org.project.portfolio.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.project.portfolio.auth.codec.LoginJsonCodec;
+import org.project.portfolio.auth.dto.LoginRequestDto;
+import org.project.portfolio.global.constants.RegExp;
+import org.project.portfolio.global.request.RequestBodyLimitFilter;
+import org.project.portfolio.global.request.RequestLimits;
+import org.project.portfolio.global.validation.FieldFormats;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(1)
+public class LoginPayloadLimitBenchmark {
+
+  private static final int MAX_BODY_BYTES = 4096;
+  private static final int MAX_FIELD_LENGTH = 256;
+  private static final Pattern EMAIL = Pattern.compile(RegExp.EMAIL);
+  private static final Pattern PASSWORD = Pattern.compile(RegExp.PASSWORD);
+
+  @Param({"64", "1024", "65536", "1048576"})
+  private int passwordLength;
+
+  private byte[] body;
+  private ObjectReader unboundedReader;
+  private LoginJsonCodec boundedCodec;
+
+  @Setup
+  public void setUp() {
+    String adversarialPassword = "a".repeat(passwordLength - 1) + "!";
+    body = ("{\"email\":\"test@test.kr\",\"password\":\"" + adversarialPassword + "\"}")
+        .getBytes(StandardCharsets.UTF_8);
+    unboundedReader = new ObjectMapper().readerFor(LoginRequestDto.class);
+    boundedCodec = new LoginJsonCodec(RequestLimits.bounded(new ObjectMapper(), MAX_FIELD_LENGTH));
+  }
+
+  @Benchmark
+  public boolean unboundedReadAndRegex() throws IOException {
+    LoginRequestDto loginRequestDto = unboundedReader.readValue(new ByteArrayInputStream(body));
+    return EMAIL.matcher(loginRequestDto.getEmail()).matches()
+        && PASSWORD.matcher(loginRequestDto.getPassword()).matches();
+  }
+
+  @Benchmark
+  public boolean boundedReadAndSinglePass() throws IOException {
+    byte[] boundedBody = RequestBodyLimitFilter.readBounded(new ByteArrayInputStream(body), MAX_BODY_BYTES);
+    if (boundedBody == null) {
+      return false;
+    }
+    LoginRequestDto loginRequestDto;
+    try {
+      loginRequestDto = boundedCodec.readLoginRequest(new ByteArrayInputStream(boundedBody));
+    } catch (JsonProcessingException e) {
+      return false;
+    }
+    return FieldFormats.isEmail(loginRequestDto.getEmail()) && FieldFormats.isPassword(loginRequestDto.getPassword());
+  }
+}
@@ -0,0 +1,63 @@
+package org.project.portfolio.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.project.portfolio.auth.codec.LoginJsonCodec;
+import org.project.portfolio.auth.dto.LoginResponseDto;
+import org.project.portfolio.global.constants.Message;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+public class LoginResponseSerializationBenchmark {
+
+  private ObjectMapper objectMapper;
+  private LoginJsonCodec loginJsonCodec;
+  private LoginResponseDto successResponse;
+  private LoginResponseDto failureResponse;
+
+  @Setup
+  public void setUp() {
+    objectMapper = new ObjectMapper();
+    loginJsonCodec = new LoginJsonCodec(objectMapper);
+    successResponse = LoginResponseDto.builder()
+        .message(Message.OK)
+        .accessToken("eyJhbGciOiJIUzI1NiJ9.eyJlbWFpbCI6InRlc3RAdGVzdC5rciIsImF1dGgiOiJVU0VSIn0.signature")
+        .build();
+    failureResponse = LoginResponseDto.builder()
+        .message(Message.UNAUTHORIZED)
+        .detail(Message.NOT_MATCH_WITH_LOGIN_DTO)
+        .build();
+  }
+
+  @Benchmark
+  public byte[] objectMapperSuccess() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(successResponse);
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream codecSuccess() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(256);
+    loginJsonCodec.writeLoginResponse(outputStream, successResponse);
+    return outputStream;
+  }
+
+  @Benchmark
+  public ByteArrayOutputStream codecFailure() throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(256);
+    loginJsonCodec.writeLoginResponse(outputStream, failureResponse);
+    return outputStream;
+  }
+}
@@ -0,0 +1,41 @@
+package org.project.portfolio.auth;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.project.portfolio.auth.password.PasswordEncoders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordVerificationBenchmark {
+
+  private static final String RAW_PASSWORD = "q1w2e3r4t5!@";
+
+  @Param({"bcrypt:8", "bcrypt:10", "bcrypt:12", "argon2:12288:3", "argon2:19456:2", "argon2:47104:1"})
+  private String setting;
+
+  private PasswordEncoder passwordEncoder;
+  private String encodedPassword;
+
+  @Setup
+  public void setUp() {
+    String[] parameters = setting.split(":");
+    passwordEncoder = PasswordEncoders.BCRYPT.equals(parameters[0])
+        ? PasswordEncoders.bcrypt(Integer.parseInt(parameters[1]))
+        : PasswordEncoders.argon2(Integer.parseInt(parameters[1]), Integer.parseInt(parameters[2]));
+    encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+  }
+
+  @Benchmark
+  public boolean matches() {
+    return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+  }
+}
@@ -0,0 +1,62 @@
+package org.project.portfolio.global;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.DuplicateResourceException;
+import org.project.portfolio.global.exception.GlobalExceptionHandler;
+import org.project.portfolio.global.response.ResponseBodyRegistry;
+import org.project.portfolio.user.controller.SignUpController;
+import org.project.portfolio.user.dto.SignUpRequestDto;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+public class GlobalExceptionHandlerBenchmark {
+
+  private static final String OBJECT_NAME = "signUpRequestDto";
+
+  private GlobalExceptionHandler globalExceptionHandler;
+  private MethodArgumentNotValidException methodArgumentNotValidException;
+  private DuplicateResourceException duplicateResourceException;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException, JsonProcessingException {
+    globalExceptionHandler = new GlobalExceptionHandler(new ResponseBodyRegistry(new ObjectMapper()));
+    BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new SignUpRequestDto(), OBJECT_NAME);
+    bindingResult.addError(new FieldError(OBJECT_NAME, "userId", Message.INVALID_USER_ID));
+    bindingResult.addError(new FieldError(OBJECT_NAME, "password", Message.INVALID_PASSWORD));
+    bindingResult.addError(new FieldError(OBJECT_NAME, "username", Message.INVALID_USERNAME));
+    bindingResult.addError(new FieldError(OBJECT_NAME, "email", Message.INVALID_EMAIL));
+    bindingResult.addError(new FieldError(OBJECT_NAME, "phone", Message.INVALID_PHONE));
+    MethodParameter parameter = new MethodParameter(
+        SignUpController.class.getMethod("signup", SignUpRequestDto.class), 0);
+    methodArgumentNotValidException = new MethodArgumentNotValidException(parameter, bindingResult);
+    duplicateResourceException = new DuplicateResourceException(Message.DUPLICATE_EMAIL);
+  }
+
+  @Benchmark
+  public ResponseEntity<?> methodArgumentNotValid() {
+    return globalExceptionHandler.handleMethodArgumentNotValid(methodArgumentNotValidException);
+  }
+
+  @Benchmark
+  public ResponseEntity<?> duplicateResource() {
+    return globalExceptionHandler.handleDuplicateResource(duplicateResourceException);
+  }
+}
@@ -0,0 +1,123 @@
+package org.project.portfolio.post;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(1)
+public class PostKeysetPaginationBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+  private static final String COLUMNS = "select p.id, p.title, u.username, p.created_at"
+      + " from posts p join users u on u.id = p.author_id where p.deleted_at is null";
+
+  @Param({"10000000"})
+  private int rows;
+  @Param({"10000"})
+  private int page;
+
+  private Connection connection;
+  private PreparedStatement firstPage;
+  private PreparedStatement keysetPage;
+  private PreparedStatement offsetPage;
+  private Timestamp cursorCreatedAt;
+  private long cursorId;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:posts_benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("create table users (id bigint primary key, username varchar(255) not null)");
+      statement.execute("create table posts (id bigint primary key, author_id bigint not null references users(id),"
+          + " title varchar(200) not null, content varchar(1000) not null, created_at timestamp(6) not null,"
+          + " updated_at timestamp(6) not null, deleted_at timestamp(6))");
+      statement.execute("insert into users select x, '사용자' || x from system_range(1, 1000)");
+      // 초당 10건씩 생성된 게시글을 가정하고, 100건 중 1건은 soft delete 상태로 만든다.
+      statement.execute("insert into posts select x, mod(x, 1000) + 1, '게시글 ' || x, '내용',"
+          + " dateadd('MILLISECOND', x * 100, timestamp '2024-01-01 00:00:00'),"
+          + " dateadd('MILLISECOND', x * 100, timestamp '2024-01-01 00:00:00'),"
+          + " case when mod(x, 100) = 0 then timestamp '2024-06-01 00:00:00' end"
+          + " from system_range(1, " + rows + ")");
+      statement.execute("create index ix_posts_deleted_at_created_at_id on posts (deleted_at, created_at, id)");
+      statement.execute("analyze");
+    }
+
+    firstPage = connection.prepareStatement(COLUMNS + " order by p.created_at desc, p.id desc limit ?");
+    keysetPage = connection.prepareStatement(COLUMNS
+        + " and (p.created_at < ? or (p.created_at = ? and p.id < ?))"
+        + " order by p.created_at desc, p.id desc limit ?");
+    offsetPage = connection.prepareStatement(COLUMNS + " order by p.created_at desc, p.id desc limit ? offset ?");
+
+    // page 번째 페이지 직전 행을 커서로 잡아 keyset 조회와 OFFSET 조회가 같은 페이지를 읽도록 한다.
+    offsetPage.setInt(1, 1);
+    offsetPage.setLong(2, (long) (page - 1) * PAGE_SIZE - 1);
+    try (ResultSet resultSet = offsetPage.executeQuery()) {
+      resultSet.next();
+      cursorId = resultSet.getLong(1);
+      cursorCreatedAt = resultSet.getTimestamp(4);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("drop all objects");
+    }
+    connection.close();
+  }
+
+  @Benchmark
+  public void firstPage(Blackhole blackhole) throws SQLException {
+    firstPage.setInt(1, PAGE_SIZE);
+    consume(firstPage, blackhole);
+  }
+
+  @Benchmark
+  public void keysetDeepPage(Blackhole blackhole) throws SQLException {
+    keysetPage.setTimestamp(1, cursorCreatedAt);
+    keysetPage.setTimestamp(2, cursorCreatedAt);
+    keysetPage.setLong(3, cursorId);
+    keysetPage.setInt(4, PAGE_SIZE);
+    consume(keysetPage, blackhole);
+  }
+
+  @Benchmark
+  public void offsetDeepPage(Blackhole blackhole) throws SQLException {
+    offsetPage.setInt(1, PAGE_SIZE);
+    offsetPage.setLong(2, (long) (page - 1) * PAGE_SIZE);
+    consume(offsetPage, blackhole);
+  }
+
+  private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        blackhole.consume(resultSet.getLong(1));
+        blackhole.consume(resultSet.getString(2));
+        blackhole.consume(resultSet.getString(3));
+        blackhole.consume(resultSet.getTimestamp(4));
+      }
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package org.project.portfolio.post;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.project.portfolio.post.dto.PostCursor;
+import org.project.portfolio.post.search.TitleTrigramIndex;
+import org.springframework.data.domain.Sort.Direction;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(1)
+public class PostTitleSearchBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+  private static final int INSERT_BATCH_SIZE = 10_000;
+  private static final String[] WORDS = {
+      "스프링", "부트", "게시판", "검색", "색인", "트라이그램", "페이지", "커서", "정렬", "조회",
+      "회원", "가입", "로그인", "토큰", "보안", "성능", "캐시", "쿼리", "트랜잭션", "엔티티",
+      "spring", "boot", "jpa", "hibernate", "java", "kotlin", "redis", "kafka", "docker", "linux",
+      "benchmark", "latency", "index", "search", "keyset", "cursor", "pagination", "thread", "lock", "heap"
+  };
+  private static final String SUMMARY = "select p.id, p.title, u.username, p.created_at"
+      + " from posts p join users u on u.id = p.author_id where p.deleted_at is null";
+
+  @Param({"1000000"})
+  private int rows;
+  @Param({"트라이그램 검색", "spring", "77777"})
+  private String term;
+
+  private Connection connection;
+  private PreparedStatement likeSearch;
+  private PreparedStatement fetchByIds;
+  private TitleTrigramIndex titleTrigramIndex;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:post_title_benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("create table users (id bigint primary key, username varchar(255) not null)");
+      statement.execute("create table posts (id bigint primary key, author_id bigint not null references users(id),"
+          + " title varchar(200) not null, content varchar(1000) not null, created_at timestamp(6) not null,"
+          + " updated_at timestamp(6) not null, deleted_at timestamp(6))");
+      statement.execute("insert into users select x, '사용자' || x from system_range(1, 1000)");
+    }
+    insertPosts();
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("create index ix_posts_deleted_at_created_at_id on posts (deleted_at, created_at, id)");
+      statement.execute("analyze");
+    }
+
+    titleTrigramIndex = new TitleTrigramIndex();
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(
+            "select id, created_at, title from posts where deleted_at is null")) {
+      while (resultSet.next()) {
+        LocalDateTime createdAt = resultSet.getTimestamp(2).toLocalDateTime();
+        titleTrigramIndex.upsert(resultSet.getLong(1), PostCursor.toEpochMicros(createdAt), resultSet.getString(3));
+      }
+    }
+
+    likeSearch = connection.prepareStatement(SUMMARY
+        + " and lower(p.title) like ? order by p.created_at desc, p.id desc limit ?");
+    fetchByIds = connection.prepareStatement(SUMMARY + " and p.id = any(?)");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("drop all objects");
+    }
+    connection.close();
+  }
+
+  @Benchmark
+  public void like(Blackhole blackhole) throws SQLException {
+    likeSearch.setString(1, "%" + term.toLowerCase() + "%");
+    likeSearch.setInt(2, PAGE_SIZE + 1);
+    consume(likeSearch, blackhole);
+  }
+
+  @Benchmark
+  public List<Long> trigramIndexOnly() {
+    return titleTrigramIndex.search(term, Direction.DESC, null, PAGE_SIZE + 1);
+  }
+
+  @Benchmark
+  public void trigramIndexWithFetch(Blackhole blackhole) throws SQLException {
+    List<Long> ids = titleTrigramIndex.search(term, Direction.DESC, null, PAGE_SIZE + 1);
+    fetchByIds.setObject(1, ids.toArray(new Long[0]));
+    consume(fetchByIds, blackhole);
+  }
+
+  private void insertPosts() throws SQLException {
+    Random random = new Random(42);
+    LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+    connection.setAutoCommit(false);
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into posts values (?, ?, ?, '내용', ?, ?, ?)")) {
+      for (int id = 1; id <= rows; id++) {
+        Timestamp createdAt = Timestamp.valueOf(base.plusNanos(id * 100_000_000L));
+        insert.setLong(1, id);
+        insert.setLong(2, id % 1000 + 1);
+        insert.setString(3, WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+            + " " + WORDS[random.nextInt(WORDS.length)] + " " + id);
+        insert.setTimestamp(4, createdAt);
+        insert.setTimestamp(5, createdAt);
+        insert.setTimestamp(6, id % 100 == 0 ? createdAt : null);
+        insert.addBatch();
+        if (id % INSERT_BATCH_SIZE == 0) {
+          insert.executeBatch();
+          connection.commit();
+        }
+      }
+      insert.executeBatch();
+      connection.commit();
+    }
+    connection.setAutoCommit(true);
+  }
+
+  private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        blackhole.consume(resultSet.getLong(1));
+        blackhole.consume(resultSet.getString(2));
+        blackhole.consume(resultSet.getString(3));
+        blackhole.consume(resultSet.getTimestamp(4));
+      }
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package org.project.portfolio.post;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.project.portfolio.post.view.ViewCountBuffer;
+import org.project.portfolio.post.view.ViewDeduplicator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(8)
+public class PostViewCountContentionBenchmark {
+
+  private static final long HOT_POST_ID = 1L;
+  private static final String URL = "jdbc:h2:mem:post_view_benchmark;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+
+  private Connection schemaConnection;
+  private ViewCountBuffer viewCountBuffer;
+  private ViewDeduplicator viewDeduplicator;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    schemaConnection = DriverManager.getConnection(URL, "sa", "");
+    viewCountBuffer = new ViewCountBuffer();
+    viewDeduplicator = new ViewDeduplicator(Duration.ofHours(24), 10_000_000, 0.01);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement statement = schemaConnection.createStatement()) {
+      statement.execute("drop all objects");
+    }
+    schemaConnection.close();
+  }
+
+  @Benchmark
+  public void writeBehind() {
+    viewCountBuffer.increment(HOT_POST_ID);
+  }
+
+  @Benchmark
+  public boolean writeBehindWithDedup() {
+    long userId = ThreadLocalRandom.current().nextLong(1_000_000);
+    boolean firstView = viewDeduplicator.markFirstView(userId, HOT_POST_ID);
+    if (firstView) {
+      viewCountBuffer.increment(HOT_POST_ID);
+    }
+    return firstView;
+  }
+
+  @Benchmark
+  public int rowUpdate(RowConnection rowConnection) throws SQLException {
+    return rowConnection.increment.executeUpdate();
+  }
+
+  @State(Scope.Thread)
+  public static class RowConnection {
+
+    private Connection connection;
+    private PreparedStatement increment;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+      connection = DriverManager.getConnection(URL, "sa", "");
+      // 스레드별 상태가 벤치마크 상태보다 먼저 초기화될 수 있어 각 스레드가 멱등하게 스키마를 준비한다.
+      synchronized (RowConnection.class) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("create table if not exists posts (id bigint primary key, view_count bigint not null)");
+          statement.execute("merge into posts key (id) values (" + HOT_POST_ID + ", 0)");
+        }
+      }
+      increment = connection.prepareStatement("update posts set view_count = view_count + 1 where id = " + HOT_POST_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+      connection.close();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package org.project.portfolio.user;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.project.portfolio.global.constants.RegExp;
+import org.project.portfolio.global.validation.FieldFormats;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+public class FieldValidationBenchmark {
+
+  private static final Pattern USER_ID = Pattern.compile(RegExp.USER_ID);
+  private static final Pattern USERNAME = Pattern.compile(RegExp.USERNAME);
+  private static final Pattern PASSWORD = Pattern.compile(RegExp.PASSWORD);
+  private static final Pattern EMAIL = Pattern.compile(RegExp.EMAIL);
+  private static final Pattern PHONE = Pattern.compile(RegExp.PHONE);
+
+  @Param({"valid", "longInvalidPassword"})
+  private String input;
+
+  private String userId;
+  private String username;
+  private String password;
+  private String email;
+  private String phone;
+
+  @Setup
+  public void setUp() {
+    userId = "test";
+    username = "테스트";
+    email = "test@test.kr";
+    phone = "010-1234-5678";
+    password = switch (input) {
+      case "valid" -> "q1w2e3r4t5!@";
+      case "longInvalidPassword" -> "a".repeat(256) + "1".repeat(256) + "!";
+      default -> throw new IllegalArgumentException(input);
+    };
+  }
+
+  @Benchmark
+  public void regex(Blackhole blackhole) {
+    blackhole.consume(USER_ID.matcher(userId).matches());
+    blackhole.consume(USERNAME.matcher(username).matches());
+    blackhole.consume(PASSWORD.matcher(password).matches());
+    blackhole.consume(EMAIL.matcher(email).matches());
+    blackhole.consume(PHONE.matcher(phone).matches());
+  }
+
+  @Benchmark
+  public void singlePass(Blackhole blackhole) {
+    blackhole.consume(FieldFormats.isUserId(userId));
+    blackhole.consume(FieldFormats.isUsername(username));
+    blackhole.consume(FieldFormats.isPassword(password));
+    blackhole.consume(FieldFormats.isEmail(email));
+    blackhole.consume(FieldFormats.isPhone(phone));
+  }
+
+  @Benchmark
+  public boolean regexPassword() {
+    return PASSWORD.matcher(password).matches();
+  }
+
+  @Benchmark
+  public boolean singlePassPassword() {
+    return FieldFormats.isPassword(password);
+  }
+}
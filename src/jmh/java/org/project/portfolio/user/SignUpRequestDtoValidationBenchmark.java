@@ -0,0 +1,80 @@
+package org.project.portfolio.user;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Pattern;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.project.portfolio.global.constants.RegExp;
+import org.project.portfolio.user.dto.SignUpRequestDto;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+public class SignUpRequestDtoValidationBenchmark {
+
+  @Param({"valid", "invalid"})
+  private String input;
+
+  private ValidatorFactory validatorFactory;
+  private Validator validator;
+  private SignUpRequestDto signUpRequestDto;
+  private RegexSignUpRequest regexSignUpRequest;
+
+  @Setup
+  public void setUp() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    validator = validatorFactory.getValidator();
+    signUpRequestDto = switch (input) {
+      case "valid" -> new SignUpRequestDto("testId", "q1w2e3r4t5!@", "테스트", "test@test.kr", "010-1234-5678");
+      case "invalid" -> new SignUpRequestDto("id1", "password", "tester", "test@", "010-12-5678");
+      default -> throw new IllegalArgumentException(input);
+    };
+    regexSignUpRequest = new RegexSignUpRequest(signUpRequestDto.getUserId(), signUpRequestDto.getPassword(),
+        signUpRequestDto.getUsername(), signUpRequestDto.getEmail(), signUpRequestDto.getPhone());
+  }
+
+  @TearDown
+  public void tearDown() {
+    validatorFactory.close();
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<SignUpRequestDto>> fieldFormatConstraints() {
+    return validator.validate(signUpRequestDto);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<RegexSignUpRequest>> regexPatternConstraints() {
+    return validator.validate(regexSignUpRequest);
+  }
+
+  @AllArgsConstructor
+  public static class RegexSignUpRequest {
+
+    @Pattern(regexp = RegExp.USER_ID)
+    private String userId;
+    @Pattern(regexp = RegExp.PASSWORD)
+    private String password;
+    @Pattern(regexp = RegExp.USERNAME)
+    private String username;
+    @Pattern(regexp = RegExp.EMAIL)
+    private String email;
+    @Pattern(regexp = RegExp.PHONE)
+    private String phone;
+  }
+}
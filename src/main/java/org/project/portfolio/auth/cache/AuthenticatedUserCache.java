@@ -0,0 +1,58 @@
+package org.project.portfolio.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+public class AuthenticatedUserCache implements UserCache {
+
+  public static final String CACHE_NAME = "authenticated_users";
+
+  private final Cache<String, UserDetails> cache;
+
+  public AuthenticatedUserCache(long maximumSize, Duration timeToLive) {
+    this(maximumSize, timeToLive, Ticker.systemTicker());
+  }
+
+  public AuthenticatedUserCache(long maximumSize, Duration timeToLive, Ticker ticker) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .ticker(ticker)
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public UserDetails getUserFromCache(String username) {
+    return cache.getIfPresent(username);
+  }
+
+  @Override
+  public void putUserInCache(UserDetails user) {
+    cache.put(user.getUsername(), user);
+  }
+
+  @Override
+  public void removeUserFromCache(String username) {
+    cache.invalidate(username);
+  }
+
+  public void monitor(MeterRegistry meterRegistry) {
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long estimatedSize() {
+    return cache.estimatedSize();
+  }
+}
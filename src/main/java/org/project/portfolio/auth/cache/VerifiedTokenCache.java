@@ -0,0 +1,100 @@
+package org.project.portfolio.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.project.portfolio.auth.dto.TokenVerification;
+import org.project.portfolio.auth.dto.VerifiedToken;
+
+public class VerifiedTokenCache {
+
+  public static final String CACHE_NAME = "verified_tokens";
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+
+  private final Cache<TokenDigest, TokenVerification> cache;
+
+  public VerifiedTokenCache(long maximumSize) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new UntilTokenExpiration())
+        .recordStats()
+        .build();
+  }
+
+  public TokenVerification get(String accessToken, Function<String, TokenVerification> verifier) {
+    if (accessToken == null) {
+      return verifier.apply(null);
+    }
+    TokenDigest digest = TokenDigest.of(accessToken);
+    TokenVerification cached = cache.getIfPresent(digest);
+    if (cached != null) {
+      return cached;
+    }
+    TokenVerification tokenVerification = verifier.apply(accessToken);
+    if (tokenVerification.isValid()) {
+      cache.put(digest, tokenVerification);
+    }
+    return tokenVerification;
+  }
+
+  // hit/miss/eviction을 cache.gets, cache.evictions 등 cache=verified_tokens 태그의 지표로 노출한다.
+  public void monitor(MeterRegistry meterRegistry) {
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long estimatedSize() {
+    return cache.estimatedSize();
+  }
+
+  private record TokenDigest(long high, long low) {
+
+    static TokenDigest of(String accessToken) {
+      ByteBuffer digest = ByteBuffer.wrap(sha256(accessToken));
+      return new TokenDigest(digest.getLong(), digest.getLong());
+    }
+
+    private static byte[] sha256(String accessToken) {
+      try {
+        return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(accessToken.getBytes(StandardCharsets.US_ASCII));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  private static class UntilTokenExpiration implements Expiry<TokenDigest, TokenVerification> {
+
+    @Override
+    public long expireAfterCreate(TokenDigest key, TokenVerification value, long currentTime) {
+      VerifiedToken verifiedToken = value.getVerifiedToken();
+      if (verifiedToken.getExpiration() == null) {
+        return 0;
+      }
+      long remainingMillis = verifiedToken.getExpiration().getTime() - System.currentTimeMillis();
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+    }
+
+    @Override
+    public long expireAfterUpdate(TokenDigest key, TokenVerification value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(TokenDigest key, TokenVerification value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package org.project.portfolio.auth.codec;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.project.portfolio.auth.dto.LoginRequestDto;
+import org.project.portfolio.auth.dto.LoginResponseDto;
+
+public class LoginJsonCodec {
+
+  private final ObjectReader loginRequestReader;
+  private final ObjectWriter loginResponseWriter;
+
+  public LoginJsonCodec(ObjectMapper objectMapper) {
+    this.loginRequestReader = objectMapper.readerFor(LoginRequestDto.class);
+    this.loginResponseWriter = objectMapper.writerFor(LoginResponseDto.class);
+  }
+
+  public LoginRequestDto readLoginRequest(InputStream inputStream) throws IOException {
+    return loginRequestReader.readValue(inputStream);
+  }
+
+  public void writeLoginResponse(OutputStream outputStream, LoginResponseDto loginResponseDto) throws IOException {
+    try (JsonGenerator generator = loginResponseWriter.createGenerator(outputStream, JsonEncoding.UTF8)) {
+      loginResponseWriter.writeValue(generator, loginResponseDto);
+    }
+  }
+}
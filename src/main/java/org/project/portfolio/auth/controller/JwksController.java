@@ -0,0 +1,34 @@
+package org.project.portfolio.auth.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Map;
+import org.project.portfolio.auth.key.JwtKeyRing;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class JwksController {
+
+  private static final MediaType JWK_SET_MEDIA_TYPE = MediaType.parseMediaType("application/jwk-set+json");
+  private static final CacheControl JWK_SET_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+  private final byte[] jwkSet;
+
+  public JwksController(JwtKeyRing jwtKeyRing, ObjectMapper objectMapper) throws JsonProcessingException {
+    this.jwkSet = objectMapper.writeValueAsBytes(Map.of("keys", jwtKeyRing.publicJwks()));
+  }
+
+  @GetMapping("/.well-known/jwks.json")
+  public ResponseEntity<byte[]> jwks() {
+    return ResponseEntity.ok()
+        .contentType(JWK_SET_MEDIA_TYPE)
+        .cacheControl(JWK_SET_CACHE_CONTROL)
+        .contentLength(jwkSet.length)
+        .body(jwkSet);
+  }
+}
@@ -11,7 +11,12 @@ import org.springframework.security.core.userdetails.UserDetails;
 @RequiredArgsConstructor
 public class AuthenticatedUser implements UserDetails {
 
-  private final User user;
+  private final String email;
+  private final String password;
+
+  public AuthenticatedUser(User user) {
+    this(user.getEmail(), user.getPassword());
+  }
 
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -20,11 +25,11 @@ public class AuthenticatedUser implements UserDetails {
 
   @Override
   public String getPassword() {
-    return user.getPassword();
+    return password;
   }
 
   @Override
   public String getUsername() {
-    return user.getEmail();
+    return email;
   }
-}
\ No newline at end of file
+}
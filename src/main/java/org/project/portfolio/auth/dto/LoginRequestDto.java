@@ -1,12 +1,11 @@
 package org.project.portfolio.auth.dto;
 
-import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.project.portfolio.global.constants.Message;
-import org.project.portfolio.global.constants.RegExp;
+import org.project.portfolio.global.validation.Email;
+import org.project.portfolio.global.validation.Password;
 
 @Data
 @Builder
@@ -14,8 +13,8 @@ import org.project.portfolio.global.constants.RegExp;
 @AllArgsConstructor
 public class LoginRequestDto {
 
-  @Pattern(regexp = RegExp.EMAIL, message = Message.INVALID_EMAIL)
+  @Email
   private String email;
-  @Pattern(regexp = RegExp.PASSWORD, message = Message.INVALID_PASSWORD)
+  @Password
   private String password;
 }
\ No newline at end of file
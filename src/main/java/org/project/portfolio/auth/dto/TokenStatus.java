@@ -0,0 +1,16 @@
+package org.project.portfolio.auth.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TokenStatus {
+  VALID("Valid JWT"),
+  EXPIRED("Expired JWT"),
+  BAD_SIGNATURE("Invalid JWT signature"),
+  MALFORMED("Invalid JWT"),
+  MISSING("missed JWT");
+
+  private final String message;
+}
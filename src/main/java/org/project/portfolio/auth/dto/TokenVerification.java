@@ -0,0 +1,40 @@
+package org.project.portfolio.auth.dto;
+
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenVerification {
+
+  private static final Map<TokenStatus, TokenVerification> FAILURES = new EnumMap<>(TokenStatus.class);
+
+  static {
+    for (TokenStatus status : TokenStatus.values()) {
+      if (status != TokenStatus.VALID) {
+        FAILURES.put(status, new TokenVerification(status, null));
+      }
+    }
+  }
+
+  private final TokenStatus status;
+  private final VerifiedToken verifiedToken;
+
+  public static TokenVerification valid(VerifiedToken verifiedToken) {
+    return new TokenVerification(TokenStatus.VALID, verifiedToken);
+  }
+
+  public static TokenVerification failure(TokenStatus status) {
+    if (status == TokenStatus.VALID) {
+      throw new IllegalArgumentException("a valid verification needs a verified token");
+    }
+    return FAILURES.get(status);
+  }
+
+  public boolean isValid() {
+    return status == TokenStatus.VALID;
+  }
+}
@@ -0,0 +1,16 @@
+package org.project.portfolio.auth.dto;
+
+import java.util.Date;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+  private final String email;
+  private final List<SimpleGrantedAuthority> authorities;
+  private final Date expiration;
+}
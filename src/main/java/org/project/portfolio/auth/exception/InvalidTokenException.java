@@ -0,0 +1,21 @@
+package org.project.portfolio.auth.exception;
+
+import io.jsonwebtoken.JwtException;
+import lombok.Getter;
+import org.project.portfolio.auth.dto.TokenStatus;
+
+@Getter
+public class InvalidTokenException extends JwtException {
+
+  private final TokenStatus status;
+
+  public InvalidTokenException(TokenStatus status) {
+    super(status.getMessage());
+    this.status = status;
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
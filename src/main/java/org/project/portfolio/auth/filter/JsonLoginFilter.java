@@ -1,16 +1,20 @@
 package org.project.portfolio.auth.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validator;
 import java.io.IOException;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.project.portfolio.auth.codec.LoginJsonCodec;
 import org.project.portfolio.auth.dto.LoginRequestDto;
+import org.project.portfolio.auth.metrics.AuthMetrics;
+import org.project.portfolio.auth.ratelimit.LoginRateLimiter;
 import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.TooManyRequestsException;
 import org.project.portfolio.global.exception.UnsupportedMediaTypeException;
+import org.project.portfolio.global.validation.FieldFormats;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -28,11 +32,17 @@ public class JsonLoginFilter extends AbstractAuthenticationProcessingFilter {
   private static final AntPathRequestMatcher DEFAULT_LOGIN_PATH_REQUEST_MATCHER =
       new AntPathRequestMatcher(LOGIN_REQUEST_URL, LOGIN_REQUEST_HTTP_METHOD);
 
-  private final Validator validator;
+  private static final String VIOLATION_DELIMITER = ", ";
 
-  public JsonLoginFilter(Validator validator) {
+  private final LoginJsonCodec loginJsonCodec;
+  private final LoginRateLimiter loginRateLimiter;
+  private final AuthMetrics authMetrics;
+
+  public JsonLoginFilter(LoginJsonCodec loginJsonCodec, LoginRateLimiter loginRateLimiter, AuthMetrics authMetrics) {
     super(DEFAULT_LOGIN_PATH_REQUEST_MATCHER);
-    this.validator = validator;
+    this.loginJsonCodec = loginJsonCodec;
+    this.loginRateLimiter = loginRateLimiter;
+    this.authMetrics = authMetrics;
   }
 
   @Override
@@ -46,9 +56,19 @@ public class JsonLoginFilter extends AbstractAuthenticationProcessingFilter {
     }
 
     LoginRequestDto loginRequestDto = parseDto(request);
+    long waitNanos = loginRateLimiter.acquire(request.getRemoteAddr(), loginRequestDto.getEmail());
+    if (waitNanos > 0) {
+      throw new TooManyRequestsException(Message.TOO_MANY_LOGIN_ATTEMPTS, toRetryAfterSeconds(waitNanos));
+    }
     return getAuthentication(loginRequestDto);
   }
 
+  // Retry-After는 초 단위 정수이므로, 남은 시간을 올림해 너무 이른 재시도를 막는다.
+  private static long toRetryAfterSeconds(long waitNanos) {
+    long nanosPerSecond = TimeUnit.SECONDS.toNanos(1);
+    return (waitNanos + nanosPerSecond - 1) / nanosPerSecond;
+  }
+
   private boolean isApplicationJson(String contentType) {
     return contentType != null && contentType.equals(LOGIN_REQUEST_CONTENT_TYPE);
   }
@@ -59,18 +79,37 @@ public class JsonLoginFilter extends AbstractAuthenticationProcessingFilter {
   }
 
   private LoginRequestDto parseDto(HttpServletRequest request) throws IOException {
-    ObjectMapper objectMapper = new ObjectMapper();
-    LoginRequestDto loginRequestDto = objectMapper.readValue(request.getInputStream(), LoginRequestDto.class);
-    Set<ConstraintViolation<LoginRequestDto>> violations = validator.validate(loginRequestDto);
+    long startNanos = System.nanoTime();
+    LoginRequestDto loginRequestDto;
+    try {
+      loginRequestDto = loginJsonCodec.readLoginRequest(request.getInputStream());
+    } catch (JsonProcessingException e) {
+      throw new InsufficientAuthenticationException(Message.INVALID_REQUEST_BODY, e);
+    } finally {
+      AuthMetrics.record(authMetrics.getLoginParse(), startNanos);
+    }
+    long parsedNanos = System.nanoTime();
+    List<String> violations = validate(loginRequestDto);
+    AuthMetrics.record(authMetrics.getLoginValidation(), parsedNanos);
     if (!violations.isEmpty()) {
-      String details = violations.stream()
-          .map(ConstraintViolation::getMessage)
-          .collect(Collectors.joining(", "));
-      throw new InsufficientAuthenticationException(details);
+      throw new InsufficientAuthenticationException(String.join(VIOLATION_DELIMITER, violations));
     }
     return loginRequestDto;
   }
 
+  private List<String> validate(LoginRequestDto loginRequestDto) {
+    List<String> violations = new ArrayList<>(2);
+    String email = loginRequestDto.getEmail();
+    if (email != null && !FieldFormats.isEmail(email)) {
+      violations.add(Message.INVALID_EMAIL);
+    }
+    String password = loginRequestDto.getPassword();
+    if (password != null && !FieldFormats.isPassword(password)) {
+      violations.add(Message.INVALID_PASSWORD);
+    }
+    return violations;
+  }
+
   private Authentication getAuthentication(LoginRequestDto loginRequestDto) {
     UsernamePasswordAuthenticationToken authentication =
         UsernamePasswordAuthenticationToken.unauthenticated(loginRequestDto.getEmail(), loginRequestDto.getPassword());
@@ -5,39 +5,66 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.project.portfolio.auth.cache.VerifiedTokenCache;
+import org.project.portfolio.auth.dto.TokenVerification;
+import org.project.portfolio.auth.dto.VerifiedToken;
+import org.project.portfolio.auth.metrics.AuthMetrics;
 import org.project.portfolio.auth.service.JwtService;
-import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+  public static final String TOKEN_STATUS_ATTRIBUTE = "tokenStatus";
+  private static final RequestMatcher PUBLIC_REQUEST_MATCHER = new OrRequestMatcher(
+      new AntPathRequestMatcher("/api/v1/signup", "POST"),
+      new AntPathRequestMatcher("/api/v1/signup/bulk", "POST")
+  );
+
   private final JwtService jwtService;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final AuthMetrics authMetrics;
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return PUBLIC_REQUEST_MATCHER.matches(request);
+  }
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
-    try {
-      String accessToken = jwtService.extractAccessToken(request);
-      jwtService.validate(accessToken);
-
-      String email = jwtService.extractEmail(accessToken);
-      List<SimpleGrantedAuthority> authorities = jwtService.extractAuthorities(accessToken);
-      setSecurityContextHolder(email, authorities);
-    } catch (Exception e) {
-      request.setAttribute("exception", new AuthenticationServiceException(e.getLocalizedMessage()));
+    long startNanos = System.nanoTime();
+    // 토큰이 없는 익명 요청은 헤더를 한 번만 읽고 검증과 지표 기록 없이 넘긴다.
+    String accessToken = jwtService.extractAccessToken(request);
+    if (accessToken == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    long extractedNanos = System.nanoTime();
+    AuthMetrics.record(authMetrics.getJwtFilterExtract(), startNanos);
+    TokenVerification tokenVerification = verifiedTokenCache.get(accessToken, jwtService::validate);
+    long verifiedNanos = System.nanoTime();
+    AuthMetrics.record(authMetrics.getJwtFilterVerify(), extractedNanos);
+
+    if (tokenVerification.isValid()) {
+      setSecurityContextHolder(tokenVerification.getVerifiedToken());
+      AuthMetrics.record(authMetrics.getJwtFilterAuthenticate(), verifiedNanos);
+    } else {
+      authMetrics.getJwtFilterFailure().increment();
+      request.setAttribute(TOKEN_STATUS_ATTRIBUTE, tokenVerification.getStatus());
     }
     filterChain.doFilter(request, response);
   }
 
-  private void setSecurityContextHolder(String email, List<SimpleGrantedAuthority> authorities) {
+  private void setSecurityContextHolder(VerifiedToken verifiedToken) {
     SecurityContextHolder.getContext().setAuthentication(
-        new UsernamePasswordAuthenticationToken(email, null, authorities)
+        new UsernamePasswordAuthenticationToken(verifiedToken.getEmail(), null, verifiedToken.getAuthorities())
     );
   }
 }
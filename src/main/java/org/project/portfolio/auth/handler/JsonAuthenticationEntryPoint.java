@@ -0,0 +1,26 @@
+package org.project.portfolio.auth.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.response.PrecomputedResponseBody;
+import org.project.portfolio.global.response.ResponseBodyRegistry;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+
+public class JsonAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+  private final PrecomputedResponseBody unauthorizedBody;
+
+  public JsonAuthenticationEntryPoint(ResponseBodyRegistry responseBodyRegistry) {
+    this.unauthorizedBody = responseBodyRegistry.find(Message.UNAUTHORIZED);
+  }
+
+  @Override
+  public void commence(HttpServletRequest request, HttpServletResponse response,
+      AuthenticationException authException) throws IOException {
+    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+    unauthorizedBody.writeTo(response);
+  }
+}
@@ -1,22 +1,36 @@
 package org.project.portfolio.auth.handler;
 
-
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.auth.codec.LoginJsonCodec;
 import org.project.portfolio.auth.dto.LoginResponseDto;
+import org.project.portfolio.auth.metrics.AuthMetrics;
+import org.project.portfolio.auth.metrics.AuthMetrics.LoginFailure;
 import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.ServiceUnavailableException;
+import org.project.portfolio.global.exception.TooManyRequestsException;
 import org.project.portfolio.global.exception.UnsupportedMediaTypeException;
+import org.project.portfolio.global.response.PrecomputedResponseBody;
+import org.project.portfolio.global.response.ResponseBodyRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 
+@RequiredArgsConstructor
 public class JsonLoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
 
   private static final String RESPONSE_CONTENT_TYPE = "application/json;charset=utf-8";
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  private final LoginJsonCodec loginJsonCodec;
+  private final ResponseBodyRegistry responseBodyRegistry;
+  private final AuthMetrics authMetrics;
 
   @Override
   public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
@@ -25,27 +39,48 @@ public class JsonLoginFailureHandler extends SimpleUrlAuthenticationFailureHandl
     response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
     String message = "Invalid Login Error";
     String detail = exception.getLocalizedMessage();
+    LoginFailure loginFailure = LoginFailure.OTHER;
 
     if (exception instanceof InsufficientAuthenticationException) {
       response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
       message = Message.BAD_REQUEST;
+      loginFailure = LoginFailure.BAD_REQUEST;
     } else if (exception instanceof BadCredentialsException) {
       response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
       message = Message.UNAUTHORIZED;
       detail = Message.NOT_MATCH_WITH_LOGIN_DTO;
+      loginFailure = LoginFailure.BAD_CREDENTIALS;
     } else if (exception instanceof AuthenticationServiceException) {
       response.setStatus(HttpServletResponse.SC_FORBIDDEN);
       message = Message.FORBIDDEN;
+      loginFailure = LoginFailure.FORBIDDEN;
     } else if (exception instanceof UnsupportedMediaTypeException) {
       response.setStatus(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE);
       message = Message.UNSUPPORTED_MEDIA_TYPE;
+      loginFailure = LoginFailure.UNSUPPORTED_MEDIA_TYPE;
+    } else if (exception instanceof ServiceUnavailableException) {
+      response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+      response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+      message = Message.SERVICE_UNAVAILABLE;
+      loginFailure = LoginFailure.SERVICE_UNAVAILABLE;
+    } else if (exception instanceof TooManyRequestsException tooManyRequestsException) {
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(tooManyRequestsException.getRetryAfterSeconds()));
+      message = Message.TOO_MANY_REQUESTS;
+      loginFailure = LoginFailure.TOO_MANY_REQUESTS;
     }
+    authMetrics.loginFailed(loginFailure);
 
+    PrecomputedResponseBody precomputedResponse = responseBodyRegistry.find(message, detail);
+    if (precomputedResponse != null) {
+      precomputedResponse.writeTo(response);
+      return;
+    }
     LoginResponseDto responseBody = LoginResponseDto.builder()
         .message(message)
         .detail(detail)
         .build();
 
-    new ObjectMapper().writeValue(response.getWriter(), responseBody);
+    loginJsonCodec.writeLoginResponse(response.getOutputStream(), responseBody);
   }
 }
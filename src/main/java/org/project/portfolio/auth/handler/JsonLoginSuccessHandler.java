@@ -1,11 +1,12 @@
 package org.project.portfolio.auth.handler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
+import org.project.portfolio.auth.codec.LoginJsonCodec;
 import org.project.portfolio.auth.dto.LoginResponseDto;
+import org.project.portfolio.auth.metrics.AuthMetrics;
 import org.project.portfolio.auth.service.JwtService;
 import org.project.portfolio.global.constants.Message;
 import org.springframework.security.core.Authentication;
@@ -17,6 +18,8 @@ public class JsonLoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandl
   private static final String RESPONSE_CONTENT_TYPE = "application/json;charset=utf-8";
 
   private final JwtService jwtService;
+  private final LoginJsonCodec loginJsonCodec;
+  private final AuthMetrics authMetrics;
 
   @Override
   public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -24,11 +27,16 @@ public class JsonLoginSuccessHandler extends SimpleUrlAuthenticationSuccessHandl
     response.setStatus(HttpServletResponse.SC_OK);
     response.setContentType(RESPONSE_CONTENT_TYPE);
 
+    long startNanos = System.nanoTime();
+    String accessToken = jwtService.createAccessToken(authentication);
+    AuthMetrics.record(authMetrics.getJwtCreate(), startNanos);
+
     LoginResponseDto responseBody = LoginResponseDto.builder()
         .message(Message.OK)
-        .accessToken(jwtService.createAccessToken(authentication))
+        .accessToken(accessToken)
         .build();
+    authMetrics.getLoginSuccess().increment();
 
-    new ObjectMapper().writeValue(response.getWriter(), responseBody);
+    loginJsonCodec.writeLoginResponse(response.getOutputStream(), responseBody);
   }
 }
@@ -0,0 +1,142 @@
+package org.project.portfolio.auth.key;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import lombok.Getter;
+
+public class JwtKeyRing {
+
+  private static final String PUBLIC_KEY_USE_SIGNATURE = "sig";
+  private static final String PEM_BOUNDARY = "-----[A-Z ]+-----";
+  private static final String WHITESPACE = "\\s";
+
+  @Getter
+  private final JwtSigningAlgorithm algorithm;
+  @Getter
+  private final String activeKeyId;
+  private final Key signingKey;
+  private final SecretKey secretKey;
+  private final Map<String, PublicKey> verificationKeys;
+
+  private JwtKeyRing(JwtSigningAlgorithm algorithm, String activeKeyId, Key signingKey, SecretKey secretKey,
+      Map<String, PublicKey> verificationKeys) {
+    this.algorithm = algorithm;
+    this.activeKeyId = activeKeyId;
+    this.signingKey = signingKey;
+    this.secretKey = secretKey;
+    this.verificationKeys = verificationKeys;
+  }
+
+  public static JwtKeyRing hmac(String base64SecretKey) {
+    SecretKey secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64SecretKey));
+    return new JwtKeyRing(JwtSigningAlgorithm.HS256, null, secretKey, secretKey, Map.of());
+  }
+
+  public static JwtKeyRing asymmetric(JwtSigningAlgorithm algorithm, String activeKeyId, List<SigningKey> signingKeys) {
+    Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+    PrivateKey activePrivateKey = null;
+    for (SigningKey signingKey : signingKeys) {
+      if (signingKey.id() == null || signingKey.publicKey() == null) {
+        throw new IllegalArgumentException("every JWT signing key needs an id and a public key");
+      }
+      if (verificationKeys.put(signingKey.id(), publicKey(algorithm, signingKey.publicKey())) != null) {
+        throw new IllegalArgumentException("duplicate JWT signing key id: " + signingKey.id());
+      }
+      if (signingKey.id().equals(activeKeyId) && signingKey.privateKey() != null) {
+        activePrivateKey = privateKey(algorithm, signingKey.privateKey());
+      }
+    }
+    if (activePrivateKey == null) {
+      throw new IllegalArgumentException("no private key configured for active JWT key id: " + activeKeyId);
+    }
+    return new JwtKeyRing(algorithm, activeKeyId, activePrivateKey, null, Map.copyOf(verificationKeys));
+  }
+
+  public static JwtKeyRing generated(JwtSigningAlgorithm algorithm) {
+    KeyPair keyPair = algorithm.generateKeyPair();
+    String keyId = UUID.randomUUID().toString();
+    return new JwtKeyRing(algorithm, keyId, keyPair.getPrivate(), null, Map.of(keyId, keyPair.getPublic()));
+  }
+
+  public JwtBuilder sign(JwtBuilder jwtBuilder) {
+    if (activeKeyId != null) {
+      jwtBuilder = jwtBuilder.header().keyId(activeKeyId).and();
+    }
+    return jwtBuilder.signWith(signingKey);
+  }
+
+  public JwtParserBuilder verify(JwtParserBuilder jwtParserBuilder) {
+    if (secretKey != null) {
+      return jwtParserBuilder.verifyWith(secretKey);
+    }
+    return jwtParserBuilder.keyLocator(this::locateVerificationKey);
+  }
+
+  public List<Map<String, ?>> publicJwks() {
+    return verificationKeys.entrySet().stream()
+        .<Map<String, ?>>map(entry -> Jwks.builder()
+            .key(entry.getValue())
+            .id(entry.getKey())
+            .publicKeyUse(PUBLIC_KEY_USE_SIGNATURE)
+            .algorithm(algorithm.getJwaName())
+            .build())
+        .toList();
+  }
+
+  private Key locateVerificationKey(Header header) {
+    String keyId = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+    PublicKey publicKey = keyId == null ? null : verificationKeys.get(keyId);
+    if (publicKey == null) {
+      throw new SignatureException("Unknown JWT key id");
+    }
+    return publicKey;
+  }
+
+  private static PublicKey publicKey(JwtSigningAlgorithm algorithm, String encoded) {
+    try {
+      return keyFactory(algorithm).generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalArgumentException("invalid " + algorithm.getJwaName() + " public key", e);
+    }
+  }
+
+  private static PrivateKey privateKey(JwtSigningAlgorithm algorithm, String encoded) {
+    try {
+      return keyFactory(algorithm).generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalArgumentException("invalid " + algorithm.getJwaName() + " private key", e);
+    }
+  }
+
+  private static KeyFactory keyFactory(JwtSigningAlgorithm algorithm) throws GeneralSecurityException {
+    return KeyFactory.getInstance(algorithm.getKeyAlgorithm());
+  }
+
+  private static byte[] decodePem(String encoded) {
+    return Base64.getDecoder().decode(encoded.replaceAll(PEM_BOUNDARY, "").replaceAll(WHITESPACE, ""));
+  }
+
+  public record SigningKey(String id, String privateKey, String publicKey) {
+
+  }
+}
@@ -0,0 +1,40 @@
+package org.project.portfolio.auth.key;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum JwtSigningAlgorithm {
+  HS256("HS256", null),
+  ES256("ES256", "EC"),
+  EDDSA("EdDSA", "Ed25519");
+
+  private static final String P256_CURVE = "secp256r1";
+
+  private final String jwaName;
+  private final String keyAlgorithm;
+
+  public boolean isAsymmetric() {
+    return keyAlgorithm != null;
+  }
+
+  public KeyPair generateKeyPair() {
+    if (!isAsymmetric()) {
+      throw new IllegalStateException(jwaName + " does not use a key pair");
+    }
+    try {
+      KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(keyAlgorithm);
+      if (this == ES256) {
+        keyPairGenerator.initialize(new ECGenParameterSpec(P256_CURVE));
+      }
+      return keyPairGenerator.generateKeyPair();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
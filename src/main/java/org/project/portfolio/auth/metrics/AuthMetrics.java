@@ -0,0 +1,78 @@
+package org.project.portfolio.auth.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+public class AuthMetrics {
+
+  private static final String LOGIN_STEP = "auth.login.step";
+  private static final String JWT_FILTER_STEP = "auth.jwt.filter.step";
+
+  private final Timer loginParse;
+  private final Timer loginValidation;
+  private final Timer loginUserLookup;
+  private final Timer loginPasswordVerification;
+  private final Timer jwtCreate;
+  private final Timer jwtFilterExtract;
+  private final Timer jwtFilterVerify;
+  private final Timer jwtFilterAuthenticate;
+  private final Counter loginSuccess;
+  private final Counter jwtFilterFailure;
+  private final Map<LoginFailure, Counter> loginFailures = new EnumMap<>(LoginFailure.class);
+
+  public AuthMetrics(MeterRegistry meterRegistry) {
+    this.loginParse = step(meterRegistry, LOGIN_STEP, "parse");
+    this.loginValidation = step(meterRegistry, LOGIN_STEP, "validation");
+    this.loginUserLookup = step(meterRegistry, LOGIN_STEP, "user_lookup");
+    this.loginPasswordVerification = step(meterRegistry, LOGIN_STEP, "password_verification");
+    this.jwtCreate = step(meterRegistry, LOGIN_STEP, "jwt_create");
+    this.jwtFilterExtract = step(meterRegistry, JWT_FILTER_STEP, "extract");
+    this.jwtFilterVerify = step(meterRegistry, JWT_FILTER_STEP, "verify");
+    this.jwtFilterAuthenticate = step(meterRegistry, JWT_FILTER_STEP, "authenticate");
+    this.loginSuccess = Counter.builder("auth.login.success").register(meterRegistry);
+    this.jwtFilterFailure = Counter.builder("auth.jwt.filter.failure").register(meterRegistry);
+    for (LoginFailure loginFailure : LoginFailure.values()) {
+      loginFailures.put(loginFailure, Counter.builder("auth.login.failure")
+          .tag("exception", loginFailure.getExceptionType())
+          .tag("status", String.valueOf(loginFailure.getStatus()))
+          .register(meterRegistry));
+    }
+  }
+
+  public static void record(Timer timer, long startNanos) {
+    timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void loginFailed(LoginFailure loginFailure) {
+    loginFailures.get(loginFailure).increment();
+  }
+
+  private static Timer step(MeterRegistry meterRegistry, String name, String step) {
+    return Timer.builder(name)
+        .tag("step", step)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public enum LoginFailure {
+    BAD_REQUEST("InsufficientAuthenticationException", 400),
+    BAD_CREDENTIALS("BadCredentialsException", 401),
+    FORBIDDEN("AuthenticationServiceException", 403),
+    UNSUPPORTED_MEDIA_TYPE("UnsupportedMediaTypeException", 415),
+    TOO_MANY_REQUESTS("TooManyRequestsException", 429),
+    SERVICE_UNAVAILABLE("ServiceUnavailableException", 503),
+    OTHER("AuthenticationException", 500);
+
+    private final String exceptionType;
+    private final int status;
+  }
+}
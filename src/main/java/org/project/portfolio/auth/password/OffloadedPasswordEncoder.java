@@ -0,0 +1,35 @@
+package org.project.portfolio.auth.password;
+
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.auth.metrics.AuthMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@RequiredArgsConstructor
+public class OffloadedPasswordEncoder implements PasswordEncoder {
+
+  private final PasswordEncoder delegate;
+  private final PasswordVerificationExecutor passwordVerificationExecutor;
+  private final AuthMetrics authMetrics;
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return delegate.encode(rawPassword);
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return passwordVerificationExecutor.execute(() -> {
+      long startNanos = System.nanoTime();
+      try {
+        return delegate.matches(rawPassword, encodedPassword);
+      } finally {
+        AuthMetrics.record(authMetrics.getLoginPasswordVerification(), startNanos);
+      }
+    });
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+}
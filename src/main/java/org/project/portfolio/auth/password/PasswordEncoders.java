@@ -0,0 +1,83 @@
+package org.project.portfolio.auth.password;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public final class PasswordEncoders {
+
+  public static final String BCRYPT = "bcrypt";
+  public static final String ARGON2 = "argon2";
+
+  private static final int ARGON2_SALT_LENGTH = 16;
+  private static final int ARGON2_HASH_LENGTH = 32;
+  private static final int ARGON2_PARALLELISM = 1;
+
+  private PasswordEncoders() {
+  }
+
+  public static DelegatingPasswordEncoder delegating(String encodingId, int bcryptStrength,
+      int argon2MemoryKib, int argon2Iterations) {
+    Map<String, PasswordEncoder> encoders = new HashMap<>();
+    encoders.put(BCRYPT, bcrypt(bcryptStrength));
+    encoders.put(ARGON2, argon2(argon2MemoryKib, argon2Iterations));
+
+    DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(encodingId, encoders);
+    passwordEncoder.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+    return passwordEncoder;
+  }
+
+  public static PasswordEncoder bcrypt(int strength) {
+    return new TargetStrengthBCryptPasswordEncoder(strength);
+  }
+
+  public static PasswordEncoder argon2(int memoryKib, int iterations) {
+    return new TargetParametersArgon2PasswordEncoder(memoryKib, iterations);
+  }
+
+  private static class TargetStrengthBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final int COST_OFFSET = 4;
+
+    private final int strength;
+
+    TargetStrengthBCryptPasswordEncoder(int strength) {
+      super(strength);
+      this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+      if (encodedPassword == null || encodedPassword.length() < COST_OFFSET + 2) {
+        return false;
+      }
+      try {
+        return Integer.parseInt(encodedPassword.substring(COST_OFFSET, COST_OFFSET + 2)) != strength;
+      } catch (NumberFormatException e) {
+        return false;
+      }
+    }
+  }
+
+  private static class TargetParametersArgon2PasswordEncoder extends Argon2PasswordEncoder {
+
+    private final String targetParameters;
+
+    TargetParametersArgon2PasswordEncoder(int memoryKib, int iterations) {
+      super(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, ARGON2_PARALLELISM, memoryKib, iterations);
+      this.targetParameters = "m=" + memoryKib + ",t=" + iterations + ",p=" + ARGON2_PARALLELISM;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+      if (encodedPassword == null) {
+        return false;
+      }
+      String[] parts = encodedPassword.split("\\$");
+      return parts.length < 4 || !parts[3].equals(targetParameters);
+    }
+  }
+}
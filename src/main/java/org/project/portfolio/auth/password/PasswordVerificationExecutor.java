@@ -0,0 +1,100 @@
+package org.project.portfolio.auth.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.ServiceUnavailableException;
+
+public class PasswordVerificationExecutor {
+
+  private static final String THREAD_NAME_PREFIX = "password-verification-";
+
+  private final ThreadPoolExecutor threadPoolExecutor;
+  private final long timeoutMillis;
+
+  public PasswordVerificationExecutor(int poolSize, int queueCapacity, long timeoutMillis) {
+    this.threadPoolExecutor = new ThreadPoolExecutor(
+        poolSize,
+        poolSize,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        new DaemonThreadFactory(),
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  public <T> T execute(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = threadPoolExecutor.submit(task);
+    } catch (RejectedExecutionException e) {
+      throw new ServiceUnavailableException(Message.LOGIN_SERVICE_BUSY);
+    }
+
+    try {
+      return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new ServiceUnavailableException(Message.LOGIN_SERVICE_BUSY);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ServiceUnavailableException(Message.LOGIN_SERVICE_BUSY);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  // 대량 가입의 해시처럼 기다려도 되는 작업은 큐가 가득 차면 호출한 스레드에서 실행해, 거절 대신 속도를 늦춘다.
+  public <T> Future<T> submitOrRun(Callable<T> task) {
+    try {
+      return threadPoolExecutor.submit(task);
+    } catch (RejectedExecutionException e) {
+      FutureTask<T> futureTask = new FutureTask<>(task);
+      futureTask.run();
+      return futureTask;
+    }
+  }
+
+  public int getPoolSize() {
+    return threadPoolExecutor.getCorePoolSize();
+  }
+
+  public int getQueueSize() {
+    return threadPoolExecutor.getQueue().size();
+  }
+
+  public int getActiveCount() {
+    return threadPoolExecutor.getActiveCount();
+  }
+
+  public void shutdown() {
+    threadPoolExecutor.shutdownNow();
+  }
+
+  private static class DaemonThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package org.project.portfolio.auth.ratelimit;
+
+import java.util.Locale;
+
+public class LoginRateLimiter {
+
+  private final TokenBucketLimiter ipLimiter;
+  private final TokenBucketLimiter emailLimiter;
+
+  public LoginRateLimiter(TokenBucketLimiter ipLimiter, TokenBucketLimiter emailLimiter) {
+    this.ipLimiter = ipLimiter;
+    this.emailLimiter = emailLimiter;
+  }
+
+  public static LoginRateLimiter unlimited() {
+    return new LoginRateLimiter(null, null);
+  }
+
+  public boolean tryAcquire(String ip, String email) {
+    return acquire(ip, email) == 0;
+  }
+
+  // 허용하면 0, 거부하면 다시 시도할 수 있을 때까지 남은 나노초를 반환한다.
+  // email 한도로 거부된 요청은 이미 쓴 IP 토큰을 되돌려, 거부된 요청이 IP 한도를 소모하지 않게 한다.
+  public long acquire(String ip, String email) {
+    boolean limitIp = ipLimiter != null && ip != null;
+    if (limitIp) {
+      long ipWaitNanos = ipLimiter.acquire(ip);
+      if (ipWaitNanos > 0) {
+        return ipWaitNanos;
+      }
+    }
+    if (emailLimiter == null || email == null) {
+      return 0;
+    }
+    long emailWaitNanos = emailLimiter.acquire(email.toLowerCase(Locale.ROOT));
+    if (emailWaitNanos > 0 && limitIp) {
+      ipLimiter.release(ip);
+    }
+    return emailWaitNanos;
+  }
+}
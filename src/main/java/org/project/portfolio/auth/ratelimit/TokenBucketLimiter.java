@@ -0,0 +1,77 @@
+package org.project.portfolio.auth.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class TokenBucketLimiter {
+
+  private final Cache<String, Bucket> buckets;
+  private final LongSupplier nanoClock;
+  private final long emissionIntervalNanos;
+  private final long burstNanos;
+
+  public TokenBucketLimiter(int capacity, Duration refillPeriod, long maximumKeys) {
+    this(capacity, refillPeriod, maximumKeys, System::nanoTime);
+  }
+
+  public TokenBucketLimiter(int capacity, Duration refillPeriod, long maximumKeys, LongSupplier nanoClock) {
+    this.nanoClock = nanoClock;
+    this.emissionIntervalNanos = refillPeriod.toNanos() / capacity;
+    this.burstNanos = emissionIntervalNanos * capacity;
+    this.buckets = Caffeine.newBuilder()
+        .maximumSize(maximumKeys)
+        .expireAfterAccess(Duration.ofNanos(burstNanos))
+        .build();
+  }
+
+  public boolean tryAcquire(String key) {
+    return acquire(key) == 0;
+  }
+
+  // 토큰을 얻으면 0, 얻지 못하면 다음 토큰이 충전될 때까지 남은 나노초를 반환한다.
+  public long acquire(String key) {
+    long now = nanoClock.getAsLong();
+    return buckets.get(key, k -> new Bucket(now)).acquire(now);
+  }
+
+  // 방금 acquire로 얻은 토큰 하나를 되돌린다.
+  public void release(String key) {
+    Bucket bucket = buckets.getIfPresent(key);
+    if (bucket != null) {
+      bucket.release();
+    }
+  }
+
+  public long estimatedSize() {
+    return buckets.estimatedSize();
+  }
+
+  private class Bucket {
+
+    private final AtomicLong theoreticalArrivalNanos;
+
+    Bucket(long now) {
+      this.theoreticalArrivalNanos = new AtomicLong(now);
+    }
+
+    long acquire(long now) {
+      while (true) {
+        long theoreticalArrival = theoreticalArrivalNanos.get();
+        long nextArrival = Math.max(theoreticalArrival - now, 0) + emissionIntervalNanos;
+        if (nextArrival > burstNanos) {
+          return nextArrival - burstNanos;
+        }
+        if (theoreticalArrivalNanos.compareAndSet(theoreticalArrival, now + nextArrival)) {
+          return 0;
+        }
+      }
+    }
+
+    void release() {
+      theoreticalArrivalNanos.addAndGet(-emissionIntervalNanos);
+    }
+  }
+}
@@ -5,22 +5,44 @@ import org.project.portfolio.auth.dto.AuthenticatedUser;
 import org.project.portfolio.global.constants.Message;
 import org.project.portfolio.user.entity.User;
 import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class AuthService implements UserDetailsService {
+public class AuthService implements UserDetailsService, UserDetailsPasswordService {
 
   private final UserRepository userRepository;
+  private final UserCache userCache;
 
   @Override
+  // 캐시는 Provider가 아닌 여기서만 사용한다. Provider에 붙이면 비밀번호가 틀릴 때마다 다시 조회하고 한 번 더 검증한다.
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+    UserDetails cachedUser = userCache.getUserFromCache(username);
+    if (cachedUser != null) {
+      return cachedUser;
+    }
     User user = userRepository.findByEmail(username).orElseThrow(
         () -> new UsernameNotFoundException(Message.NOT_MATCH_WITH_LOGIN_DTO)
     );
+    AuthenticatedUser authenticatedUser = new AuthenticatedUser(user);
+    userCache.putUserInCache(authenticatedUser);
+    return authenticatedUser;
+  }
+
+  @Override
+  @Transactional
+  public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+    User user = userRepository.findByEmail(userDetails.getUsername()).orElseThrow(
+        () -> new UsernameNotFoundException(Message.NOT_MATCH_WITH_LOGIN_DTO)
+    );
+    user.changePassword(newPassword);
+    userCache.removeUserFromCache(user.getEmail());
     return new AuthenticatedUser(user);
   }
 }
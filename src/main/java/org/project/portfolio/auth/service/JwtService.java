@@ -1,52 +1,64 @@
 package org.project.portfolio.auth.service;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.project.portfolio.auth.dto.AuthenticatedUser;
-import org.project.portfolio.user.entity.User;
-import org.project.portfolio.user.repository.UserRepository;
+import org.project.portfolio.auth.dto.TokenStatus;
+import org.project.portfolio.auth.dto.TokenVerification;
+import org.project.portfolio.auth.dto.VerifiedToken;
+import org.project.portfolio.auth.exception.InvalidTokenException;
+import org.project.portfolio.auth.key.JwtKeyRing;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
 
 @Service
 public class JwtService {
   private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
   private static final String CLAIM_EMAIL = "email";
   private static final String CLAIM_AUTHORITIES = "auth";
+  private static final String AUTHORITIES_DELIMITER = ",";
   private static final String BEARER = "Bearer ";
 
-  @Value("${jwt.secretKey}")
-  private String secretKey;
-  @Value("${jwt.access.header}")
-  private String accessHeader;
-  @Value("${jwt.access.expiration}")
-  private Long accessTokenExpiration;
+  private final JwtKeyRing jwtKeyRing;
+  private final JwtParser jwtParser;
+  private final String accessHeader;
+  private final Long accessTokenExpiration;
+
+  public JwtService(String secretKey, String accessHeader, Long accessTokenExpiration) {
+    this(JwtKeyRing.hmac(secretKey), accessHeader, accessTokenExpiration);
+  }
+
+  @Autowired
+  public JwtService(JwtKeyRing jwtKeyRing,
+      @Value("${jwt.access.header}") String accessHeader,
+      @Value("${jwt.access.expiration}") Long accessTokenExpiration) {
+    this.jwtKeyRing = jwtKeyRing;
+    this.jwtParser = jwtKeyRing.verify(Jwts.parser()).build();
+    this.accessHeader = accessHeader;
+    this.accessTokenExpiration = accessTokenExpiration;
+  }
 
   public String createAccessToken(String email, String authorities) {
-    return Jwts.builder()
+    JwtBuilder jwtBuilder = Jwts.builder()
         .subject(ACCESS_TOKEN_SUBJECT)
         .claim(CLAIM_EMAIL, email)
         .claim(CLAIM_AUTHORITIES, authorities)
-        .expiration(new Date(new Date().getTime() + accessTokenExpiration))
-        .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
-        .compact();
+        .expiration(new Date(new Date().getTime() + accessTokenExpiration));
+    return jwtKeyRing.sign(jwtBuilder).compact();
   }
 
   public String createAccessToken(Authentication authentication) {
@@ -55,57 +67,68 @@ public class JwtService {
     String authorities = authenticatedUser.getAuthorities()
         .stream()
         .map(GrantedAuthority::getAuthority)
-        .collect(Collectors.joining(","));
+        .collect(Collectors.joining(AUTHORITIES_DELIMITER));
 
     return this.createAccessToken(email, authorities);
   }
 
   public String extractAccessToken(HttpServletRequest request) {
     String bearerToken = request.getHeader(accessHeader);
-    if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER)) {
-      return bearerToken.replace(BEARER, "");
+    if (bearerToken != null && bearerToken.length() > BEARER.length() && bearerToken.startsWith(BEARER)) {
+      return bearerToken.substring(BEARER.length());
     }
     return null;
   }
 
-  public void validate(String accessToken) {
+  public VerifiedToken verify(String accessToken) {
+    TokenVerification tokenVerification = validate(accessToken);
+    if (!tokenVerification.isValid()) {
+      throw new InvalidTokenException(tokenVerification.getStatus());
+    }
+    return tokenVerification.getVerifiedToken();
+  }
+
+  public TokenVerification validate(String accessToken) {
+    if (accessToken == null || accessToken.isEmpty()) {
+      return TokenVerification.failure(TokenStatus.MISSING);
+    }
     try {
-      Jwts.parser()
-          .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
-          .build()
-          .parseSignedClaims(accessToken);
-    } catch (SignatureException e) {
-      throw new JwtException("Invalid JWT signature");
-    } catch (MalformedJwtException e) {
-      throw new JwtException("Invalid JWT");
+      // exp, nbf 검증은 파서에 맡기고, exp가 없는 토큰만 따로 거른다.
+      Claims claims = jwtParser.parseSignedClaims(accessToken).getPayload();
+      Date expiration = claims.getExpiration();
+      if (expiration == null) {
+        return TokenVerification.failure(TokenStatus.EXPIRED);
+      }
+      String email = claims.get(CLAIM_EMAIL, String.class);
+      String authorities = claims.get(CLAIM_AUTHORITIES, String.class);
+      if (email == null || authorities == null) {
+        return TokenVerification.failure(TokenStatus.MALFORMED);
+      }
+      return TokenVerification.valid(new VerifiedToken(email, toAuthorities(authorities), expiration));
     } catch (ExpiredJwtException e) {
-      throw new JwtException("Expired JWT");
-    } catch (UnsupportedJwtException e) {
-      throw new JwtException("Unsupported JWT");
-    } catch (IllegalArgumentException e) {
-      throw new JwtException("JWT compact of handler are invalid");
-    } catch (NullPointerException e) {
-      throw new JwtException("missed JWT");
+      return TokenVerification.failure(TokenStatus.EXPIRED);
+    } catch (SignatureException e) {
+      return TokenVerification.failure(TokenStatus.BAD_SIGNATURE);
+    } catch (JwtException | IllegalArgumentException e) {
+      return TokenVerification.failure(TokenStatus.MALFORMED);
     }
   }
 
   public String extractEmail(String accessToken) {
-    return Jwts.parser()
-        .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
-        .build()
-        .parseSignedClaims(accessToken)
+    return jwtParser.parseSignedClaims(accessToken)
         .getPayload()
         .get(CLAIM_EMAIL, String.class);
   }
 
   public List<SimpleGrantedAuthority> extractAuthorities(String accessToken) {
-    String authorities = Jwts.parser()
-        .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
-        .build()
-        .parseSignedClaims(accessToken)
+    String authorities = jwtParser.parseSignedClaims(accessToken)
         .getPayload()
         .get(CLAIM_AUTHORITIES, String.class);
-    return Arrays.stream(authorities.split(", "))
+    return toAuthorities(authorities);
+  }
+
+  private List<SimpleGrantedAuthority> toAuthorities(String authorities) {
+    return Arrays.stream(authorities.split(AUTHORITIES_DELIMITER))
         .map(SimpleGrantedAuthority::new)
         .collect(Collectors.toList());
   }
@@ -0,0 +1,68 @@
+package org.project.portfolio.comment.controller;
+
+import jakarta.validation.Valid;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.comment.dto.CommentListResponseDto;
+import org.project.portfolio.comment.dto.CommentRequestDto;
+import org.project.portfolio.comment.service.CommentListService;
+import org.project.portfolio.comment.service.CommentService;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.response.PrecomputedResponseBody;
+import org.project.portfolio.global.response.ResponseBodyRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class CommentController {
+
+  private final CommentService commentService;
+  private final CommentListService commentListService;
+  private final ResponseBodyRegistry responseBodyRegistry;
+
+  @GetMapping("/posts/{postId}/comments")
+  public ResponseEntity<CommentListResponseDto> findComments(@PathVariable("postId") Long postId,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size) {
+    return ResponseEntity.ok(commentListService.findComments(postId, cursor, size));
+  }
+
+  @PostMapping("/posts/{postId}/comments")
+  public ResponseEntity<byte[]> create(@AuthenticationPrincipal String email, @PathVariable("postId") Long postId,
+      @Valid @RequestBody CommentRequestDto requestDto) {
+    Long commentId = commentService.create(postId, email, requestDto);
+    PrecomputedResponseBody response = responseBodyRegistry.find(Message.CREATED);
+
+    return response.toResponseEntity(
+        ResponseEntity.created(URI.create("/api/v1/posts/" + postId + "/comments/" + commentId)));
+  }
+
+  @PutMapping("/posts/{postId}/comments/{commentId}")
+  public ResponseEntity<byte[]> update(@AuthenticationPrincipal String email, @PathVariable("postId") Long postId,
+      @PathVariable("commentId") Long commentId, @Valid @RequestBody CommentRequestDto requestDto) {
+    commentService.update(postId, commentId, email, requestDto);
+    PrecomputedResponseBody response = responseBodyRegistry.find(Message.OK);
+
+    return response.toResponseEntity(HttpStatus.OK);
+  }
+
+  @DeleteMapping("/posts/{postId}/comments/{commentId}")
+  public ResponseEntity<Void> delete(@AuthenticationPrincipal String email, @PathVariable("postId") Long postId,
+      @PathVariable("commentId") Long commentId) {
+    commentService.softDelete(postId, commentId, email);
+
+    return ResponseEntity.noContent().build();
+  }
+}
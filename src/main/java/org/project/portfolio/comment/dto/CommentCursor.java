@@ -0,0 +1,44 @@
+package org.project.portfolio.comment.dto;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.InvalidRequestException;
+import org.project.portfolio.post.dto.PostCursor;
+
+public record CommentCursor(LocalDateTime createdAt, long id) {
+
+  private static final int ENCODED_BYTES = Long.BYTES * 2;
+
+  public static CommentCursor of(CommentResponseDto comment) {
+    return new CommentCursor(comment.getCreatedAt(), comment.getId());
+  }
+
+  public static CommentCursor decode(String cursor) {
+    byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequestException(Message.INVALID_COMMENT_CURSOR);
+    }
+    if (bytes.length != ENCODED_BYTES) {
+      throw new InvalidRequestException(Message.INVALID_COMMENT_CURSOR);
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    long epochMicros = buffer.getLong();
+    long id = buffer.getLong();
+
+    return new CommentCursor(PostCursor.fromEpochMicros(epochMicros), id);
+  }
+
+  public String encode() {
+    byte[] bytes = ByteBuffer.allocate(ENCODED_BYTES)
+        .putLong(PostCursor.toEpochMicros(createdAt))
+        .putLong(id)
+        .array();
+
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+}
@@ -0,0 +1,31 @@
+package org.project.portfolio.comment.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.project.portfolio.comment.entity.Comment;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.post.entity.Post;
+import org.project.portfolio.user.entity.User;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentRequestDto {
+
+  @NotBlank(message = Message.INVALID_COMMENT_CONTENT)
+  @Size(max = Comment.MAX_CONTENT_LENGTH, message = Message.INVALID_COMMENT_CONTENT)
+  private String content;
+
+  public Comment toEntity(Post post, User author) {
+    return Comment.builder()
+        .post(post)
+        .author(author)
+        .content(this.content)
+        .build();
+  }
+}
@@ -0,0 +1,21 @@
+package org.project.portfolio.comment.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentResponseDto {
+
+  private Long id;
+  private String content;
+  private String authorId;
+  private String author;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,85 @@
+package org.project.portfolio.comment.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.project.portfolio.post.entity.Post;
+import org.project.portfolio.user.entity.User;
+
+@Entity(name = "comments")
+@Table(name = "comments", indexes = {
+    @Index(name = Comment.INDEX_THREAD, columnList = "post_id, deletedAt, createdAt, id")
+})
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class Comment {
+
+  public static final String INDEX_THREAD = "ix_comments_post_id_deleted_at_created_at_id";
+  public static final int MAX_CONTENT_LENGTH = 500;
+  private static final String ID_SEQUENCE = "comments_seq";
+
+  @Id
+  @Column(name = "id")
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+  @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = 50)
+  private Long id;
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "post_id", nullable = false, foreignKey = @ForeignKey(name = "fk_comments_post"))
+  private Post post;
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "author_id", nullable = false, foreignKey = @ForeignKey(name = "fk_comments_author"))
+  private User author;
+  @Column(nullable = false, length = MAX_CONTENT_LENGTH)
+  private String content;
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+  private LocalDateTime deletedAt;
+
+  public boolean isWrittenBy(String email) {
+    return author.getEmail().equals(email);
+  }
+
+  public void update(String content) {
+    this.content = content;
+  }
+
+  public void softDelete() {
+    this.deletedAt = now();
+  }
+
+  @PrePersist
+  void onCreate() {
+    this.createdAt = now();
+    this.updatedAt = this.createdAt;
+  }
+
+  @PreUpdate
+  void onUpdate() {
+    this.updatedAt = now();
+  }
+
+  private static LocalDateTime now() {
+    return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+  }
+}
@@ -0,0 +1,31 @@
+package org.project.portfolio.comment.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.project.portfolio.comment.dto.CommentResponseDto;
+import org.project.portfolio.comment.entity.Comment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+  // 작성자 요약을 같은 SELECT에서 projection으로 가져와 댓글마다 User를 지연 로딩하지 않는다.
+  String THREAD = "select new org.project.portfolio.comment.dto.CommentResponseDto("
+      + "c.id, c.content, u.userId, u.username, c.createdAt, c.updatedAt)"
+      + " from comments c join c.author u where c.post.id = :postId and c.deletedAt is null";
+
+  @Query(THREAD + " order by c.createdAt asc, c.id asc")
+  List<CommentResponseDto> findThread(@Param("postId") Long postId, Limit limit);
+
+  @Query(THREAD + " and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))"
+      + " order by c.createdAt asc, c.id asc")
+  List<CommentResponseDto> findThreadAfter(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id, Limit limit);
+
+  @Query("select c from comments c join fetch c.author"
+      + " where c.id = :id and c.post.id = :postId and c.deletedAt is null")
+  Optional<Comment> findActiveWithAuthor(@Param("postId") Long postId, @Param("id") Long id);
+}
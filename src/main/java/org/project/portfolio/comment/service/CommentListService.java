@@ -0,0 +1,53 @@
+package org.project.portfolio.comment.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.comment.dto.CommentCursor;
+import org.project.portfolio.comment.dto.CommentListResponseDto;
+import org.project.portfolio.comment.dto.CommentResponseDto;
+import org.project.portfolio.comment.repository.CommentRepository;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.InvalidRequestException;
+import org.project.portfolio.global.exception.ResourceNotFoundException;
+import org.project.portfolio.post.repository.PostRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CommentListService {
+
+  public static final int MAX_PAGE_SIZE = 100;
+
+  private final CommentRepository commentRepository;
+  private final PostRepository postRepository;
+
+  // 게시글 존재 확인 1회와 댓글 페이지 조회 1회로, 댓글 수와 관계없이 쿼리 수가 고정된다.
+  @Transactional(readOnly = true)
+  public CommentListResponseDto findComments(Long postId, String cursor, int size) {
+    int pageSize = clampPageSize(size);
+    CommentCursor commentCursor = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor);
+    if (!postRepository.existsByIdAndDeletedAtIsNull(postId)) {
+      throw new ResourceNotFoundException(Message.NOT_FOUND_POST);
+    }
+
+    Limit limit = Limit.of(pageSize + 1);
+    List<CommentResponseDto> comments = commentCursor == null
+        ? commentRepository.findThread(postId, limit)
+        : commentRepository.findThreadAfter(postId, commentCursor.createdAt(), commentCursor.id(), limit);
+
+    if (comments.size() <= pageSize) {
+      return new CommentListResponseDto(comments, null);
+    }
+    List<CommentResponseDto> page = comments.subList(0, pageSize);
+    return new CommentListResponseDto(page, CommentCursor.of(page.get(pageSize - 1)).encode());
+  }
+
+  private static int clampPageSize(int size) {
+    if (size < 1) {
+      throw new InvalidRequestException(Message.INVALID_COMMENT_PAGE_SIZE);
+    }
+    return Math.min(size, MAX_PAGE_SIZE);
+  }
+}
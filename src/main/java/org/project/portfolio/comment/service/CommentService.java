@@ -0,0 +1,61 @@
+package org.project.portfolio.comment.service;
+
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.comment.dto.CommentRequestDto;
+import org.project.portfolio.comment.entity.Comment;
+import org.project.portfolio.comment.repository.CommentRepository;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.ForbiddenException;
+import org.project.portfolio.global.exception.ResourceNotFoundException;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.user.repository.UserRepository;
+import org.project.portfolio.user.service.UserIdResolver;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+  private final CommentRepository commentRepository;
+  private final PostRepository postRepository;
+  private final UserRepository userRepository;
+  private final UserIdResolver userIdResolver;
+
+  // 게시글과 작성자는 존재만 확인하고 프록시 참조로 연결해, 엔티티 전체를 읽어 오지 않는다.
+  @Transactional
+  public Long create(Long postId, String email, CommentRequestDto commentRequestDto) {
+    Long authorId = userIdResolver.resolve(email);
+    if (authorId == null) {
+      throw new ResourceNotFoundException(Message.NOT_FOUND_USER);
+    }
+    if (!postRepository.existsByIdAndDeletedAtIsNull(postId)) {
+      throw new ResourceNotFoundException(Message.NOT_FOUND_POST);
+    }
+    Comment comment = commentRepository.save(commentRequestDto.toEntity(
+        postRepository.getReferenceById(postId), userRepository.getReferenceById(authorId)));
+
+    return comment.getId();
+  }
+
+  @Transactional
+  public void update(Long postId, Long commentId, String email, CommentRequestDto commentRequestDto) {
+    Comment comment = findWrittenBy(postId, commentId, email);
+    comment.update(commentRequestDto.getContent());
+  }
+
+  @Transactional
+  public void softDelete(Long postId, Long commentId, String email) {
+    Comment comment = findWrittenBy(postId, commentId, email);
+    comment.softDelete();
+  }
+
+  private Comment findWrittenBy(Long postId, Long commentId, String email) {
+    Comment comment = commentRepository.findActiveWithAuthor(postId, commentId)
+        .orElseThrow(() -> new ResourceNotFoundException(Message.NOT_FOUND_COMMENT));
+    if (!comment.isWrittenBy(email)) {
+      throw new ForbiddenException(Message.NOT_COMMENT_AUTHOR);
+    }
+    return comment;
+  }
+}
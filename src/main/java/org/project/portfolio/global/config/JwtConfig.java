@@ -0,0 +1,37 @@
+package org.project.portfolio.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.project.portfolio.auth.key.JwtKeyRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(JwtSigningProperties.class)
+public class JwtConfig {
+
+  @Bean
+  public JwtKeyRing jwtKeyRing(JwtSigningProperties jwtSigningProperties,
+      @Value("${jwt.secretKey:}") String secretKey) {
+    if (!jwtSigningProperties.algorithm().isAsymmetric()) {
+      if (secretKey.isBlank()) {
+        throw new IllegalStateException("jwt.secretKey is required for " + jwtSigningProperties.algorithm());
+      }
+      return JwtKeyRing.hmac(secretKey);
+    }
+    if (jwtSigningProperties.keys().isEmpty()) {
+      // 생성한 키는 재시작하거나 다른 인스턴스로 가면 검증되지 않으므로, 명시적으로 허용한 경우에만 사용한다.
+      if (!jwtSigningProperties.allowGeneratedKeys()) {
+        throw new IllegalStateException("jwt.signing.keys is required for " + jwtSigningProperties.algorithm()
+            + "; set jwt.signing.allow-generated-keys=true only for local development");
+      }
+      log.warn("Signing {} tokens with a generated key pair; tokens will not survive a restart",
+          jwtSigningProperties.algorithm());
+      return JwtKeyRing.generated(jwtSigningProperties.algorithm());
+    }
+    return JwtKeyRing.asymmetric(jwtSigningProperties.algorithm(), jwtSigningProperties.activeKeyId(),
+        jwtSigningProperties.keys());
+  }
+}
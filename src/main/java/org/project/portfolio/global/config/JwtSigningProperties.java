@@ -0,0 +1,17 @@
+package org.project.portfolio.global.config;
+
+import java.util.List;
+import org.project.portfolio.auth.key.JwtKeyRing.SigningKey;
+import org.project.portfolio.auth.key.JwtSigningAlgorithm;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("jwt.signing")
+public record JwtSigningProperties(
+    @DefaultValue("HS256") JwtSigningAlgorithm algorithm,
+    String activeKeyId,
+    @DefaultValue List<SigningKey> keys,
+    @DefaultValue("false") boolean allowGeneratedKeys
+) {
+
+}
@@ -0,0 +1,19 @@
+package org.project.portfolio.global.config;
+
+import java.time.Duration;
+import org.project.portfolio.post.like.LikeBook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PostLikeConfig {
+
+  @Bean
+  public LikeBook likeBook(@Value("${post.like.stripes:8}") int stripes,
+      @Value("${post.like.cache.maximum-weight:1000000}") long maximumWeight,
+      @Value("${post.like.cache.idle-timeout:10m}") Duration idleTimeout,
+      @Value("${post.like.flush-max-attempts:5}") int maxFlushAttempts) {
+    return new LikeBook(stripes, maximumWeight, idleTimeout, maxFlushAttempts);
+  }
+}
@@ -0,0 +1,16 @@
+package org.project.portfolio.global.config;
+
+import org.project.portfolio.post.search.TitleTrigramIndex;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PostSearchProperties.class)
+public class PostSearchConfig {
+
+  @Bean
+  public TitleTrigramIndex titleTrigramIndex() {
+    return new TitleTrigramIndex();
+  }
+}
@@ -0,0 +1,18 @@
+package org.project.portfolio.global.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("post.search")
+public record PostSearchProperties(
+    Path checkpointPath,
+    @DefaultValue("5m") Duration catchUpGrace,
+    @DefaultValue("10000") int rebuildBatchSize
+) {
+
+  public boolean isCheckpointEnabled() {
+    return checkpointPath != null;
+  }
+}
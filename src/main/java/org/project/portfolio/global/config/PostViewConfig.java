@@ -0,0 +1,25 @@
+package org.project.portfolio.global.config;
+
+import java.time.Duration;
+import org.project.portfolio.post.view.ViewCountBuffer;
+import org.project.portfolio.post.view.ViewDeduplicator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PostViewConfig {
+
+  @Bean
+  public ViewCountBuffer viewCountBuffer() {
+    return new ViewCountBuffer();
+  }
+
+  @Bean
+  public ViewDeduplicator viewDeduplicator(
+      @Value("${post.view.dedup.window:24h}") Duration window,
+      @Value("${post.view.dedup.expected-views:1000000}") long expectedViews,
+      @Value("${post.view.dedup.false-positive-rate:0.01}") double falsePositiveRate) {
+    return new ViewDeduplicator(window, expectedViews, falsePositiveRate);
+  }
+}
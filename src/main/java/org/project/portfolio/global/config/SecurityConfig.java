@@ -1,15 +1,34 @@
 package org.project.portfolio.global.config;
 
-import jakarta.validation.Validator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.project.portfolio.auth.cache.VerifiedTokenCache;
+import org.project.portfolio.auth.codec.LoginJsonCodec;
 import org.project.portfolio.auth.filter.JsonLoginFilter;
 import org.project.portfolio.auth.filter.JwtAuthenticationFilter;
+import org.project.portfolio.auth.handler.JsonAuthenticationEntryPoint;
 import org.project.portfolio.auth.handler.JsonLoginFailureHandler;
 import org.project.portfolio.auth.handler.JsonLoginSuccessHandler;
+import org.project.portfolio.auth.metrics.AuthMetrics;
+import org.project.portfolio.auth.password.OffloadedPasswordEncoder;
+import org.project.portfolio.auth.password.PasswordEncoders;
+import org.project.portfolio.auth.password.PasswordVerificationExecutor;
+import org.project.portfolio.auth.ratelimit.LoginRateLimiter;
+import org.project.portfolio.auth.ratelimit.TokenBucketLimiter;
 import org.project.portfolio.auth.service.AuthService;
 import org.project.portfolio.auth.service.JwtService;
+import org.project.portfolio.global.request.RequestBodyLimitFilter;
+import org.project.portfolio.global.request.RequestLimits;
+import org.project.portfolio.global.response.ResponseBodyRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -17,10 +36,11 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
@@ -28,59 +48,149 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-  private final Validator validator;
+  private static final String ACTUATOR_AUTHORITY = "ADMIN";
+
   private final AuthService authService;
   private final JwtService jwtService;
 
   @Bean
-  public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
+  public SecurityFilterChain filterChain(HttpSecurity httpSecurity, VerifiedTokenCache verifiedTokenCache,
+      AbstractAuthenticationProcessingFilter jsonLoginFilter, ResponseBodyRegistry responseBodyRegistry,
+      AuthMetrics authMetrics, @Value("${security.request.max-body-bytes:4096}") int maxBodyBytes,
+      @Value("${signup.bulk.max-body-bytes:16777216}") long maxBulkBodyBytes) throws Exception {
     httpSecurity.csrf(AbstractHttpConfigurer::disable)
         .httpBasic(AbstractHttpConfigurer::disable)
         .formLogin(AbstractHttpConfigurer::disable);
 
     httpSecurity.headers(frame -> frame.frameOptions(FrameOptionsConfig::sameOrigin));
 
-    httpSecurity.addFilterAt(jsonLoginFilter(), UsernamePasswordAuthenticationFilter.class);
-    httpSecurity.addFilterBefore(jwtAuthenticationFilter(), JsonLoginFilter.class);
+    // health만 공개하고, 로그인 실패 수와 지연 시간 분포를 담은 prometheus 등 나머지 actuator는 관리자만 조회한다.
+    httpSecurity.authorizeHttpRequests(authorize -> authorize
+        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+        .requestMatchers("/actuator/**").hasAuthority(ACTUATOR_AUTHORITY)
+        .requestMatchers(HttpMethod.POST, "/api/v1/posts").authenticated()
+        .requestMatchers(HttpMethod.PUT, "/api/v1/posts/*").authenticated()
+        .requestMatchers(HttpMethod.DELETE, "/api/v1/posts/*").authenticated()
+        .requestMatchers("/api/v1/posts/*/likes").authenticated()
+        .requestMatchers(HttpMethod.POST, "/api/v1/posts/*/comments").authenticated()
+        .requestMatchers(HttpMethod.PUT, "/api/v1/posts/*/comments/*").authenticated()
+        .requestMatchers(HttpMethod.DELETE, "/api/v1/posts/*/comments/*").authenticated()
+        .anyRequest().permitAll());
+    httpSecurity.exceptionHandling(exceptionHandling -> exceptionHandling
+        .authenticationEntryPoint(new JsonAuthenticationEntryPoint(responseBodyRegistry)));
+
+    httpSecurity.addFilterAt(jsonLoginFilter, UsernamePasswordAuthenticationFilter.class);
+    httpSecurity.addFilterBefore(jwtAuthenticationFilter(verifiedTokenCache, authMetrics), JsonLoginFilter.class);
+    httpSecurity.addFilterBefore(requestBodyLimitFilter(maxBodyBytes, maxBulkBodyBytes, responseBodyRegistry),
+        JwtAuthenticationFilter.class);
 
     return httpSecurity.build();
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public AuthMetrics authMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+    return new AuthMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+  }
+
+  @Bean
+  public VerifiedTokenCache verifiedTokenCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(maximumSize);
+    meterRegistry.ifAvailable(verifiedTokenCache::monitor);
+    return verifiedTokenCache;
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public PasswordVerificationExecutor passwordVerificationExecutor(
+      @Value("${security.password.verification.pool-size:0}") int poolSize,
+      @Value("${security.password.verification.queue-capacity:64}") int queueCapacity,
+      @Value("${security.password.verification.timeout-millis:2000}") long timeoutMillis) {
+    int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    return new PasswordVerificationExecutor(threads, queueCapacity, timeoutMillis);
+  }
+
+  @Bean
+  public PasswordEncoder passwordEncoder(PasswordVerificationExecutor passwordVerificationExecutor, AuthMetrics authMetrics,
+      @Value("${security.password.encoding-id:bcrypt}") String encodingId,
+      @Value("${security.password.bcrypt-strength:10}") int bcryptStrength,
+      @Value("${security.password.argon2.memory-kib:19456}") int argon2MemoryKib,
+      @Value("${security.password.argon2.iterations:2}") int argon2Iterations) {
+    PasswordEncoder delegate = PasswordEncoders.delegating(encodingId, bcryptStrength, argon2MemoryKib, argon2Iterations);
+    return new OffloadedPasswordEncoder(delegate, passwordVerificationExecutor, authMetrics);
   }
 
   @Bean
-  public AuthenticationManager authenticationManager() {
+  public AuthenticationManager authenticationManager(PasswordEncoder passwordEncoder, AuthMetrics authMetrics) {
     DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
-    authenticationProvider.setUserDetailsService(authService);
-    authenticationProvider.setPasswordEncoder(passwordEncoder());
+    authenticationProvider.setUserDetailsService(username -> {
+      long startNanos = System.nanoTime();
+      try {
+        return authService.loadUserByUsername(username);
+      } finally {
+        AuthMetrics.record(authMetrics.getLoginUserLookup(), startNanos);
+      }
+    });
+    authenticationProvider.setPasswordEncoder(passwordEncoder);
+    authenticationProvider.setUserDetailsPasswordService(authService);
 
     return new ProviderManager(authenticationProvider);
   }
 
   @Bean
-  public JsonLoginSuccessHandler jsonLoginSuccessHandler() {
-    return new JsonLoginSuccessHandler(jwtService);
+  public LoginJsonCodec loginJsonCodec(ObjectMapper objectMapper,
+      @Value("${security.request.max-field-length:256}") int maxFieldLength) {
+    return new LoginJsonCodec(RequestLimits.bounded(objectMapper, maxFieldLength));
   }
 
   @Bean
-  public JsonLoginFailureHandler jsonLoginFailureHandler() {
-    return new JsonLoginFailureHandler();
+  @Lazy
+  public JsonLoginSuccessHandler jsonLoginSuccessHandler(LoginJsonCodec loginJsonCodec, AuthMetrics authMetrics) {
+    return new JsonLoginSuccessHandler(jwtService, loginJsonCodec, authMetrics);
   }
 
   @Bean
-  public AbstractAuthenticationProcessingFilter jsonLoginFilter() {
-    JsonLoginFilter jsonLoginFilter = new JsonLoginFilter(validator);
-    jsonLoginFilter.setAuthenticationManager(authenticationManager());
-    jsonLoginFilter.setAuthenticationSuccessHandler(jsonLoginSuccessHandler());
-    jsonLoginFilter.setAuthenticationFailureHandler(jsonLoginFailureHandler());
+  @Lazy
+  public JsonLoginFailureHandler jsonLoginFailureHandler(LoginJsonCodec loginJsonCodec,
+      ResponseBodyRegistry responseBodyRegistry, AuthMetrics authMetrics) {
+    return new JsonLoginFailureHandler(loginJsonCodec, responseBodyRegistry, authMetrics);
+  }
+
+  @Bean
+  public LoginRateLimiter loginRateLimiter(
+      @Value("${security.login.rate-limit.enabled:true}") boolean enabled,
+      @Value("${security.login.rate-limit.ip.capacity:30}") int ipCapacity,
+      @Value("${security.login.rate-limit.ip.refill-period:1m}") Duration ipRefillPeriod,
+      @Value("${security.login.rate-limit.email.capacity:10}") int emailCapacity,
+      @Value("${security.login.rate-limit.email.refill-period:1m}") Duration emailRefillPeriod,
+      @Value("${security.login.rate-limit.maximum-keys:100000}") long maximumKeys) {
+    if (!enabled) {
+      return LoginRateLimiter.unlimited();
+    }
+    return new LoginRateLimiter(
+        new TokenBucketLimiter(ipCapacity, ipRefillPeriod, maximumKeys),
+        new TokenBucketLimiter(emailCapacity, emailRefillPeriod, maximumKeys)
+    );
+  }
+
+  @Bean
+  public AbstractAuthenticationProcessingFilter jsonLoginFilter(AuthenticationManager authenticationManager,
+      LoginJsonCodec loginJsonCodec, LoginRateLimiter loginRateLimiter, AuthMetrics authMetrics,
+      @Lazy AuthenticationSuccessHandler jsonLoginSuccessHandler,
+      @Lazy AuthenticationFailureHandler jsonLoginFailureHandler) {
+    JsonLoginFilter jsonLoginFilter = new JsonLoginFilter(loginJsonCodec, loginRateLimiter, authMetrics);
+    jsonLoginFilter.setAuthenticationManager(authenticationManager);
+    jsonLoginFilter.setAuthenticationSuccessHandler(jsonLoginSuccessHandler);
+    jsonLoginFilter.setAuthenticationFailureHandler(jsonLoginFailureHandler);
 
     return jsonLoginFilter;
   }
 
-  private JwtAuthenticationFilter jwtAuthenticationFilter() {
-    return new JwtAuthenticationFilter(jwtService);
+  private JwtAuthenticationFilter jwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache, AuthMetrics authMetrics) {
+    return new JwtAuthenticationFilter(jwtService, verifiedTokenCache, authMetrics);
+  }
+
+  private RequestBodyLimitFilter requestBodyLimitFilter(int maxBodyBytes, long maxBulkBodyBytes,
+      ResponseBodyRegistry responseBodyRegistry) {
+    return new RequestBodyLimitFilter(maxBodyBytes, maxBulkBodyBytes, responseBodyRegistry);
   }
 }
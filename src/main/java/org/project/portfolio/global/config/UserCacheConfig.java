@@ -0,0 +1,37 @@
+package org.project.portfolio.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.project.portfolio.auth.cache.AuthenticatedUserCache;
+import org.project.portfolio.user.repository.UserRepository;
+import org.project.portfolio.user.service.UserIdResolver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.cache.NullUserCache;
+
+@Configuration
+public class UserCacheConfig {
+
+  @Bean
+  public UserCache userCache(@Value("${security.user-cache.enabled:true}") boolean enabled,
+      @Value("${security.user-cache.maximum-size:10000}") long maximumSize,
+      @Value("${security.user-cache.time-to-live:60s}") Duration timeToLive,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    if (!enabled) {
+      return new NullUserCache();
+    }
+    AuthenticatedUserCache authenticatedUserCache = new AuthenticatedUserCache(maximumSize, timeToLive);
+    meterRegistry.ifAvailable(authenticatedUserCache::monitor);
+    return authenticatedUserCache;
+  }
+
+  @Bean
+  public UserIdResolver userIdResolver(UserRepository userRepository,
+      @Value("${user.id-cache.maximum-size:100000}") long maximumSize,
+      @Value("${user.id-cache.time-to-live:10m}") Duration timeToLive) {
+    return new UserIdResolver(userRepository, maximumSize, timeToLive);
+  }
+}
@@ -0,0 +1,38 @@
+package org.project.portfolio.global.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Set;
+import org.project.portfolio.global.request.BoundedRequestBodyConverter;
+import org.project.portfolio.global.request.RequestLimits;
+import org.project.portfolio.global.response.ResponseBodyRegistry;
+import org.project.portfolio.user.dto.SignUpRequestDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+  private final ObjectMapper objectMapper;
+  private final int maxFieldLength;
+
+  public WebConfig(ObjectMapper objectMapper, @Value("${security.request.max-field-length:256}") int maxFieldLength) {
+    this.objectMapper = objectMapper;
+    this.maxFieldLength = maxFieldLength;
+  }
+
+  @Bean
+  public ResponseBodyRegistry responseBodyRegistry() throws JsonProcessingException {
+    return new ResponseBodyRegistry(objectMapper);
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    ObjectMapper boundedObjectMapper = RequestLimits.bounded(objectMapper, maxFieldLength);
+    converters.add(0, new BoundedRequestBodyConverter(boundedObjectMapper, Set.of(SignUpRequestDto.class)));
+  }
+}
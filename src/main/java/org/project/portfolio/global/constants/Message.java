@@ -11,6 +11,10 @@ public interface Message {
   String NOT_FOUND = "요청한 리소스를 찾을 수 없습니다.";
   String CONFLICT = "이미 존재하는 리소스입니다.";
   String UNSUPPORTED_MEDIA_TYPE = "지원하지 않는 미디어 타입입니다.";
+  String SERVICE_UNAVAILABLE = "일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+  String TOO_MANY_REQUESTS = "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.";
+  String PAYLOAD_TOO_LARGE = "요청 본문의 크기가 허용 범위를 초과했습니다.";
+  String INVALID_REQUEST_BODY = "요청 본문의 형식이 올바르지 않거나 필드 길이가 허용 범위를 초과했습니다.";
 
   // 회원 가입 API
   String INVALID_USER_ID = "영문 대소문자 4자 이상 8자 이하이어야 합니다.";
@@ -25,5 +29,26 @@ public interface Message {
   String ONLY_SUPPORTED_APPLICATION_JSON = "'application/json' 형식의 데이터만 지원합니다. 확인해주세요.";
   String ALREADY_LOGIN = "이미 로그인되어 있습니다.";
   String NOT_MATCH_WITH_LOGIN_DTO = "이메일 또는 비밀번호가 일치하지 않습니다.";
+  String LOGIN_SERVICE_BUSY = "로그인 요청이 많아 처리할 수 없습니다.";
+  String TOO_MANY_LOGIN_ATTEMPTS = "로그인 시도 횟수가 너무 많습니다.";
+
+  // 게시글 API
+  String INVALID_POST_TITLE = "제목은 1자 이상 200자 이하이어야 합니다.";
+  String INVALID_POST_CONTENT = "내용은 1자 이상 1000자 이하이어야 합니다.";
+  String NOT_FOUND_POST = "게시글을 찾을 수 없습니다.";
+  String NOT_FOUND_USER = "회원 정보를 찾을 수 없습니다.";
+  String NOT_POST_AUTHOR = "게시글 작성자만 수정 및 삭제할 수 있습니다.";
+
+  // 게시글 목록조회 API
+  String INVALID_POST_ORDER = "정렬 방향은 'asc' 또는 'desc'이어야 합니다.";
+  String INVALID_POST_CURSOR = "유효하지 않은 커서입니다. 첫 페이지부터 다시 조회해 주세요.";
+  String INVALID_POST_PAGE_SIZE = "페이지 크기는 1 이상이어야 합니다.";
+
+  // 댓글 API
+  String INVALID_COMMENT_CONTENT = "댓글은 1자 이상 500자 이하이어야 합니다.";
+  String NOT_FOUND_COMMENT = "댓글을 찾을 수 없습니다.";
+  String NOT_COMMENT_AUTHOR = "댓글 작성자만 수정 및 삭제할 수 있습니다.";
+  String INVALID_COMMENT_CURSOR = "유효하지 않은 댓글 커서입니다. 첫 페이지부터 다시 조회해 주세요.";
+  String INVALID_COMMENT_PAGE_SIZE = "댓글 페이지 크기는 1 이상이어야 합니다.";
 
 }
@@ -0,0 +1,8 @@
+package org.project.portfolio.global.exception;
+
+public class ForbiddenException extends RuntimeException {
+
+  public ForbiddenException(String message) {
+    super(message);
+  }
+}
@@ -2,17 +2,24 @@ package org.project.portfolio.global.exception;
 
 import java.util.HashMap;
 import java.util.Map;
+import lombok.RequiredArgsConstructor;
 import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.response.PrecomputedResponseBody;
+import org.project.portfolio.global.response.ResponseBodyRegistry;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+  private final ResponseBodyRegistry responseBodyRegistry;
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<Map> handleMethodArgumentNotValid(MethodArgumentNotValidException e) {
     Map<String, String> details = new HashMap<>();
@@ -26,13 +33,43 @@ public class GlobalExceptionHandler {
     return ResponseEntity.badRequest().body(response);
   }
 
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ResponseEntity<byte[]> handleHttpMessageNotReadable(HttpMessageNotReadableException e) {
+    PrecomputedResponseBody response = responseBodyRegistry.find(Message.BAD_REQUEST, Message.INVALID_REQUEST_BODY);
+
+    return response.toResponseEntity(HttpStatus.BAD_REQUEST);
+  }
+
   @ExceptionHandler(DuplicateResourceException.class)
-  public ResponseEntity<Map> handleDuplicateResource(DuplicateResourceException e) {
+  public ResponseEntity<?> handleDuplicateResource(DuplicateResourceException e) {
+    return detailResponse(HttpStatus.CONFLICT, Message.CONFLICT, e.getMessage());
+  }
+
+  @ExceptionHandler(InvalidRequestException.class)
+  public ResponseEntity<?> handleInvalidRequest(InvalidRequestException e) {
+    return detailResponse(HttpStatus.BAD_REQUEST, Message.BAD_REQUEST, e.getMessage());
+  }
+
+  @ExceptionHandler(ResourceNotFoundException.class)
+  public ResponseEntity<?> handleResourceNotFound(ResourceNotFoundException e) {
+    return detailResponse(HttpStatus.NOT_FOUND, Message.NOT_FOUND, e.getMessage());
+  }
+
+  @ExceptionHandler(ForbiddenException.class)
+  public ResponseEntity<?> handleForbidden(ForbiddenException e) {
+    return detailResponse(HttpStatus.FORBIDDEN, Message.FORBIDDEN, e.getMessage());
+  }
+
+  private ResponseEntity<?> detailResponse(HttpStatus status, String message, String detail) {
+    PrecomputedResponseBody precomputedResponse = responseBodyRegistry.find(message, detail);
+    if (precomputedResponse != null) {
+      return precomputedResponse.toResponseEntity(status);
+    }
 
     Map<String, Object> response = new HashMap<>();
-    response.put("message", Message.CONFLICT);
-    response.put("detail", e.getMessage());
+    response.put("message", message);
+    response.put("detail", detail);
 
-    return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    return ResponseEntity.status(status).body(response);
   }
 }
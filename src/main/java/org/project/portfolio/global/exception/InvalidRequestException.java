@@ -0,0 +1,8 @@
+package org.project.portfolio.global.exception;
+
+public class InvalidRequestException extends RuntimeException {
+
+  public InvalidRequestException(String message) {
+    super(message);
+  }
+}
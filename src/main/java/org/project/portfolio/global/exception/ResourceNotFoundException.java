@@ -0,0 +1,8 @@
+package org.project.portfolio.global.exception;
+
+public class ResourceNotFoundException extends RuntimeException {
+
+  public ResourceNotFoundException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,10 @@
+package org.project.portfolio.global.exception;
+
+import org.springframework.security.core.AuthenticationException;
+
+public class ServiceUnavailableException extends AuthenticationException {
+
+  public ServiceUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,37 @@
+package org.project.portfolio.global.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Type;
+import java.util.Set;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+public class BoundedRequestBodyConverter extends MappingJackson2HttpMessageConverter {
+
+  private final Set<Class<?>> boundedTypes;
+
+  public BoundedRequestBodyConverter(ObjectMapper boundedObjectMapper, Set<Class<?>> boundedTypes) {
+    super(boundedObjectMapper);
+    this.boundedTypes = boundedTypes;
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return boundedTypes.contains(clazz) && super.canRead(clazz, mediaType);
+  }
+
+  @Override
+  public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+    return type instanceof Class<?> clazz && canRead(clazz, mediaType);
+  }
+
+  @Override
+  public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+}
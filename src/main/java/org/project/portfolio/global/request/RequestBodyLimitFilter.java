@@ -0,0 +1,143 @@
+package org.project.portfolio.global.request;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.response.PrecomputedResponseBody;
+import org.project.portfolio.global.response.ResponseBodyRegistry;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class RequestBodyLimitFilter extends OncePerRequestFilter {
+
+  private static final RequestMatcher LIMITED_REQUEST_MATCHER = new OrRequestMatcher(
+      new AntPathRequestMatcher("/api/v1/login", "POST"),
+      new AntPathRequestMatcher("/api/v1/signup", "POST")
+  );
+  // 줄 단위로 스트리밍하는 요청은 메모리에 모으지 않고 선언된 크기만 확인한다. 전송 중의 크기는 서비스가 제한한다.
+  private static final RequestMatcher STREAMED_REQUEST_MATCHER =
+      new AntPathRequestMatcher("/api/v1/signup/bulk", "POST");
+
+  private final int maxBodyBytes;
+  private final long maxStreamedBodyBytes;
+  private final PrecomputedResponseBody payloadTooLargeBody;
+
+  public RequestBodyLimitFilter(int maxBodyBytes, long maxStreamedBodyBytes, ResponseBodyRegistry responseBodyRegistry) {
+    this.maxBodyBytes = maxBodyBytes;
+    this.maxStreamedBodyBytes = maxStreamedBodyBytes;
+    this.payloadTooLargeBody = responseBodyRegistry.find(Message.PAYLOAD_TOO_LARGE);
+  }
+
+  public static byte[] readBounded(InputStream inputStream, int maxBytes) throws IOException {
+    byte[] body = inputStream.readNBytes(maxBytes + 1);
+    return body.length > maxBytes ? null : body;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !LIMITED_REQUEST_MATCHER.matches(request) && !STREAMED_REQUEST_MATCHER.matches(request);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (STREAMED_REQUEST_MATCHER.matches(request)) {
+      if (request.getContentLengthLong() > maxStreamedBodyBytes) {
+        rejectPayloadTooLarge(response);
+        return;
+      }
+      filterChain.doFilter(request, response);
+      return;
+    }
+    if (request.getContentLengthLong() > maxBodyBytes) {
+      rejectPayloadTooLarge(response);
+      return;
+    }
+    byte[] body = readBounded(request.getInputStream(), maxBodyBytes);
+    if (body == null) {
+      rejectPayloadTooLarge(response);
+      return;
+    }
+    filterChain.doFilter(new BoundedBodyRequest(request, body), response);
+  }
+
+  private void rejectPayloadTooLarge(HttpServletResponse response) throws IOException {
+    response.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+    payloadTooLargeBody.writeTo(response);
+  }
+
+  private static class BoundedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    BoundedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public boolean isFinished() {
+          return inputStream.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        // 본문은 이미 메모리에 모두 있으므로, 바로 읽을 수 있다고 알린 뒤 읽기 완료를 알린다.
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          try {
+            readListener.onDataAvailable();
+            readListener.onAllDataRead();
+          } catch (IOException | RuntimeException e) {
+            readListener.onError(e);
+          }
+        }
+
+        @Override
+        public int read() {
+          return inputStream.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+          return inputStream.read(b, off, len);
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int getContentLength() {
+      return body.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+      return body.length;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package org.project.portfolio.global.request;
+
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public final class RequestLimits {
+
+  private static final int MAX_NESTING_DEPTH = 8;
+  private static final int MAX_NUMBER_LENGTH = 32;
+
+  private RequestLimits() {
+  }
+
+  public static StreamReadConstraints streamReadConstraints(int maxFieldLength) {
+    return StreamReadConstraints.builder()
+        .maxStringLength(maxFieldLength)
+        .maxNameLength(maxFieldLength)
+        .maxNestingDepth(MAX_NESTING_DEPTH)
+        .maxNumberLength(MAX_NUMBER_LENGTH)
+        .build();
+  }
+
+  public static ObjectMapper bounded(ObjectMapper objectMapper, int maxFieldLength) {
+    ObjectMapper boundedObjectMapper = objectMapper.copy();
+    boundedObjectMapper.getFactory().setStreamReadConstraints(streamReadConstraints(maxFieldLength));
+    return boundedObjectMapper;
+  }
+}
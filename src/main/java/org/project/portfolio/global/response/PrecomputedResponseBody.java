@@ -0,0 +1,40 @@
+package org.project.portfolio.global.response;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+public class PrecomputedResponseBody {
+
+  private static final String RESPONSE_CONTENT_TYPE = "application/json;charset=utf-8";
+  private static final MediaType RESPONSE_MEDIA_TYPE = MediaType.parseMediaType(RESPONSE_CONTENT_TYPE);
+
+  private final byte[] body;
+
+  PrecomputedResponseBody(byte[] body) {
+    this.body = body;
+  }
+
+  public int length() {
+    return body.length;
+  }
+
+  public ResponseEntity<byte[]> toResponseEntity(HttpStatusCode status) {
+    return toResponseEntity(ResponseEntity.status(status));
+  }
+
+  public ResponseEntity<byte[]> toResponseEntity(ResponseEntity.BodyBuilder responseBuilder) {
+    return responseBuilder
+        .contentType(RESPONSE_MEDIA_TYPE)
+        .contentLength(body.length)
+        .body(body);
+  }
+
+  public void writeTo(HttpServletResponse response) throws IOException {
+    response.setContentType(RESPONSE_CONTENT_TYPE);
+    response.setContentLength(body.length);
+    response.getOutputStream().write(body);
+  }
+}
@@ -0,0 +1,63 @@
+package org.project.portfolio.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.project.portfolio.global.constants.Message;
+
+public class ResponseBodyRegistry {
+
+  private final ObjectMapper objectMapper;
+  private final Map<ResponseBodyKey, PrecomputedResponseBody> responseBodies = new HashMap<>();
+
+  public ResponseBodyRegistry(ObjectMapper objectMapper) throws JsonProcessingException {
+    this.objectMapper = objectMapper;
+
+    register(Message.OK, null);
+    register(Message.CREATED, null);
+    register(Message.UNAUTHORIZED, null);
+    register(Message.PAYLOAD_TOO_LARGE, null);
+    register(Message.BAD_REQUEST, Message.INVALID_REQUEST_BODY);
+    register(Message.CONFLICT, Message.DUPLICATE_EMAIL);
+    register(Message.CONFLICT, Message.DUPLICATE_USER_ID);
+    register(Message.UNAUTHORIZED, Message.NOT_MATCH_WITH_LOGIN_DTO);
+    register(Message.FORBIDDEN, Message.ALREADY_LOGIN);
+    register(Message.UNSUPPORTED_MEDIA_TYPE, Message.ONLY_SUPPORTED_APPLICATION_JSON);
+    register(Message.SERVICE_UNAVAILABLE, Message.LOGIN_SERVICE_BUSY);
+    register(Message.TOO_MANY_REQUESTS, Message.TOO_MANY_LOGIN_ATTEMPTS);
+    register(Message.BAD_REQUEST, Message.INVALID_POST_ORDER);
+    register(Message.BAD_REQUEST, Message.INVALID_POST_CURSOR);
+    register(Message.BAD_REQUEST, Message.INVALID_POST_PAGE_SIZE);
+    register(Message.NOT_FOUND, Message.NOT_FOUND_POST);
+    register(Message.NOT_FOUND, Message.NOT_FOUND_USER);
+    register(Message.FORBIDDEN, Message.NOT_POST_AUTHOR);
+    register(Message.NOT_FOUND, Message.NOT_FOUND_COMMENT);
+    register(Message.FORBIDDEN, Message.NOT_COMMENT_AUTHOR);
+    register(Message.BAD_REQUEST, Message.INVALID_COMMENT_CURSOR);
+    register(Message.BAD_REQUEST, Message.INVALID_COMMENT_PAGE_SIZE);
+  }
+
+  public PrecomputedResponseBody find(String message) {
+    return find(message, null);
+  }
+
+  public PrecomputedResponseBody find(String message, String detail) {
+    return responseBodies.get(new ResponseBodyKey(message, detail));
+  }
+
+  private void register(String message, String detail) throws JsonProcessingException {
+    Map<String, String> responseBody = new LinkedHashMap<>();
+    responseBody.put("message", message);
+    if (detail != null) {
+      responseBody.put("detail", detail);
+    }
+    responseBodies.put(new ResponseBodyKey(message, detail),
+        new PrecomputedResponseBody(objectMapper.writeValueAsBytes(responseBody)));
+  }
+
+  private record ResponseBodyKey(String message, String detail) {
+
+  }
+}
@@ -0,0 +1,133 @@
+package org.project.portfolio.global.validation;
+
+public final class FieldFormats {
+
+  private static final int USER_ID_MIN_LENGTH = 4;
+  private static final int USER_ID_MAX_LENGTH = 8;
+  private static final int USERNAME_MIN_LENGTH = 2;
+  private static final int USERNAME_MAX_LENGTH = 5;
+  private static final int PASSWORD_MIN_LETTERS = 5;
+  private static final int PASSWORD_MIN_DIGITS = 5;
+  private static final int PASSWORD_MIN_SPECIALS = 2;
+  private static final int EMAIL_MIN_TLD_LENGTH = 2;
+  private static final String PASSWORD_SPECIALS = "!@#$%^&*(),.?\":{}|<>";
+
+  private FieldFormats() {
+  }
+
+  public static boolean isUserId(String value) {
+    int length = value.length();
+    if (length < USER_ID_MIN_LENGTH || length > USER_ID_MAX_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (!isAsciiLetter(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public static boolean isUsername(String value) {
+    int length = value.length();
+    if (length < USERNAME_MIN_LENGTH || length > USERNAME_MAX_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c < '가' || c > '힣') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public static boolean isPassword(String value) {
+    int letters = 0;
+    int digits = 0;
+    int specials = 0;
+    for (int i = 0, length = value.length(); i < length; i++) {
+      char c = value.charAt(i);
+      if (isAsciiLetter(c)) {
+        letters++;
+      } else if (isAsciiDigit(c)) {
+        digits++;
+      } else if (PASSWORD_SPECIALS.indexOf(c) >= 0) {
+        specials++;
+      } else if (isLineTerminator(c)) {
+        return false;
+      }
+    }
+    return letters >= PASSWORD_MIN_LETTERS && digits >= PASSWORD_MIN_DIGITS && specials >= PASSWORD_MIN_SPECIALS;
+  }
+
+  public static boolean isEmail(String value) {
+    int length = value.length();
+    int at = -1;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (c == '@') {
+        at = i;
+        break;
+      }
+      if (!isAsciiLetter(c) && !isAsciiDigit(c) && c != '.' && c != '_' && c != '%' && c != '+' && c != '-') {
+        return false;
+      }
+    }
+    if (at < 1) {
+      return false;
+    }
+
+    int lastDot = -1;
+    for (int i = at + 1; i < length; i++) {
+      char c = value.charAt(i);
+      if (c == '.') {
+        lastDot = i;
+      } else if (!isAsciiLetter(c) && !isAsciiDigit(c) && c != '-') {
+        return false;
+      }
+    }
+    if (lastDot < at + 2 || length - lastDot - 1 < EMAIL_MIN_TLD_LENGTH) {
+      return false;
+    }
+    for (int i = lastDot + 1; i < length; i++) {
+      if (!isAsciiLetter(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public static boolean isPhone(String value) {
+    int length = value.length();
+    if (length != 12 && length != 13) {
+      return false;
+    }
+    int secondDash = length - 5;
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      boolean valid = switch (i) {
+        case 0 -> c == '0';
+        case 1 -> c == '1';
+        case 3 -> c == '-';
+        default -> i == secondDash ? c == '-' : isAsciiDigit(c);
+      };
+      if (!valid) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isAsciiLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+  private static boolean isAsciiDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+}
@@ -0,0 +1,94 @@
+package org.project.portfolio.post.controller;
+
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.response.PrecomputedResponseBody;
+import org.project.portfolio.global.response.ResponseBodyRegistry;
+import org.project.portfolio.post.dto.PostDetailResponseDto;
+import org.project.portfolio.post.dto.PostLikeResponseDto;
+import org.project.portfolio.post.dto.PostListResponseDto;
+import org.project.portfolio.post.dto.PostRequestDto;
+import org.project.portfolio.post.service.PostDetailService;
+import org.project.portfolio.post.service.PostLikeService;
+import org.project.portfolio.post.service.PostListService;
+import org.project.portfolio.post.service.PostService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class PostController {
+
+  private final PostService postService;
+  private final PostListService postListService;
+  private final PostDetailService postDetailService;
+  private final PostLikeService postLikeService;
+  private final ResponseBodyRegistry responseBodyRegistry;
+
+  @GetMapping("/posts")
+  public ResponseEntity<PostListResponseDto> findPosts(
+      @RequestParam(name = "title", required = false) String title,
+      @RequestParam(name = "order", required = false) String order,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size) {
+    return ResponseEntity.ok(postListService.findPosts(title, order, cursor, size));
+  }
+
+  @GetMapping("/posts/{postId}")
+  public ResponseEntity<PostDetailResponseDto> findPost(@PathVariable("postId") Long postId, Principal principal) {
+    String email = principal == null ? null : principal.getName();
+
+    return ResponseEntity.ok(postDetailService.findPost(postId, email));
+  }
+
+  @PostMapping("/posts")
+  public ResponseEntity<byte[]> create(@AuthenticationPrincipal String email,
+      @Valid @RequestBody PostRequestDto requestDto) {
+    Long postId = postService.create(email, requestDto);
+    PrecomputedResponseBody response = responseBodyRegistry.find(Message.CREATED);
+
+    return response.toResponseEntity(ResponseEntity.created(URI.create("/api/v1/posts/" + postId)));
+  }
+
+  @PutMapping("/posts/{postId}")
+  public ResponseEntity<byte[]> update(@AuthenticationPrincipal String email, @PathVariable("postId") Long postId,
+      @Valid @RequestBody PostRequestDto requestDto) {
+    postService.update(postId, email, requestDto);
+    PrecomputedResponseBody response = responseBodyRegistry.find(Message.OK);
+
+    return response.toResponseEntity(HttpStatus.OK);
+  }
+
+  @DeleteMapping("/posts/{postId}")
+  public ResponseEntity<Void> delete(@AuthenticationPrincipal String email, @PathVariable("postId") Long postId) {
+    postService.softDelete(postId, email);
+
+    return ResponseEntity.noContent().build();
+  }
+
+  @PutMapping("/posts/{postId}/likes")
+  public ResponseEntity<PostLikeResponseDto> like(@AuthenticationPrincipal String email,
+      @PathVariable("postId") Long postId) {
+    return ResponseEntity.ok(postLikeService.like(postId, email));
+  }
+
+  @DeleteMapping("/posts/{postId}/likes")
+  public ResponseEntity<PostLikeResponseDto> unlike(@AuthenticationPrincipal String email,
+      @PathVariable("postId") Long postId) {
+    return ResponseEntity.ok(postLikeService.unlike(postId, email));
+  }
+}
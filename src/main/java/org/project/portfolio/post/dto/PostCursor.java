@@ -0,0 +1,61 @@
+package org.project.portfolio.post.dto;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.InvalidRequestException;
+
+public record PostCursor(LocalDateTime createdAt, long id) {
+
+  private static final int ENCODED_BYTES = Long.BYTES * 2;
+  private static final long MICROS_PER_SECOND = 1_000_000L;
+  private static final int NANOS_PER_MICRO = 1_000;
+
+  public static PostCursor of(PostSummaryDto post) {
+    return new PostCursor(post.getCreatedAt(), post.getId());
+  }
+
+  public static PostCursor decode(String cursor) {
+    byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequestException(Message.INVALID_POST_CURSOR);
+    }
+    if (bytes.length != ENCODED_BYTES) {
+      throw new InvalidRequestException(Message.INVALID_POST_CURSOR);
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    long epochMicros = buffer.getLong();
+    long id = buffer.getLong();
+
+    return new PostCursor(fromEpochMicros(epochMicros), id);
+  }
+
+  public static long toEpochMicros(LocalDateTime dateTime) {
+    return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + dateTime.getNano() / NANOS_PER_MICRO;
+  }
+
+  public static LocalDateTime fromEpochMicros(long epochMicros) {
+    return LocalDateTime.ofEpochSecond(
+        Math.floorDiv(epochMicros, MICROS_PER_SECOND),
+        (int) Math.floorMod(epochMicros, MICROS_PER_SECOND) * NANOS_PER_MICRO,
+        ZoneOffset.UTC);
+  }
+
+  public long createdAtMicros() {
+    return toEpochMicros(createdAt);
+  }
+
+  public String encode() {
+    byte[] bytes = ByteBuffer.allocate(ENCODED_BYTES)
+        .putLong(createdAtMicros())
+        .putLong(id)
+        .array();
+
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+}
@@ -0,0 +1,37 @@
+package org.project.portfolio.post.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.project.portfolio.post.entity.Post;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostDetailResponseDto {
+
+  private Long id;
+  private String title;
+  private String content;
+  private String author;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+  private long viewCount;
+  private long likeCount;
+
+  public static PostDetailResponseDto of(Post post, long pendingViews, long likeCount) {
+    return PostDetailResponseDto.builder()
+        .id(post.getId())
+        .title(post.getTitle())
+        .content(post.getContent())
+        .author(post.getAuthor().getUsername())
+        .createdAt(post.getCreatedAt())
+        .updatedAt(post.getUpdatedAt())
+        .viewCount(post.getViewCount() + pendingViews)
+        .likeCount(likeCount)
+        .build();
+  }
+}
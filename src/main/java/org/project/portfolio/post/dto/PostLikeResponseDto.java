@@ -0,0 +1,16 @@
+package org.project.portfolio.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostLikeResponseDto {
+
+  private boolean liked;
+  private long likeCount;
+}
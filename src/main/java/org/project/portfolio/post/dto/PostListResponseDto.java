@@ -0,0 +1,20 @@
+package org.project.portfolio.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostListResponseDto {
+
+  private List<PostSummaryDto> posts;
+  @JsonInclude(Include.NON_NULL)
+  private String nextCursor;
+}
@@ -0,0 +1,33 @@
+package org.project.portfolio.post.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.post.entity.Post;
+import org.project.portfolio.user.entity.User;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostRequestDto {
+
+  @NotBlank(message = Message.INVALID_POST_TITLE)
+  @Size(max = Post.MAX_TITLE_LENGTH, message = Message.INVALID_POST_TITLE)
+  private String title;
+  @NotBlank(message = Message.INVALID_POST_CONTENT)
+  @Size(max = Post.MAX_CONTENT_LENGTH, message = Message.INVALID_POST_CONTENT)
+  private String content;
+
+  public Post toEntity(User author) {
+    return Post.builder()
+        .author(author)
+        .title(this.title)
+        .content(this.content)
+        .build();
+  }
+}
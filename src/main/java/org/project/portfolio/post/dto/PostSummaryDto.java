@@ -0,0 +1,19 @@
+package org.project.portfolio.post.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSummaryDto {
+
+  private Long id;
+  private String title;
+  private String author;
+  private LocalDateTime createdAt;
+}
@@ -0,0 +1,10 @@
+package org.project.portfolio.post.dto;
+
+import java.time.LocalDateTime;
+
+public record PostTitleRow(Long id, String title, LocalDateTime createdAt, LocalDateTime deletedAt) {
+
+  public boolean isDeleted() {
+    return deletedAt != null;
+  }
+}
@@ -0,0 +1,96 @@
+package org.project.portfolio.post.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.project.portfolio.user.entity.User;
+
+@Entity(name = "posts")
+@Table(name = "posts", indexes = {
+    @Index(name = Post.INDEX_LISTING, columnList = "deletedAt, createdAt, id"),
+    @Index(name = Post.INDEX_UPDATED_AT, columnList = "updatedAt")
+})
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class Post {
+
+  public static final String INDEX_LISTING = "ix_posts_deleted_at_created_at_id";
+  public static final String INDEX_UPDATED_AT = "ix_posts_updated_at";
+  public static final int MAX_TITLE_LENGTH = 200;
+  public static final int MAX_CONTENT_LENGTH = 1000;
+  private static final String ID_SEQUENCE = "posts_seq";
+
+  @Id
+  @Column(name = "id")
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+  @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = 50)
+  private Long id;
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "author_id", nullable = false, foreignKey = @ForeignKey(name = "fk_posts_author"))
+  private User author;
+  @Column(nullable = false, length = MAX_TITLE_LENGTH)
+  private String title;
+  @Column(nullable = false, length = MAX_CONTENT_LENGTH)
+  private String content;
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+  private LocalDateTime deletedAt;
+  // 조회수와 좋아요 수는 배치 저장소가 직접 갱신하므로, 엔티티 UPDATE가 덮어쓰지 않게 제외한다.
+  @Column(nullable = false, updatable = false)
+  private long viewCount;
+  @Column(nullable = false, updatable = false)
+  private long likeCount;
+
+  public boolean isDeleted() {
+    return deletedAt != null;
+  }
+
+  public boolean isWrittenBy(String email) {
+    return author.getEmail().equals(email);
+  }
+
+  public void update(String title, String content) {
+    this.title = title;
+    this.content = content;
+  }
+
+  public void softDelete() {
+    this.deletedAt = now();
+  }
+
+  @PrePersist
+  void onCreate() {
+    this.createdAt = now();
+    this.updatedAt = this.createdAt;
+  }
+
+  @PreUpdate
+  void onUpdate() {
+    this.updatedAt = now();
+  }
+
+  private static LocalDateTime now() {
+    return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+  }
+}
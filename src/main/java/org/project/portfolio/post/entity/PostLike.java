@@ -0,0 +1,44 @@
+package org.project.portfolio.post.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.project.portfolio.user.entity.User;
+
+@Entity(name = "post_likes")
+@Table(name = "post_likes", indexes = {
+    @Index(name = PostLike.INDEX_USER_ID, columnList = "user_id")
+})
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class PostLike {
+
+  public static final String INDEX_USER_ID = "ix_post_likes_user_id";
+
+  @EmbeddedId
+  private PostLikeId id;
+  @MapsId("postId")
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "post_id", foreignKey = @ForeignKey(name = "fk_post_likes_post"))
+  private Post post;
+  @MapsId("userId")
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "user_id", foreignKey = @ForeignKey(name = "fk_post_likes_user"))
+  private User user;
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+}
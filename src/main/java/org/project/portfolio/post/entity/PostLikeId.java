@@ -0,0 +1,22 @@
+package org.project.portfolio.post.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class PostLikeId implements Serializable {
+
+  @Column(name = "post_id")
+  private Long postId;
+  @Column(name = "user_id")
+  private Long userId;
+}
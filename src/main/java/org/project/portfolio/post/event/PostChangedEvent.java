@@ -0,0 +1,11 @@
+package org.project.portfolio.post.event;
+
+import java.time.LocalDateTime;
+import org.project.portfolio.post.entity.Post;
+
+public record PostChangedEvent(Long id, String title, LocalDateTime createdAt, boolean deleted) {
+
+  public static PostChangedEvent of(Post post) {
+    return new PostChangedEvent(post.getId(), post.getTitle(), post.getCreatedAt(), post.isDeleted());
+  }
+}
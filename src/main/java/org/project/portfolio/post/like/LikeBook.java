@@ -0,0 +1,165 @@
+package org.project.portfolio.post.like;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LikeBook {
+
+  private final int stripeCount;
+  private final int maxFlushAttempts;
+  private final Cache<Long, PostLikes> posts;
+  private final ConcurrentLinkedQueue<LikeEvent> events = new ConcurrentLinkedQueue<>();
+  private final Object pendingLock = new Object();
+  private List<LikeEvent> unflushed = List.of();
+  private int failedFlushes;
+
+  // 게시글마다 좋아요한 회원 id를 모두 들고 있으므로, 게시글 수가 아니라 담긴 회원 id 수로 캐시 크기를 제한한다.
+  public LikeBook(int stripeCount, long maximumWeight, Duration idleTimeout, int maxFlushAttempts) {
+    this.stripeCount = stripeCount;
+    this.maxFlushAttempts = maxFlushAttempts;
+    this.posts = Caffeine.newBuilder()
+        .maximumWeight(maximumWeight)
+        .weigher((Long postId, PostLikes postLikes) -> weightOf(postLikes))
+        .expireAfterAccess(idleTimeout)
+        .build();
+  }
+
+  // 캐시에서 밀려난 게시글은 null을 반환하므로, 호출하는 쪽은 DB의 like_count를 사용한다.
+  public PostLikes find(long postId) {
+    return posts.getIfPresent(postId);
+  }
+
+  // loader가 null을 반환하면 게시글이 없는 것으로 보고 아무것도 적재하지 않는다.
+  // DB 조회는 캐시 잠금 밖에서 하고, 동시에 적재된 경우 먼저 들어간 것을 사용한다.
+  public PostLikes load(long postId, LongFunction<List<Long>> loader) {
+    PostLikes postLikes = posts.getIfPresent(postId);
+    if (postLikes != null) {
+      return postLikes;
+    }
+    // 밀려난 뒤 아직 DB에 쓰지 못한 이벤트는 조회 결과 위에 다시 적용한다.
+    // 조회 전에 모아 두므로 그 사이 flush된 이벤트도 놓치지 않고, 이벤트는 최종 상태라 두 번 적용해도 같다.
+    List<LikeEvent> pending = pendingOf(postId);
+    List<Long> userIds = loader.apply(postId);
+    if (userIds == null) {
+      return null;
+    }
+    PostLikes loaded = new PostLikes(postId, stripeCount, userIds);
+    for (LikeEvent event : pending) {
+      loaded.replay(event.userId(), event.liked());
+    }
+    postLikes = posts.asMap().putIfAbsent(postId, loaded);
+    return postLikes == null ? loaded : postLikes;
+  }
+
+  public boolean set(PostLikes postLikes, long userId, boolean liked) {
+    return postLikes.set(userId, liked, events);
+  }
+
+  public void forget(long postId) {
+    posts.invalidate(postId);
+  }
+
+  // 같은 (게시글, 사용자)의 이벤트는 마지막 상태 하나로 합쳐 보낸다.
+  // writer가 예외를 던지면 합친 결과를 보관했다가 다음 flush에서 새 이벤트와 함께 다시 보낸다.
+  // maxFlushAttempts번 연속으로 실패하면 이벤트를 하나씩 기록해, 계속 실패하는 이벤트만 버린다.
+  public synchronized int flush(Consumer<List<LikeEvent>> writer) {
+    List<LikeEvent> batch;
+    synchronized (pendingLock) {
+      Map<LikeKey, LikeEvent> latest = new LinkedHashMap<>();
+      for (LikeEvent event : unflushed) {
+        latest.put(new LikeKey(event.postId(), event.userId()), event);
+      }
+      LikeEvent event;
+      while ((event = events.poll()) != null) {
+        latest.put(new LikeKey(event.postId(), event.userId()), event);
+      }
+      batch = new ArrayList<>(latest.values());
+      unflushed = batch;
+    }
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    reweigh(batch);
+
+    int written;
+    try {
+      writer.accept(batch);
+      written = batch.size();
+    } catch (RuntimeException e) {
+      if (++failedFlushes < maxFlushAttempts) {
+        throw e;
+      }
+      log.warn("Like batch failed {} times in a row, writing {} events one by one", failedFlushes, batch.size(), e);
+      written = flushEach(batch, writer);
+    }
+    failedFlushes = 0;
+    synchronized (pendingLock) {
+      unflushed = List.of();
+    }
+    return written;
+  }
+
+  // 가중치는 캐시에 넣을 때만 계산되므로, 좋아요가 바뀐 게시글은 같은 값으로 바꿔 넣어 다시 잰다.
+  private void reweigh(List<LikeEvent> batch) {
+    Set<Long> postIds = new HashSet<>();
+    for (LikeEvent event : batch) {
+      if (!postIds.add(event.postId())) {
+        continue;
+      }
+      PostLikes postLikes = posts.policy().getIfPresentQuietly(event.postId());
+      if (postLikes != null) {
+        posts.asMap().replace(event.postId(), postLikes, postLikes);
+      }
+    }
+  }
+
+  private static int weightOf(PostLikes postLikes) {
+    return (int) Math.min(Integer.MAX_VALUE, 1 + postLikes.count());
+  }
+
+  private List<LikeEvent> pendingOf(long postId) {
+    List<LikeEvent> pending = new ArrayList<>();
+    synchronized (pendingLock) {
+      for (LikeEvent event : unflushed) {
+        if (event.postId() == postId) {
+          pending.add(event);
+        }
+      }
+      for (LikeEvent event : events) {
+        if (event.postId() == postId) {
+          pending.add(event);
+        }
+      }
+    }
+    return pending;
+  }
+
+  private static int flushEach(List<LikeEvent> batch, Consumer<List<LikeEvent>> writer) {
+    int written = 0;
+    for (LikeEvent event : batch) {
+      try {
+        writer.accept(List.of(event));
+        written++;
+      } catch (RuntimeException e) {
+        log.error("Dropping like event {}", event, e);
+      }
+    }
+    return written;
+  }
+
+  private record LikeKey(long postId, long userId) {
+
+  }
+}
@@ -0,0 +1,5 @@
+package org.project.portfolio.post.like;
+
+public record LikeEvent(long postId, long userId, boolean liked) {
+
+}
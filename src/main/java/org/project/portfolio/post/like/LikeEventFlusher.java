@@ -0,0 +1,63 @@
+package org.project.portfolio.post.like;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.portfolio.post.repository.PostLikeBatchRepository;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeEventFlusher implements SmartLifecycle {
+
+  // 웹 서버(Integer.MAX_VALUE - 1)가 먼저 멈춘 뒤 남은 이벤트를 기록한다.
+  private static final int PHASE = Integer.MAX_VALUE - 2;
+
+  private final LikeBook likeBook;
+  private final PostLikeBatchRepository postLikeBatchRepository;
+  private final Object writeLock = new Object();
+  private volatile boolean running;
+
+  @Override
+  public void start() {
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    flush();
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  @Scheduled(fixedDelayString = "${post.like.flush-interval:1s}")
+  public void flush() {
+    synchronized (writeLock) {
+      likeBook.flush(postLikeBatchRepository::applyAll);
+    }
+  }
+
+  // flush는 변화량만 더하므로, 어긋난 like_count는 가끔 전체를 다시 세어 바로잡는다.
+  // flush와 겹치면 다시 센 값에 기록 중인 변화량이 빠지거나 두 번 더해지므로 같은 잠금 안에서 실행한다.
+  @Scheduled(fixedDelayString = "${post.like.recount-interval:6h}",
+      initialDelayString = "${post.like.recount-interval:6h}")
+  public void recount() {
+    synchronized (writeLock) {
+      int repaired = postLikeBatchRepository.recountAll();
+      if (repaired > 0) {
+        log.warn("Repaired like_count of {} posts", repaired);
+      }
+    }
+  }
+}
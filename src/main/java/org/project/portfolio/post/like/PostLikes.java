@@ -0,0 +1,73 @@
+package org.project.portfolio.post.like;
+
+import java.util.Queue;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class PostLikes {
+
+  private final long postId;
+  private final UserIdSet[] stripes;
+  private final LongAdder count = new LongAdder();
+
+  PostLikes(long postId, int stripeCount, Iterable<Long> userIds) {
+    this.postId = postId;
+    this.stripes = new UserIdSet[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new UserIdSet();
+    }
+    for (Long userId : userIds) {
+      if (stripeOf(userId).add(userId)) {
+        count.increment();
+      }
+    }
+  }
+
+  public long count() {
+    return count.sum();
+  }
+
+  public boolean contains(long userId) {
+    UserIdSet stripe = stripeOf(userId);
+    synchronized (stripe) {
+      return stripe.contains(userId);
+    }
+  }
+
+  // 같은 사용자의 요청은 같은 stripe 잠금 안에서 처리되므로, 중복 클릭은 멤버십이 바뀐 한 번만 이벤트를 남긴다.
+  boolean set(long userId, boolean liked, Queue<LikeEvent> events) {
+    UserIdSet stripe = stripeOf(userId);
+    synchronized (stripe) {
+      if (!change(stripe, userId, liked)) {
+        return false;
+      }
+      events.add(new LikeEvent(postId, userId, liked));
+      return true;
+    }
+  }
+
+  // 이미 기록 대기 중인 이벤트를 다시 적용하므로 새 이벤트는 남기지 않는다.
+  void replay(long userId, boolean liked) {
+    UserIdSet stripe = stripeOf(userId);
+    synchronized (stripe) {
+      change(stripe, userId, liked);
+    }
+  }
+
+  private boolean change(UserIdSet stripe, long userId, boolean liked) {
+    boolean changed = liked ? stripe.add(userId) : stripe.remove(userId);
+    if (!changed) {
+      return false;
+    }
+    if (liked) {
+      count.increment();
+    } else {
+      count.decrement();
+    }
+    return true;
+  }
+
+  private UserIdSet stripeOf(long userId) {
+    int hash = (int) ((userId * 0x9E3779B97F4A7C15L) >>> 32);
+    return stripes[Math.floorMod(hash, stripes.length)];
+  }
+}
@@ -0,0 +1,123 @@
+package org.project.portfolio.post.like;
+
+final class UserIdSet {
+
+  private static final int INITIAL_CAPACITY = 8;
+  private static final long EMPTY = 0L;
+
+  // 사용자 id를 boxing 없이 선형 탐사 배열에 담는다. id 0은 빈 슬롯 표시와 겹치므로 따로 기록한다.
+  private long[] slots;
+  private boolean containsEmptyKey;
+  private int size;
+
+  int size() {
+    return size;
+  }
+
+  boolean contains(long userId) {
+    if (userId == EMPTY) {
+      return containsEmptyKey;
+    }
+    return slots != null && indexOf(userId) >= 0;
+  }
+
+  boolean add(long userId) {
+    if (userId == EMPTY) {
+      if (containsEmptyKey) {
+        return false;
+      }
+      containsEmptyKey = true;
+      size++;
+      return true;
+    }
+    if (slots == null) {
+      slots = new long[INITIAL_CAPACITY];
+    } else if ((size + 1) * 4L > slots.length * 3L) {
+      resize(slots.length * 2);
+    }
+    if (insert(slots, userId)) {
+      size++;
+      return true;
+    }
+    return false;
+  }
+
+  boolean remove(long userId) {
+    if (userId == EMPTY) {
+      if (!containsEmptyKey) {
+        return false;
+      }
+      containsEmptyKey = false;
+      size--;
+      return true;
+    }
+    if (slots == null) {
+      return false;
+    }
+    int gap = indexOf(userId);
+    if (gap < 0) {
+      return false;
+    }
+    // 삭제 후 빈 칸 뒤의 항목을 당겨 와 탐사 체인이 끊기지 않게 한다.
+    int mask = slots.length - 1;
+    int next = gap;
+    while (true) {
+      next = (next + 1) & mask;
+      long candidate = slots[next];
+      if (candidate == EMPTY) {
+        break;
+      }
+      int home = home(candidate, mask);
+      boolean reachableWithoutGap = gap <= next
+          ? gap < home && home <= next
+          : gap < home || home <= next;
+      if (!reachableWithoutGap) {
+        slots[gap] = candidate;
+        gap = next;
+      }
+    }
+    slots[gap] = EMPTY;
+    size--;
+    return true;
+  }
+
+  private int indexOf(long userId) {
+    int mask = slots.length - 1;
+    int index = home(userId, mask);
+    while (slots[index] != EMPTY) {
+      if (slots[index] == userId) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+    return -1;
+  }
+
+  private void resize(int capacity) {
+    long[] resized = new long[capacity];
+    for (long userId : slots) {
+      if (userId != EMPTY) {
+        insert(resized, userId);
+      }
+    }
+    slots = resized;
+  }
+
+  private static boolean insert(long[] table, long userId) {
+    int mask = table.length - 1;
+    int index = home(userId, mask);
+    while (table[index] != EMPTY) {
+      if (table[index] == userId) {
+        return false;
+      }
+      index = (index + 1) & mask;
+    }
+    table[index] = userId;
+    return true;
+  }
+
+  private static int home(long userId, int mask) {
+    long hash = userId * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+}
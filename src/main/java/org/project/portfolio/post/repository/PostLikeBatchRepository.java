@@ -0,0 +1,89 @@
+package org.project.portfolio.post.repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.post.like.LikeEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class PostLikeBatchRepository {
+
+  private static final int RECOUNT_RANGE_SIZE = 1000;
+  private static final String DELETE_LIKE = "delete from post_likes where post_id = ? and user_id = ?";
+  private static final String INSERT_LIKE = "insert into post_likes (post_id, user_id, created_at) values (?, ?, ?)";
+  private static final String ADD_LIKE_COUNT = "update posts set like_count = like_count + ? where id = ?";
+  private static final String RECOUNT_LIKE_COUNT =
+      "update posts set like_count = (select count(*) from post_likes where post_id = ?) where id = ?";
+  private static final String SELECT_MAX_POST_ID = "select coalesce(max(id), 0) from posts";
+  private static final String RECOUNT_LIKE_COUNTS_BETWEEN =
+      "update posts p set like_count = (select count(*) from post_likes l where l.post_id = p.id) "
+          + "where p.id between ? and ? "
+          + "and p.like_count <> (select count(*) from post_likes l where l.post_id = p.id)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 좋아요는 삭제 후 삽입, 취소는 삭제로 기록해 같은 배치를 다시 적용해도 결과가 같다.
+  // like_count에는 삭제/삽입된 행 수로 구한 실제 변화량만 더해, 게시글마다 count(*)를 다시 세지 않는다.
+  @Transactional
+  public void applyAll(List<LikeEvent> events) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    List<Object[]> deletes = new ArrayList<>(events.size());
+    List<Object[]> inserts = new ArrayList<>(events.size());
+    for (LikeEvent event : events) {
+      deletes.add(new Object[]{event.postId(), event.userId()});
+      if (event.liked()) {
+        inserts.add(new Object[]{event.postId(), event.userId(), now});
+      }
+    }
+    int[] deleted = jdbcTemplate.batchUpdate(DELETE_LIKE, deletes);
+    jdbcTemplate.batchUpdate(INSERT_LIKE, inserts);
+
+    // 드라이버가 삭제된 행 수를 알려 주지 않은 게시글(SUCCESS_NO_INFO)은 그 게시글만 다시 센다.
+    Map<Long, Long> deltas = new TreeMap<>();
+    TreeSet<Long> unknown = new TreeSet<>();
+    for (int i = 0; i < events.size(); i++) {
+      LikeEvent event = events.get(i);
+      if (deleted[i] == Statement.SUCCESS_NO_INFO) {
+        unknown.add(event.postId());
+        continue;
+      }
+      long delta = (event.liked() ? 1 : 0) - deleted[i];
+      deltas.merge(event.postId(), delta, Long::sum);
+    }
+
+    List<Object[]> additions = new ArrayList<>(deltas.size());
+    deltas.forEach((postId, delta) -> {
+      if (delta != 0 && !unknown.contains(postId)) {
+        additions.add(new Object[]{delta, postId});
+      }
+    });
+    jdbcTemplate.batchUpdate(ADD_LIKE_COUNT, additions);
+
+    List<Object[]> recounts = new ArrayList<>(unknown.size());
+    for (Long postId : unknown) {
+      recounts.add(new Object[]{postId, postId});
+    }
+    jdbcTemplate.batchUpdate(RECOUNT_LIKE_COUNT, recounts);
+  }
+
+  // like_count가 실제 좋아요 행 수와 어긋난 게시글을 id 구간별로 바로잡고, 고친 게시글 수를 반환한다.
+  public int recountAll() {
+    Long maxPostId = jdbcTemplate.queryForObject(SELECT_MAX_POST_ID, Long.class);
+    int repaired = 0;
+    for (long from = 1; maxPostId != null && from <= maxPostId; from += RECOUNT_RANGE_SIZE) {
+      repaired += jdbcTemplate.update(RECOUNT_LIKE_COUNTS_BETWEEN, from, from + RECOUNT_RANGE_SIZE - 1);
+    }
+    return repaired;
+  }
+}
@@ -0,0 +1,14 @@
+package org.project.portfolio.post.repository;
+
+import java.util.List;
+import org.project.portfolio.post.entity.PostLike;
+import org.project.portfolio.post.entity.PostLikeId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId> {
+
+  @Query("select pl.id.userId from post_likes pl where pl.id.postId = :postId")
+  List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,53 @@
+package org.project.portfolio.post.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.project.portfolio.post.dto.PostSummaryDto;
+import org.project.portfolio.post.dto.PostTitleRow;
+import org.project.portfolio.post.entity.Post;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostRepository extends JpaRepository<Post, Long> {
+
+  String SUMMARY = "select new org.project.portfolio.post.dto.PostSummaryDto(p.id, p.title, u.username, p.createdAt)"
+      + " from posts p join p.author u where p.deletedAt is null";
+
+  @Query(SUMMARY + " order by p.createdAt desc, p.id desc")
+  List<PostSummaryDto> findLatest(Limit limit);
+
+  @Query(SUMMARY + " and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))"
+      + " order by p.createdAt desc, p.id desc")
+  List<PostSummaryDto> findLatestBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+      Limit limit);
+
+  @Query(SUMMARY + " order by p.createdAt asc, p.id asc")
+  List<PostSummaryDto> findOldest(Limit limit);
+
+  @Query(SUMMARY + " and (p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :id))"
+      + " order by p.createdAt asc, p.id asc")
+  List<PostSummaryDto> findOldestAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+      Limit limit);
+
+  long countByDeletedAtIsNull();
+
+  boolean existsByIdAndDeletedAtIsNull(Long id);
+
+  @Query(SUMMARY + " and p.id in :ids")
+  List<PostSummaryDto> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+  @Query("select p from posts p join fetch p.author where p.id = :id and p.deletedAt is null")
+  Optional<Post> findActiveWithAuthor(@Param("id") Long id);
+
+  @Query("select new org.project.portfolio.post.dto.PostTitleRow(p.id, p.title, p.createdAt, p.deletedAt)"
+      + " from posts p where p.deletedAt is null and p.id > :id order by p.id")
+  List<PostTitleRow> findActiveTitlesAfter(@Param("id") Long id, Limit limit);
+
+  @Query("select new org.project.portfolio.post.dto.PostTitleRow(p.id, p.title, p.createdAt, p.deletedAt)"
+      + " from posts p where p.updatedAt >= :since and p.id > :id order by p.id")
+  List<PostTitleRow> findTitlesUpdatedSince(@Param("since") LocalDateTime since, @Param("id") Long id, Limit limit);
+}
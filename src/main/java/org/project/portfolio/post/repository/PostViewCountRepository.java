@@ -0,0 +1,25 @@
+package org.project.portfolio.post.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class PostViewCountRepository {
+
+  private static final String ADD_VIEW_COUNT = "update posts set view_count = view_count + ? where id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional
+  public void addViewCounts(Map<Long, Long> deltas) {
+    List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+    deltas.forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+    jdbcTemplate.batchUpdate(ADD_VIEW_COUNT, batchArgs);
+  }
+}
@@ -0,0 +1,166 @@
+package org.project.portfolio.post.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.portfolio.global.config.PostSearchProperties;
+import org.project.portfolio.post.dto.PostCursor;
+import org.project.portfolio.post.dto.PostTitleRow;
+import org.project.portfolio.post.event.PostChangedEvent;
+import org.project.portfolio.post.repository.PostRepository;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostTitleIndexer implements SmartLifecycle {
+
+  // 웹 서버(Integer.MAX_VALUE - 1)보다 먼저 시작해 색인이 채워진 뒤에 요청을 받는다.
+  private static final int PHASE = Integer.MAX_VALUE - 2;
+
+  private final TitleTrigramIndex titleTrigramIndex;
+  private final PostRepository postRepository;
+  private final PostSearchProperties postSearchProperties;
+  private final AtomicLong pendingChanges = new AtomicLong();
+  private volatile boolean running;
+
+  @Override
+  public void start() {
+    TitleIndexCheckpoint checkpoint = readCheckpoint();
+    if (checkpoint == null || !restore(checkpoint)) {
+      rebuild();
+    }
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    checkpoint();
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  public void rebuild() {
+    titleTrigramIndex.clear();
+    long lastId = 0L;
+    List<PostTitleRow> rows;
+    do {
+      rows = postRepository.findActiveTitlesAfter(lastId, Limit.of(postSearchProperties.rebuildBatchSize()));
+      for (PostTitleRow row : rows) {
+        apply(row.id(), row.title(), row.createdAt(), false);
+        lastId = row.id();
+      }
+    } while (rows.size() == postSearchProperties.rebuildBatchSize());
+    pendingChanges.incrementAndGet();
+  }
+
+  @TransactionalEventListener
+  public void onPostChanged(PostChangedEvent event) {
+    apply(event.id(), event.title(), event.createdAt(), event.deleted());
+    pendingChanges.incrementAndGet();
+  }
+
+  @Scheduled(fixedDelayString = "${post.search.checkpoint-interval:5m}",
+      initialDelayString = "${post.search.checkpoint-interval:5m}")
+  public void checkpoint() {
+    if (!postSearchProperties.isCheckpointEnabled()) {
+      return;
+    }
+    long changes = pendingChanges.get();
+    if (changes == 0) {
+      return;
+    }
+    // 스냅샷 이전 시각을 워터마크로 잡아, 스냅샷 도중 커밋된 변경은 재시작 시 다시 반영되게 한다.
+    long watermarkMicros = PostCursor.toEpochMicros(now());
+    TitleIndexCheckpoint checkpoint = new TitleIndexCheckpoint(watermarkMicros, titleTrigramIndex.snapshot());
+    try {
+      checkpoint.write(postSearchProperties.checkpointPath());
+      pendingChanges.addAndGet(-changes);
+    } catch (IOException e) {
+      log.warn("Failed to write post title index checkpoint to {}", postSearchProperties.checkpointPath(), e);
+    }
+  }
+
+  // 체크포인트는 재시작을 빠르게 할 뿐이므로, 읽을 수 없거나 손상된 파일은 지우고 전체 재색인한다.
+  private TitleIndexCheckpoint readCheckpoint() {
+    if (!postSearchProperties.isCheckpointEnabled()) {
+      return null;
+    }
+    Path path = postSearchProperties.checkpointPath();
+    TitleIndexCheckpoint checkpoint;
+    try {
+      checkpoint = TitleIndexCheckpoint.read(path);
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to read post title index checkpoint {}, rebuilding the index", path, e);
+      discard(path);
+      return null;
+    }
+    if (checkpoint == null && Files.exists(path)) {
+      log.warn("Post title index checkpoint {} is corrupted, rebuilding the index", path);
+      discard(path);
+    }
+    return checkpoint;
+  }
+
+  private static void discard(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Failed to delete post title index checkpoint {}", path, e);
+    }
+  }
+
+  private boolean restore(TitleIndexCheckpoint checkpoint) {
+    titleTrigramIndex.clear();
+    for (TitleIndexEntry entry : checkpoint.entries()) {
+      titleTrigramIndex.upsert(entry.id(), entry.createdAtMicros(), entry.title());
+    }
+
+    // 체크포인트 이후 수정·삭제·생성된 게시글만 DB에서 다시 읽는다. 커밋이 늦은 트랜잭션을 위해 여유 시간을 둔다.
+    LocalDateTime since = PostCursor.fromEpochMicros(checkpoint.watermarkMicros())
+        .minus(postSearchProperties.catchUpGrace());
+    long lastId = 0L;
+    List<PostTitleRow> rows;
+    do {
+      rows = postRepository.findTitlesUpdatedSince(since, lastId, Limit.of(postSearchProperties.rebuildBatchSize()));
+      for (PostTitleRow row : rows) {
+        apply(row.id(), row.title(), row.createdAt(), row.isDeleted());
+        lastId = row.id();
+      }
+    } while (rows.size() == postSearchProperties.rebuildBatchSize());
+
+    // DB가 초기화되었거나 다른 DB의 체크포인트라면 건수가 어긋나므로 전체 재색인한다.
+    return titleTrigramIndex.size() == postRepository.countByDeletedAtIsNull();
+  }
+
+  private void apply(Long id, String title, LocalDateTime createdAt, boolean deleted) {
+    if (deleted) {
+      titleTrigramIndex.remove(id);
+    } else {
+      titleTrigramIndex.upsert(id, PostCursor.toEpochMicros(createdAt), title);
+    }
+  }
+
+  private static LocalDateTime now() {
+    return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+  }
+}
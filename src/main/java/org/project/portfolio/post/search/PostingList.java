@@ -0,0 +1,65 @@
+package org.project.portfolio.post.search;
+
+import java.util.Arrays;
+
+final class PostingList {
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private long[] ids = new long[INITIAL_CAPACITY];
+  private int size;
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  long get(int index) {
+    return ids[index];
+  }
+
+  void add(long id) {
+    // 게시글 id는 시퀀스로 증가하므로 대부분 끝에 추가된다.
+    if (size == 0 || ids[size - 1] < id) {
+      ensureCapacity();
+      ids[size++] = id;
+      return;
+    }
+    int position = Arrays.binarySearch(ids, 0, size, id);
+    if (position >= 0) {
+      return;
+    }
+    int insertion = -position - 1;
+    ensureCapacity();
+    System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+    ids[insertion] = id;
+    size++;
+  }
+
+  void remove(long id) {
+    int position = Arrays.binarySearch(ids, 0, size, id);
+    if (position < 0) {
+      return;
+    }
+    System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+    size--;
+  }
+
+  boolean contains(long id) {
+    return Arrays.binarySearch(ids, 0, size, id) >= 0;
+  }
+
+  int lowerBound(long id, int from) {
+    int position = Arrays.binarySearch(ids, from, size, id);
+    return position >= 0 ? position : -position - 1;
+  }
+
+  private void ensureCapacity() {
+    if (size == ids.length) {
+      ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package org.project.portfolio.post.search;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TitleIndexCheckpoint {
+
+  private static final int MAGIC = 0x50544958;
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = Integer.BYTES * 3 + Long.BYTES;
+  private static final int ENTRY_FIXED_BYTES = Long.BYTES * 2 + Integer.BYTES;
+
+  private final long watermarkMicros;
+  private final List<TitleIndexEntry> entries;
+
+  public TitleIndexCheckpoint(long watermarkMicros, List<TitleIndexEntry> entries) {
+    this.watermarkMicros = watermarkMicros;
+    this.entries = entries;
+  }
+
+  public long watermarkMicros() {
+    return watermarkMicros;
+  }
+
+  public List<TitleIndexEntry> entries() {
+    return entries;
+  }
+
+  public void write(Path path) throws IOException {
+    List<byte[]> titles = new ArrayList<>(entries.size());
+    long totalBytes = HEADER_BYTES;
+    for (TitleIndexEntry entry : entries) {
+      byte[] title = entry.title().getBytes(StandardCharsets.UTF_8);
+      titles.add(title);
+      totalBytes += ENTRY_FIXED_BYTES + title.length;
+    }
+    if (totalBytes > Integer.MAX_VALUE) {
+      throw new IOException("checkpoint exceeds a single mapping: " + totalBytes + " bytes");
+    }
+
+    Path parent = path.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+    try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, totalBytes);
+      buffer.putInt(MAGIC).putInt(VERSION).putLong(watermarkMicros).putInt(entries.size());
+      for (int i = 0; i < entries.size(); i++) {
+        TitleIndexEntry entry = entries.get(i);
+        byte[] title = titles.get(i);
+        buffer.putLong(entry.id()).putLong(entry.createdAtMicros()).putInt(title.length).put(title);
+      }
+      buffer.force();
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(temporary);
+      throw e;
+    }
+    Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  public static TitleIndexCheckpoint read(Path path) throws IOException {
+    if (!Files.isRegularFile(path)) {
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        return null;
+      }
+      long watermarkMicros = buffer.getLong();
+      int count = buffer.getInt();
+      if (count < 0 || count > buffer.remaining() / ENTRY_FIXED_BYTES) {
+        return null;
+      }
+      List<TitleIndexEntry> entries = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        long id = buffer.getLong();
+        long createdAtMicros = buffer.getLong();
+        int titleLength = buffer.getInt();
+        // 손상된 길이로 큰 배열을 만들지 않도록, 남은 바이트보다 긴 제목은 잘린 파일로 본다.
+        if (titleLength < 0 || titleLength > buffer.remaining()) {
+          return null;
+        }
+        byte[] title = new byte[titleLength];
+        buffer.get(title);
+        entries.add(new TitleIndexEntry(id, createdAtMicros, new String(title, StandardCharsets.UTF_8)));
+      }
+      return new TitleIndexCheckpoint(watermarkMicros, entries);
+    } catch (BufferUnderflowException e) {
+      return null;
+    }
+  }
+}
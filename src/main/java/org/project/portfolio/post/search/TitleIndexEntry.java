@@ -0,0 +1,5 @@
+package org.project.portfolio.post.search;
+
+public record TitleIndexEntry(long id, long createdAtMicros, String title) {
+
+}
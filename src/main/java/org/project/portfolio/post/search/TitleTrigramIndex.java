@@ -0,0 +1,215 @@
+package org.project.portfolio.post.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.project.portfolio.post.dto.PostCursor;
+import org.springframework.data.domain.Sort;
+
+public class TitleTrigramIndex {
+
+  public static final int GRAM_LENGTH = 3;
+  private static final Comparator<TitleIndexEntry> OLDEST_FIRST = Comparator
+      .comparingLong(TitleIndexEntry::createdAtMicros)
+      .thenComparingLong(TitleIndexEntry::id);
+  private static final Comparator<TitleIndexEntry> LATEST_FIRST = OLDEST_FIRST.reversed();
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, TitleIndexEntry> entries = new HashMap<>();
+  private final Map<Long, PostingList> postings = new HashMap<>();
+
+  public static String normalize(String title) {
+    return title == null ? "" : title.strip().toLowerCase(Locale.ROOT);
+  }
+
+  public void upsert(long id, long createdAtMicros, String title) {
+    TitleIndexEntry entry = new TitleIndexEntry(id, createdAtMicros, normalize(title));
+    lock.writeLock().lock();
+    try {
+      TitleIndexEntry previous = entries.put(id, entry);
+      if (previous != null) {
+        if (previous.title().equals(entry.title())) {
+          return;
+        }
+        removePostings(previous);
+      }
+      for (long gram : trigrams(entry.title())) {
+        postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      TitleIndexEntry previous = entries.remove(id);
+      if (previous != null) {
+        removePostings(previous);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      entries.clear();
+      postings.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public List<TitleIndexEntry> snapshot() {
+    lock.readLock().lock();
+    try {
+      return new ArrayList<>(entries.values());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public List<Long> search(String term, Sort.Direction direction, PostCursor cursor, int limit) {
+    List<TitleIndexEntry> entries = searchEntries(term, direction, cursor, limit);
+    List<Long> ids = new ArrayList<>(entries.size());
+    for (TitleIndexEntry entry : entries) {
+      ids.add(entry.id());
+    }
+    return ids;
+  }
+
+  public List<TitleIndexEntry> searchEntries(String term, Sort.Direction direction, PostCursor cursor, int limit) {
+    String normalizedTerm = normalize(term);
+    if (normalizedTerm.isEmpty() || limit < 1) {
+      return List.of();
+    }
+    Comparator<TitleIndexEntry> pageOrder = direction.isDescending() ? LATEST_FIRST : OLDEST_FIRST;
+    TitleIndexEntry boundary = cursor == null ? null : new TitleIndexEntry(cursor.id(), cursor.createdAtMicros(), "");
+    // 페이지 순서상 가장 뒤에 있는 항목을 꺼낼 수 있도록 역순 힙으로 상위 limit개만 유지한다.
+    PriorityQueue<TitleIndexEntry> page = new PriorityQueue<>(limit + 1, pageOrder.reversed());
+
+    lock.readLock().lock();
+    try {
+      if (normalizedTerm.length() < GRAM_LENGTH) {
+        for (TitleIndexEntry entry : entries.values()) {
+          collect(entry, normalizedTerm, pageOrder, boundary, page, limit);
+        }
+      } else {
+        PostingList[] lists = postingListsOf(normalizedTerm);
+        if (lists == null) {
+          return List.of();
+        }
+        intersect(lists, normalizedTerm, pageOrder, boundary, page, limit);
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    List<TitleIndexEntry> ordered = new ArrayList<>(page);
+    ordered.sort(pageOrder);
+    return ordered;
+  }
+
+  static long[] trigrams(String normalizedTitle) {
+    int count = normalizedTitle.length() - GRAM_LENGTH + 1;
+    if (count <= 0) {
+      return new long[0];
+    }
+    long[] grams = new long[count];
+    for (int i = 0; i < count; i++) {
+      grams[i] = ((long) normalizedTitle.charAt(i) << 32)
+          | ((long) normalizedTitle.charAt(i + 1) << 16)
+          | normalizedTitle.charAt(i + 2);
+    }
+    Arrays.sort(grams);
+    int distinct = 1;
+    for (int i = 1; i < count; i++) {
+      if (grams[i] != grams[distinct - 1]) {
+        grams[distinct++] = grams[i];
+      }
+    }
+    return Arrays.copyOf(grams, distinct);
+  }
+
+  private PostingList[] postingListsOf(String normalizedTerm) {
+    long[] grams = trigrams(normalizedTerm);
+    PostingList[] lists = new PostingList[grams.length];
+    for (int i = 0; i < grams.length; i++) {
+      lists[i] = postings.get(grams[i]);
+      if (lists[i] == null) {
+        return null;
+      }
+    }
+    Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+    return lists;
+  }
+
+  private void intersect(PostingList[] lists, String normalizedTerm, Comparator<TitleIndexEntry> pageOrder,
+      TitleIndexEntry boundary, PriorityQueue<TitleIndexEntry> page, int limit) {
+    PostingList smallest = lists[0];
+    int[] positions = new int[lists.length];
+    candidates:
+    for (int i = 0; i < smallest.size(); i++) {
+      long id = smallest.get(i);
+      for (int j = 1; j < lists.length; j++) {
+        positions[j] = lists[j].lowerBound(id, positions[j]);
+        if (positions[j] == lists[j].size()) {
+          return;
+        }
+        if (lists[j].get(positions[j]) != id) {
+          continue candidates;
+        }
+      }
+      collect(entries.get(id), normalizedTerm, pageOrder, boundary, page, limit);
+    }
+  }
+
+  private static void collect(TitleIndexEntry entry, String normalizedTerm, Comparator<TitleIndexEntry> pageOrder,
+      TitleIndexEntry boundary, PriorityQueue<TitleIndexEntry> page, int limit) {
+    if (boundary != null && pageOrder.compare(entry, boundary) <= 0) {
+      return;
+    }
+    if (page.size() == limit && pageOrder.compare(entry, page.peek()) >= 0) {
+      return;
+    }
+    // 트라이그램이 모두 포함되어도 연속된 부분 문자열이 아닐 수 있으므로 원문으로 다시 확인한다.
+    if (!entry.title().contains(normalizedTerm)) {
+      return;
+    }
+    page.offer(entry);
+    if (page.size() > limit) {
+      page.poll();
+    }
+  }
+
+  private void removePostings(TitleIndexEntry entry) {
+    for (long gram : trigrams(entry.title())) {
+      PostingList postingList = postings.get(gram);
+      if (postingList == null) {
+        continue;
+      }
+      postingList.remove(entry.id());
+      if (postingList.isEmpty()) {
+        postings.remove(gram);
+      }
+    }
+  }
+}
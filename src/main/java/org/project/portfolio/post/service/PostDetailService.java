@@ -0,0 +1,44 @@
+package org.project.portfolio.post.service;
+
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.ResourceNotFoundException;
+import org.project.portfolio.post.dto.PostDetailResponseDto;
+import org.project.portfolio.post.entity.Post;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.post.view.ViewCountBuffer;
+import org.project.portfolio.post.view.ViewDeduplicator;
+import org.project.portfolio.user.service.UserIdResolver;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class PostDetailService {
+
+  private final PostRepository postRepository;
+  private final ViewCountBuffer viewCountBuffer;
+  private final ViewDeduplicator viewDeduplicator;
+  private final UserIdResolver userIdResolver;
+  private final PostLikeService postLikeService;
+
+  @Transactional(readOnly = true)
+  public PostDetailResponseDto findPost(Long postId, String email) {
+    Post post = postRepository.findActiveWithAuthor(postId)
+        .orElseThrow(() -> new ResourceNotFoundException(Message.NOT_FOUND_POST));
+    countView(postId, email);
+
+    return PostDetailResponseDto.of(post, viewCountBuffer.pending(postId), postLikeService.likeCount(post));
+  }
+
+  private void countView(Long postId, String email) {
+    // 비로그인 조회는 사용자를 구분할 수 없어 중복 제거 없이 센다.
+    if (email != null) {
+      Long userId = userIdResolver.resolve(email);
+      if (userId != null && !viewDeduplicator.markFirstView(userId, postId)) {
+        return;
+      }
+    }
+    viewCountBuffer.increment(postId);
+  }
+}
@@ -0,0 +1,67 @@
+package org.project.portfolio.post.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.ResourceNotFoundException;
+import org.project.portfolio.post.dto.PostLikeResponseDto;
+import org.project.portfolio.post.entity.Post;
+import org.project.portfolio.post.event.PostChangedEvent;
+import org.project.portfolio.post.like.LikeBook;
+import org.project.portfolio.post.like.PostLikes;
+import org.project.portfolio.post.repository.PostLikeRepository;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.user.service.UserIdResolver;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+@RequiredArgsConstructor
+public class PostLikeService {
+
+  private final LikeBook likeBook;
+  private final PostRepository postRepository;
+  private final PostLikeRepository postLikeRepository;
+  private final UserIdResolver userIdResolver;
+
+  public PostLikeResponseDto like(Long postId, String email) {
+    return set(postId, email, true);
+  }
+
+  public PostLikeResponseDto unlike(Long postId, String email) {
+    return set(postId, email, false);
+  }
+
+  public long likeCount(Post post) {
+    PostLikes postLikes = likeBook.find(post.getId());
+    return postLikes == null ? post.getLikeCount() : postLikes.count();
+  }
+
+  @TransactionalEventListener
+  public void onPostChanged(PostChangedEvent event) {
+    if (event.deleted()) {
+      likeBook.forget(event.id());
+    }
+  }
+
+  private PostLikeResponseDto set(Long postId, String email, boolean liked) {
+    Long userId = userIdResolver.resolve(email);
+    if (userId == null) {
+      throw new ResourceNotFoundException(Message.NOT_FOUND_USER);
+    }
+    PostLikes postLikes = likeBook.load(postId, this::findLikers);
+    if (postLikes == null) {
+      throw new ResourceNotFoundException(Message.NOT_FOUND_POST);
+    }
+    likeBook.set(postLikes, userId, liked);
+
+    return new PostLikeResponseDto(liked, postLikes.count());
+  }
+
+  private List<Long> findLikers(long postId) {
+    if (!postRepository.existsByIdAndDeletedAtIsNull(postId)) {
+      return null;
+    }
+    return postLikeRepository.findUserIdsByPostId(postId);
+  }
+}
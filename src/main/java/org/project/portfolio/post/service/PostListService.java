@@ -0,0 +1,109 @@
+package org.project.portfolio.post.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.InvalidRequestException;
+import org.project.portfolio.post.dto.PostCursor;
+import org.project.portfolio.post.dto.PostListResponseDto;
+import org.project.portfolio.post.dto.PostSummaryDto;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.post.search.TitleIndexEntry;
+import org.project.portfolio.post.search.TitleTrigramIndex;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class PostListService {
+
+  public static final int MAX_PAGE_SIZE = 100;
+
+  private final PostRepository postRepository;
+  private final TitleTrigramIndex titleTrigramIndex;
+
+  @Transactional(readOnly = true)
+  public PostListResponseDto findPosts(String title, String order, String cursor, int size) {
+    Sort.Direction direction = parseDirection(order);
+    int pageSize = clampPageSize(size);
+    PostCursor postCursor = cursor == null || cursor.isBlank() ? null : PostCursor.decode(cursor);
+
+    if (title != null && !title.isBlank()) {
+      return findByTitle(title, direction, postCursor, pageSize);
+    }
+
+    // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 한 건을 더 조회한다.
+    List<PostSummaryDto> posts = findByCreatedAt(direction, postCursor, Limit.of(pageSize + 1));
+    if (posts.size() <= pageSize) {
+      return new PostListResponseDto(posts, null);
+    }
+    List<PostSummaryDto> page = posts.subList(0, pageSize);
+    return new PostListResponseDto(page, PostCursor.of(page.get(pageSize - 1)).encode());
+  }
+
+  private List<PostSummaryDto> findByCreatedAt(Sort.Direction direction, PostCursor postCursor, Limit limit) {
+    if (postCursor == null) {
+      return direction.isDescending()
+          ? postRepository.findLatest(limit)
+          : postRepository.findOldest(limit);
+    }
+    return direction.isDescending()
+        ? postRepository.findLatestBefore(postCursor.createdAt(), postCursor.id(), limit)
+        : postRepository.findOldestAfter(postCursor.createdAt(), postCursor.id(), limit);
+  }
+
+  private PostListResponseDto findByTitle(String title, Sort.Direction direction, PostCursor postCursor,
+      int pageSize) {
+    // 다음 페이지 여부와 커서는 색인 결과로 정한다.
+    // DB에서 사라진 행 때문에 페이지가 줄어도 그 뒤의 게시글을 건너뛰지 않는다.
+    List<TitleIndexEntry> entries = titleTrigramIndex.searchEntries(title, direction, postCursor, pageSize + 1);
+    boolean hasNext = entries.size() > pageSize;
+    List<TitleIndexEntry> kept = hasNext ? entries.subList(0, pageSize) : entries;
+    if (kept.isEmpty()) {
+      return new PostListResponseDto(List.of(), null);
+    }
+
+    List<Long> ids = new ArrayList<>(kept.size());
+    for (TitleIndexEntry entry : kept) {
+      ids.add(entry.id());
+    }
+    Map<Long, PostSummaryDto> summaries = new HashMap<>();
+    for (PostSummaryDto summary : postRepository.findSummariesByIds(ids)) {
+      summaries.put(summary.getId(), summary);
+    }
+    // 색인이 정한 (createdAt, id) 순서를 유지하고, 그 사이 삭제된 게시글은 건너뛴다.
+    List<PostSummaryDto> posts = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      PostSummaryDto summary = summaries.get(id);
+      if (summary != null) {
+        posts.add(summary);
+      }
+    }
+    if (!hasNext) {
+      return new PostListResponseDto(posts, null);
+    }
+    TitleIndexEntry last = kept.get(kept.size() - 1);
+    PostCursor nextCursor = new PostCursor(PostCursor.fromEpochMicros(last.createdAtMicros()), last.id());
+    return new PostListResponseDto(posts, nextCursor.encode());
+  }
+
+  private static Sort.Direction parseDirection(String order) {
+    if (order == null || order.isBlank()) {
+      return Sort.Direction.DESC;
+    }
+    return Sort.Direction.fromOptionalString(order)
+        .orElseThrow(() -> new InvalidRequestException(Message.INVALID_POST_ORDER));
+  }
+
+  private static int clampPageSize(int size) {
+    if (size < 1) {
+      throw new InvalidRequestException(Message.INVALID_POST_PAGE_SIZE);
+    }
+    return Math.min(size, MAX_PAGE_SIZE);
+  }
+}
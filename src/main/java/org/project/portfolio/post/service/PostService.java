@@ -0,0 +1,57 @@
+package org.project.portfolio.post.service;
+
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.ForbiddenException;
+import org.project.portfolio.global.exception.ResourceNotFoundException;
+import org.project.portfolio.post.dto.PostRequestDto;
+import org.project.portfolio.post.entity.Post;
+import org.project.portfolio.post.event.PostChangedEvent;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.user.entity.User;
+import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class PostService {
+
+  private final PostRepository postRepository;
+  private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Transactional
+  public Long create(String email, PostRequestDto postRequestDto) {
+    User author = userRepository.findByEmail(email)
+        .orElseThrow(() -> new ResourceNotFoundException(Message.NOT_FOUND_USER));
+    Post post = postRepository.saveAndFlush(postRequestDto.toEntity(author));
+    eventPublisher.publishEvent(PostChangedEvent.of(post));
+
+    return post.getId();
+  }
+
+  @Transactional
+  public void update(Long postId, String email, PostRequestDto postRequestDto) {
+    Post post = findWrittenBy(postId, email);
+    post.update(postRequestDto.getTitle(), postRequestDto.getContent());
+    eventPublisher.publishEvent(PostChangedEvent.of(post));
+  }
+
+  @Transactional
+  public void softDelete(Long postId, String email) {
+    Post post = findWrittenBy(postId, email);
+    post.softDelete();
+    eventPublisher.publishEvent(PostChangedEvent.of(post));
+  }
+
+  private Post findWrittenBy(Long postId, String email) {
+    Post post = postRepository.findActiveWithAuthor(postId)
+        .orElseThrow(() -> new ResourceNotFoundException(Message.NOT_FOUND_POST));
+    if (!post.isWrittenBy(email)) {
+      throw new ForbiddenException(Message.NOT_POST_AUTHOR);
+    }
+    return post;
+  }
+}
@@ -0,0 +1,89 @@
+package org.project.portfolio.post.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+public class ViewCountBuffer {
+
+  private static final int IDLE_FLUSHES_BEFORE_EVICTION = 3;
+
+  private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+  public void increment(long postId) {
+    Counter counter = counters.get(postId);
+    if (counter == null) {
+      counter = counters.computeIfAbsent(postId, id -> new Counter());
+    }
+    counter.views.increment();
+  }
+
+  public long pending(long postId) {
+    Counter counter = counters.get(postId);
+    return counter == null ? 0L : counter.pending();
+  }
+
+  public int size() {
+    return counters.size();
+  }
+
+  // writer가 예외를 던지면 아무것도 반영하지 않은 것으로 보고 다음 flush에서 같은 증분을 다시 보낸다.
+  public synchronized int flush(Consumer<Map<Long, Long>> writer) {
+    Map<Long, Long> deltas = new TreeMap<>();
+    List<Counter> flushing = new ArrayList<>();
+    List<Long> idle = new ArrayList<>();
+    for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+      Counter counter = entry.getValue();
+      long total = counter.views.sum();
+      long delta = total - counter.flushed;
+      if (delta > 0) {
+        deltas.put(entry.getKey(), delta);
+        counter.flushing = total;
+        flushing.add(counter);
+      } else if (++counter.idleFlushes >= IDLE_FLUSHES_BEFORE_EVICTION) {
+        idle.add(entry.getKey());
+      }
+    }
+
+    if (!deltas.isEmpty()) {
+      writer.accept(deltas);
+      for (Counter counter : flushing) {
+        counter.flushed = counter.flushing;
+        counter.idleFlushes = 0;
+      }
+    }
+    for (Long postId : idle) {
+      evict(postId);
+    }
+    return deltas.size();
+  }
+
+  private void evict(Long postId) {
+    Counter counter = counters.get(postId);
+    if (counter == null || !counters.remove(postId, counter)) {
+      return;
+    }
+    // 제거 직전에 들어온 조회는 새 카운터로 옮겨 다음 flush에 포함시킨다.
+    // 제거와 동시에 이전 카운터를 잡은 증가분만 유실될 수 있고, 이는 여러 flush 동안 조회가 없던 게시글에 한정된다.
+    long leftover = counter.pending();
+    if (leftover > 0) {
+      counters.computeIfAbsent(postId, id -> new Counter()).views.add(leftover);
+    }
+  }
+
+  private static final class Counter {
+
+    private final LongAdder views = new LongAdder();
+    private volatile long flushed;
+    private long flushing;
+    private int idleFlushes;
+
+    long pending() {
+      return views.sum() - flushed;
+    }
+  }
+}
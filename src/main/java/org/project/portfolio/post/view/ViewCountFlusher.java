@@ -0,0 +1,45 @@
+package org.project.portfolio.post.view;
+
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.post.repository.PostViewCountRepository;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlusher implements SmartLifecycle {
+
+  // 웹 서버(Integer.MAX_VALUE - 1)가 먼저 멈춘 뒤 남은 조회수를 기록한다.
+  private static final int PHASE = Integer.MAX_VALUE - 2;
+
+  private final ViewCountBuffer viewCountBuffer;
+  private final PostViewCountRepository postViewCountRepository;
+  private volatile boolean running;
+
+  @Override
+  public void start() {
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    flush();
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  @Scheduled(fixedDelayString = "${post.view.flush-interval:1s}")
+  public void flush() {
+    viewCountBuffer.flush(postViewCountRepository::addViewCounts);
+  }
+}
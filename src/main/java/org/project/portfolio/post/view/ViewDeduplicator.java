@@ -0,0 +1,118 @@
+package org.project.portfolio.post.view;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+public class ViewDeduplicator {
+
+  private final long windowNanos;
+  private final int bitCount;
+  private final int hashCount;
+  private final LongSupplier nanoClock;
+  private final AtomicReference<Generations> generations;
+
+  public ViewDeduplicator(Duration window, long expectedViewsPerWindow, double falsePositiveRate) {
+    this(window, expectedViewsPerWindow, falsePositiveRate, System::nanoTime);
+  }
+
+  public ViewDeduplicator(Duration window, long expectedViewsPerWindow, double falsePositiveRate,
+      LongSupplier nanoClock) {
+    double bits = -expectedViewsPerWindow * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+    this.windowNanos = window.toNanos();
+    this.bitCount = (int) Math.min(Integer.MAX_VALUE - Long.SIZE, Math.max(Long.SIZE, Math.ceil(bits)));
+    this.hashCount = Math.max(1, (int) Math.round(bitCount / (double) expectedViewsPerWindow * Math.log(2)));
+    this.nanoClock = nanoClock;
+    long now = nanoClock.getAsLong();
+    this.generations = new AtomicReference<>(new Generations(now, newFilter(), newFilter()));
+  }
+
+  public boolean markFirstView(long userId, long postId) {
+    Generations current = currentGenerations();
+    long hash1 = mix(userId * 0x9E3779B97F4A7C15L ^ postId);
+    long hash2 = mix(hash1 ^ postId * 0xC2B2AE3D27D4EB4FL) | 1L;
+    if (current.previous.mightContain(hash1, hash2)) {
+      return false;
+    }
+    // 동시에 같은 조회가 들어와 서로 다른 비트를 먼저 세운 경우 둘 다 첫 조회로 볼 수 있다. 조회수에서는 허용한다.
+    return current.active.put(hash1, hash2);
+  }
+
+  // 한 세대는 window 동안 기록되고 다음 window 동안 참조되므로, 같은 조회는 window 이상 2 × window 이하 동안 중복으로 본다.
+  private Generations currentGenerations() {
+    long now = nanoClock.getAsLong();
+    while (true) {
+      Generations current = generations.get();
+      long elapsed = now - current.startedNanos;
+      if (elapsed < windowNanos) {
+        return current;
+      }
+      Generations rotated = elapsed < windowNanos * 2
+          ? new Generations(current.startedNanos + windowNanos, newFilter(), current.active)
+          : new Generations(now, newFilter(), newFilter());
+      if (generations.compareAndSet(current, rotated)) {
+        return rotated;
+      }
+    }
+  }
+
+  private BloomFilter newFilter() {
+    return new BloomFilter(bitCount, hashCount);
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xFF51AFD7ED558CCDL;
+    value ^= value >>> 33;
+    value *= 0xC4CEB9FE1A85EC53L;
+    value ^= value >>> 33;
+    return value;
+  }
+
+  private record Generations(long startedNanos, BloomFilter active, BloomFilter previous) {
+
+  }
+
+  private static final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final int bitCount;
+    private final int hashCount;
+
+    BloomFilter(int bitCount, int hashCount) {
+      this.words = new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE);
+      this.bitCount = bitCount;
+      this.hashCount = hashCount;
+    }
+
+    boolean mightContain(long hash1, long hash2) {
+      for (int i = 0; i < hashCount; i++) {
+        int bit = bitIndex(hash1, hash2, i);
+        if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    boolean put(long hash1, long hash2) {
+      boolean changed = false;
+      for (int i = 0; i < hashCount; i++) {
+        int bit = bitIndex(hash1, hash2, i);
+        long mask = 1L << bit;
+        // 이미 세워진 비트는 쓰지 않아 인기 게시글의 반복 조회가 같은 캐시 라인에 CAS를 몰지 않게 한다.
+        if ((words.get(bit >>> 6) & mask) != 0) {
+          continue;
+        }
+        long previous = words.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m);
+        changed |= (previous & mask) == 0;
+      }
+      return changed;
+    }
+
+    private int bitIndex(long hash1, long hash2, int i) {
+      return (int) Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package org.project.portfolio.user.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.project.portfolio.user.service.BulkSignUpService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class BulkSignUpController {
+
+  private final BulkSignUpService bulkSignUpService;
+
+  @PostMapping(value = "/signup/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public void bulkSignup(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    bulkSignUpService.importUsers(request.getInputStream(), response.getOutputStream());
+  }
+}
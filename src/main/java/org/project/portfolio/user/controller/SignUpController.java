@@ -1,10 +1,10 @@
 package org.project.portfolio.user.controller;
 
 import jakarta.validation.Valid;
-import java.util.HashMap;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.response.PrecomputedResponseBody;
+import org.project.portfolio.global.response.ResponseBodyRegistry;
 import org.project.portfolio.user.dto.SignUpRequestDto;
 import org.project.portfolio.user.service.SignUpService;
 import org.springframework.http.HttpStatus;
@@ -20,13 +20,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class SignUpController {
 
   private final SignUpService signUpService;
+  private final ResponseBodyRegistry responseBodyRegistry;
 
   @PostMapping("/signup")
-  public ResponseEntity<Map> signup(@Valid @RequestBody SignUpRequestDto requestDto) {
+  public ResponseEntity<byte[]> signup(@Valid @RequestBody SignUpRequestDto requestDto) {
     signUpService.signUp(requestDto);
-    Map<String, Object> response = new HashMap<>();
-    response.put("message", Message.CREATED);
+    PrecomputedResponseBody response = responseBodyRegistry.find(Message.CREATED);
 
-    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    return response.toResponseEntity(HttpStatus.CREATED);
   }
 }
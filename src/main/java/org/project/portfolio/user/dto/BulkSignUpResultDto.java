@@ -0,0 +1,24 @@
+package org.project.portfolio.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkSignUpResultDto {
+
+  private int line;
+  private Status status;
+  @JsonInclude(Include.NON_NULL)
+  private String detail;
+
+  public enum Status {
+    CREATED, INVALID, DUPLICATE
+  }
+}
@@ -1,12 +1,14 @@
 package org.project.portfolio.user.dto;
 
-import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.project.portfolio.global.constants.Message;
-import org.project.portfolio.global.constants.RegExp;
+import org.project.portfolio.global.validation.Email;
+import org.project.portfolio.global.validation.Password;
+import org.project.portfolio.global.validation.Phone;
+import org.project.portfolio.global.validation.UserId;
+import org.project.portfolio.global.validation.Username;
 import org.project.portfolio.user.entity.User;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -16,21 +18,25 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @NoArgsConstructor
 public class SignUpRequestDto {
 
-  @Pattern(regexp = RegExp.USER_ID, message = Message.INVALID_USER_ID)
+  @UserId
   private String userId;
-  @Pattern(regexp = RegExp.PASSWORD, message = Message.INVALID_PASSWORD)
+  @Password
   private String password;
-  @Pattern(regexp = RegExp.USERNAME, message = Message.INVALID_USERNAME)
+  @Username
   private String username;
-  @Pattern(regexp = RegExp.EMAIL, message = Message.INVALID_EMAIL)
+  @Email
   private String email;
-  @Pattern(regexp = RegExp.PHONE, message = Message.INVALID_PHONE)
+  @Phone
   private String phone;
 
   public User toEntity(PasswordEncoder passwordEncoder) {
+    return toEntity(passwordEncoder.encode(this.password));
+  }
+
+  public User toEntity(String encodedPassword) {
     return User.builder()
         .userId(this.userId)
-        .password(passwordEncoder.encode(this.password))
+        .password(encodedPassword)
         .username(this.username)
         .email(this.email)
         .phone(this.phone)
@@ -5,31 +5,46 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity(name = "users")
+@Table(name = "users", uniqueConstraints = {
+    @UniqueConstraint(name = User.UNIQUE_EMAIL, columnNames = "email"),
+    @UniqueConstraint(name = User.UNIQUE_USER_ID, columnNames = "userId")
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 public class User {
 
+  public static final String UNIQUE_EMAIL = "uk_users_email";
+  public static final String UNIQUE_USER_ID = "uk_users_user_id";
+  private static final String ID_SEQUENCE = "users_seq";
+
   @Id
   @Column(name = "id")
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+  @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = 50)
   private Long id;
-  @Column(unique = true, nullable = false)
-
+  @Column(nullable = false)
   private String email;
   @Column(nullable = false)
   private String password;
-  @Column(unique = true, nullable = false)
+  @Column(nullable = false)
   private String userId;
   @Column(nullable = false)
   private String username;
   @Column(nullable = false)
   private String phone;
+
+  public void changePassword(String encodedPassword) {
+    this.password = encodedPassword;
+  }
 }
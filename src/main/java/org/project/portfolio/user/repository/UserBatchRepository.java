@@ -0,0 +1,24 @@
+package org.project.portfolio.user.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+import org.project.portfolio.user.entity.User;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class UserBatchRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Transactional
+  public void insertAll(List<User> users) {
+    for (User user : users) {
+      entityManager.persist(user);
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+}
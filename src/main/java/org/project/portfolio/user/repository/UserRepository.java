@@ -1,8 +1,12 @@
 package org.project.portfolio.user.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.project.portfolio.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -11,4 +15,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
   boolean existsByUserId(String userId);
 
   Optional<User> findByEmail(String username);
+
+  @Query("select u.id from users u where u.email = :email")
+  Optional<Long> findIdByEmail(@Param("email") String email);
+
+  @Query("select u.email from users u where u.email in :emails")
+  List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+  @Query("select u.userId from users u where u.userId in :userIds")
+  List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
 }
@@ -0,0 +1,83 @@
+package org.project.portfolio.user.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+// 줄 하나와 스트림 전체의 바이트 수를 제한하며 UTF-8 줄을 읽는다.
+class BoundedLineReader {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final InputStream inputStream;
+  private final int maxLineBytes;
+  private final long maxTotalBytes;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+  private int position;
+  private int limit;
+  private long totalBytes;
+  private boolean exceeded;
+
+  BoundedLineReader(InputStream inputStream, int maxLineBytes, long maxTotalBytes) {
+    this.inputStream = inputStream;
+    this.maxLineBytes = maxLineBytes;
+    this.maxTotalBytes = maxTotalBytes;
+  }
+
+  // 스트림 끝이나 전체 제한을 넘으면 null을 반환한다.
+  // maxLineBytes를 넘는 줄은 줄 끝까지 버리고 tooLong으로 표시해, 다음 줄부터 계속 읽을 수 있게 한다.
+  Line readLine() throws IOException {
+    line.reset();
+    boolean tooLong = false;
+    boolean read = false;
+    while (!exceeded) {
+      if (position == limit && !fill()) {
+        return read ? toLine(tooLong) : null;
+      }
+      read = true;
+      byte b = buffer[position++];
+      if (++totalBytes > maxTotalBytes) {
+        exceeded = true;
+        return null;
+      }
+      if (b == '\n') {
+        return toLine(tooLong);
+      }
+      if (line.size() < maxLineBytes) {
+        line.write(b);
+      } else {
+        tooLong = true;
+      }
+    }
+    return null;
+  }
+
+  boolean isExceeded() {
+    return exceeded;
+  }
+
+  private boolean fill() throws IOException {
+    int length = inputStream.read(buffer, 0, BUFFER_SIZE);
+    if (length <= 0) {
+      return false;
+    }
+    position = 0;
+    limit = length;
+    return true;
+  }
+
+  private Line toLine(boolean tooLong) {
+    if (tooLong) {
+      return new Line(null, true);
+    }
+    byte[] bytes = line.toByteArray();
+    int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+    return new Line(new String(bytes, 0, length, StandardCharsets.UTF_8), false);
+  }
+
+  record Line(String text, boolean tooLong) {
+
+  }
+}
@@ -0,0 +1,252 @@
+package org.project.portfolio.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.project.portfolio.auth.password.PasswordVerificationExecutor;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.DuplicateResourceException;
+import org.project.portfolio.global.request.RequestLimits;
+import org.project.portfolio.user.dto.BulkSignUpResultDto;
+import org.project.portfolio.user.dto.BulkSignUpResultDto.Status;
+import org.project.portfolio.user.dto.SignUpRequestDto;
+import org.project.portfolio.user.entity.User;
+import org.project.portfolio.user.repository.UserBatchRepository;
+import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+@Service
+public class BulkSignUpService {
+
+  private static final byte LINE_SEPARATOR = '\n';
+
+  private final UserRepository userRepository;
+  private final UserBatchRepository userBatchRepository;
+  private final SignUpService signUpService;
+  private final PasswordEncoder passwordEncoder;
+  private final Validator validator;
+  private final ObjectReader requestReader;
+  private final ObjectWriter resultWriter;
+  private final PasswordVerificationExecutor passwordVerificationExecutor;
+  private final int chunkSize;
+  private final int maxLineBytes;
+  private final long maxBodyBytes;
+
+  public BulkSignUpService(UserRepository userRepository, UserBatchRepository userBatchRepository,
+      SignUpService signUpService, PasswordEncoder passwordEncoder, Validator validator, ObjectMapper objectMapper,
+      PasswordVerificationExecutor passwordVerificationExecutor,
+      @Value("${signup.bulk.chunk-size:500}") int chunkSize,
+      @Value("${signup.bulk.max-line-bytes:4096}") int maxLineBytes,
+      @Value("${signup.bulk.max-body-bytes:16777216}") long maxBodyBytes,
+      @Value("${security.request.max-field-length:256}") int maxFieldLength) {
+    this.userRepository = userRepository;
+    this.userBatchRepository = userBatchRepository;
+    this.signUpService = signUpService;
+    this.passwordEncoder = passwordEncoder;
+    this.validator = validator;
+    this.requestReader = RequestLimits.bounded(objectMapper, maxFieldLength).readerFor(SignUpRequestDto.class);
+    this.resultWriter = objectMapper.writerFor(BulkSignUpResultDto.class);
+    this.passwordVerificationExecutor = passwordVerificationExecutor;
+    this.chunkSize = chunkSize;
+    this.maxLineBytes = maxLineBytes;
+    this.maxBodyBytes = maxBodyBytes;
+  }
+
+  // 본문이 maxBodyBytes를 넘으면 그때까지의 결과를 보낸 뒤, 다음 줄 번호로 크기 초과를 알리고 멈춘다.
+  public void importUsers(InputStream inputStream, OutputStream outputStream) throws IOException {
+    BoundedLineReader reader = new BoundedLineReader(inputStream, maxLineBytes, maxBodyBytes);
+    List<BulkSignUpResultDto> results = new ArrayList<>(chunkSize);
+    List<PendingSignUp> pendingSignUps = new ArrayList<>(chunkSize);
+    int lineNumber = 0;
+    BoundedLineReader.Line line;
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if (line.tooLong()) {
+        results.add(result(lineNumber, Status.INVALID, Message.PAYLOAD_TOO_LARGE));
+      } else if (!line.text().isBlank()) {
+        BulkSignUpResultDto invalid = parse(lineNumber, line.text(), pendingSignUps);
+        if (invalid != null) {
+          results.add(invalid);
+        }
+      }
+      if (pendingSignUps.size() + results.size() >= chunkSize) {
+        flushChunk(pendingSignUps, results, outputStream);
+      }
+    }
+    if (reader.isExceeded()) {
+      results.add(result(lineNumber + 1, Status.INVALID, Message.PAYLOAD_TOO_LARGE));
+    }
+    flushChunk(pendingSignUps, results, outputStream);
+  }
+
+  private BulkSignUpResultDto parse(int lineNumber, String line, List<PendingSignUp> pendingSignUps) {
+    SignUpRequestDto signUpRequestDto;
+    try {
+      signUpRequestDto = requestReader.readValue(line);
+    } catch (JsonProcessingException e) {
+      return result(lineNumber, Status.INVALID, Message.BAD_REQUEST);
+    }
+    // JSON 리터럴 null은 예외 없이 null로 읽힌다.
+    if (signUpRequestDto == null) {
+      return result(lineNumber, Status.INVALID, Message.BAD_REQUEST);
+    }
+
+    // 필드 검증기는 null을 통과시키므로, 빠진 필드는 여기서 해당 필드의 메시지로 거절한다.
+    List<String> details = missingFields(signUpRequestDto);
+    for (ConstraintViolation<SignUpRequestDto> violation : validator.validate(signUpRequestDto)) {
+      details.add(violation.getMessage());
+    }
+    if (!details.isEmpty()) {
+      return result(lineNumber, Status.INVALID, String.join(", ", details));
+    }
+
+    pendingSignUps.add(new PendingSignUp(lineNumber, signUpRequestDto));
+    return null;
+  }
+
+  private void flushChunk(List<PendingSignUp> pendingSignUps, List<BulkSignUpResultDto> results,
+      OutputStream outputStream) throws IOException {
+    results.addAll(signUp(pendingSignUps));
+    results.sort((left, right) -> Integer.compare(left.getLine(), right.getLine()));
+    for (BulkSignUpResultDto result : results) {
+      outputStream.write(resultWriter.writeValueAsBytes(result));
+      outputStream.write(LINE_SEPARATOR);
+    }
+    outputStream.flush();
+    pendingSignUps.clear();
+    results.clear();
+  }
+
+  private List<BulkSignUpResultDto> signUp(List<PendingSignUp> pendingSignUps) {
+    List<BulkSignUpResultDto> results = new ArrayList<>();
+    if (pendingSignUps.isEmpty()) {
+      return results;
+    }
+
+    Set<String> takenEmails = new HashSet<>(userRepository.findExistingEmails(
+        pendingSignUps.stream().map(pending -> pending.requestDto.getEmail()).toList()));
+    Set<String> takenUserIds = new HashSet<>(userRepository.findExistingUserIds(
+        pendingSignUps.stream().map(pending -> pending.requestDto.getUserId()).toList()));
+
+    List<PendingSignUp> insertable = new ArrayList<>();
+    for (PendingSignUp pending : pendingSignUps) {
+      if (!takenEmails.add(pending.requestDto.getEmail())) {
+        results.add(result(pending.lineNumber, Status.DUPLICATE, Message.DUPLICATE_EMAIL));
+      } else if (!takenUserIds.add(pending.requestDto.getUserId())) {
+        results.add(result(pending.lineNumber, Status.DUPLICATE, Message.DUPLICATE_USER_ID));
+      } else {
+        insertable.add(pending);
+      }
+    }
+
+    for (PendingSignUp pending : hashPasswords(insertable)) {
+      results.add(result(pending.lineNumber, Status.INVALID, Message.BAD_REQUEST));
+      insertable.remove(pending);
+    }
+    try {
+      userBatchRepository.insertAll(insertable.stream().map(PendingSignUp::toEntity).toList());
+      insertable.forEach(pending -> results.add(result(pending.lineNumber, Status.CREATED, null)));
+    } catch (DataIntegrityViolationException e) {
+      insertable.forEach(pending -> results.add(signUpOneByOne(pending)));
+    }
+    return results;
+  }
+
+  // 로그인 검증과 같은 풀에서 해시하되, 한 번에 스레드 수만큼만 제출해 로그인이 쓸 큐 자리를 남겨 둔다.
+  // 한 건의 해시 실패가 스트림 전체를 끊지 않도록, 실패는 건별로 모아 반환한다.
+  private List<PendingSignUp> hashPasswords(List<PendingSignUp> pendingSignUps) {
+    List<PendingSignUp> failed = new ArrayList<>();
+    int window = passwordVerificationExecutor.getPoolSize();
+    for (int from = 0; from < pendingSignUps.size(); from += window) {
+      List<PendingSignUp> slice = pendingSignUps.subList(from, Math.min(from + window, pendingSignUps.size()));
+      List<Future<String>> encodedPasswords = slice.stream()
+          .map(pending -> passwordVerificationExecutor.submitOrRun(
+              () -> passwordEncoder.encode(pending.requestDto.getPassword())))
+          .toList();
+      for (int i = 0; i < slice.size(); i++) {
+        try {
+          slice.get(i).encodedPassword = encodedPasswords.get(i).get();
+        } catch (ExecutionException e) {
+          failed.add(slice.get(i));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          encodedPasswords.forEach(future -> future.cancel(true));
+          failed.addAll(slice.subList(i, slice.size()));
+          failed.addAll(pendingSignUps.subList(from + slice.size(), pendingSignUps.size()));
+          return failed;
+        }
+      }
+    }
+    return failed;
+  }
+
+  private static List<String> missingFields(SignUpRequestDto signUpRequestDto) {
+    List<String> details = new ArrayList<>();
+    if (signUpRequestDto.getUserId() == null) {
+      details.add(Message.INVALID_USER_ID);
+    }
+    if (signUpRequestDto.getPassword() == null) {
+      details.add(Message.INVALID_PASSWORD);
+    }
+    if (signUpRequestDto.getUsername() == null) {
+      details.add(Message.INVALID_USERNAME);
+    }
+    if (signUpRequestDto.getEmail() == null) {
+      details.add(Message.INVALID_EMAIL);
+    }
+    if (signUpRequestDto.getPhone() == null) {
+      details.add(Message.INVALID_PHONE);
+    }
+    return details;
+  }
+
+  private BulkSignUpResultDto signUpOneByOne(PendingSignUp pending) {
+    try {
+      signUpService.save(pending.toEntity());
+      return result(pending.lineNumber, Status.CREATED, null);
+    } catch (DuplicateResourceException e) {
+      return result(pending.lineNumber, Status.DUPLICATE, e.getMessage());
+    } catch (DataIntegrityViolationException e) {
+      return result(pending.lineNumber, Status.INVALID, Message.BAD_REQUEST);
+    }
+  }
+
+  private BulkSignUpResultDto result(int lineNumber, Status status, String detail) {
+    return BulkSignUpResultDto.builder()
+        .line(lineNumber)
+        .status(status)
+        .detail(detail)
+        .build();
+  }
+
+  private static class PendingSignUp {
+
+    private final int lineNumber;
+    private final SignUpRequestDto requestDto;
+    private String encodedPassword;
+
+    PendingSignUp(int lineNumber, SignUpRequestDto requestDto) {
+      this.lineNumber = lineNumber;
+      this.requestDto = requestDto;
+    }
+
+    User toEntity() {
+      return requestDto.toEntity(encodedPassword);
+    }
+  }
+}
@@ -1,13 +1,16 @@
 package org.project.portfolio.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.project.portfolio.global.constants.Message;
 import org.project.portfolio.global.exception.DuplicateResourceException;
 import org.project.portfolio.user.dto.SignUpRequestDto;
+import org.project.portfolio.user.entity.User;
 import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -15,16 +18,50 @@ public class SignUpService {
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final UserCache userCache;
+  private final UserIdResolver userIdResolver;
 
-  @Transactional
   public void signUp(SignUpRequestDto signUpRequestDto) {
-    if (userRepository.existsByEmail(signUpRequestDto.getEmail())) {
-      throw new DuplicateResourceException(Message.DUPLICATE_EMAIL);
+    save(signUpRequestDto.toEntity(passwordEncoder));
+  }
+
+  void save(User user) {
+    try {
+      userRepository.saveAndFlush(user);
+      userCache.removeUserFromCache(user.getEmail());
+      userIdResolver.invalidate(user.getEmail());
+    } catch (DataIntegrityViolationException e) {
+      if (!isDuplicateKey(e)) {
+        throw e;
+      }
+      throw duplicateResourceException(user.getEmail());
     }
-    if (userRepository.existsByUserId(signUpRequestDto.getUserId())) {
-      throw new DuplicateResourceException(Message.DUPLICATE_USER_ID);
+  }
+
+  private boolean isDuplicateKey(DataIntegrityViolationException e) {
+    Throwable cause = e;
+    while (cause != null) {
+      if (cause instanceof ConstraintViolationException constraintViolation
+          && isUniqueKeyOfUser(constraintViolation.getConstraintName())) {
+        return true;
+      }
+      cause = cause.getCause();
     }
+    return isUniqueKeyOfUser(e.getMessage());
+  }
 
-    userRepository.save(signUpRequestDto.toEntity(passwordEncoder));
+  private boolean isUniqueKeyOfUser(String constraintName) {
+    if (constraintName == null) {
+      return false;
+    }
+    String lowerCase = constraintName.toLowerCase();
+    return lowerCase.contains(User.UNIQUE_EMAIL) || lowerCase.contains(User.UNIQUE_USER_ID);
+  }
+
+  private DuplicateResourceException duplicateResourceException(String email) {
+    if (userRepository.existsByEmail(email)) {
+      return new DuplicateResourceException(Message.DUPLICATE_EMAIL);
+    }
+    return new DuplicateResourceException(Message.DUPLICATE_USER_ID);
   }
 }
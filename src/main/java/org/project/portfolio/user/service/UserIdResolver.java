@@ -0,0 +1,37 @@
+package org.project.portfolio.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.project.portfolio.user.repository.UserRepository;
+
+public class UserIdResolver {
+
+  private final UserRepository userRepository;
+  private final Cache<String, Long> userIds;
+
+  public UserIdResolver(UserRepository userRepository, long maximumSize, Duration timeToLive) {
+    this.userRepository = userRepository;
+    this.userIds = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterAccess(timeToLive)
+        .build();
+  }
+
+  public Long resolve(String email) {
+    Long userId = userIds.getIfPresent(email);
+    if (userId != null) {
+      return userId;
+    }
+    // DB 조회는 캐시 밖에서 한다. 같은 email이 동시에 들어오면 중복 조회될 수 있지만, 결과가 같으므로 마지막 값을 넣는다.
+    userId = userRepository.findIdByEmail(email).orElse(null);
+    if (userId != null) {
+      userIds.put(email, userId);
+    }
+    return userId;
+  }
+
+  public void invalidate(String email) {
+    userIds.invalidate(email);
+  }
+}
@@ -0,0 +1,112 @@
+package org.project.portfolio.auth.jwt.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.cache.VerifiedTokenCache;
+import org.project.portfolio.auth.dto.TokenStatus;
+import org.project.portfolio.auth.dto.TokenVerification;
+import org.project.portfolio.auth.dto.VerifiedToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+public class VerifiedTokenCacheTest {
+
+  @Test
+  @DisplayName("같은 Access Token이 다시 주어질 때, 검증 없이 캐시된 결과를 반환한다.")
+  public void success_onRepeatedAccessToken_shouldSkipVerification() {
+    // Given: 만료되지 않은 토큰을 검증하는 verifier가 주어진다.
+    VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100);
+    AtomicInteger verifyCount = new AtomicInteger();
+
+    // When: 같은 Access Token으로 두 번 조회한다.
+    TokenVerification first = verifiedTokenCache.get("token", token -> {
+      verifyCount.incrementAndGet();
+      return TokenVerification.valid(verifiedToken(new Date(System.currentTimeMillis() + 60_000L)));
+    });
+    TokenVerification second = verifiedTokenCache.get("token", token -> {
+      verifyCount.incrementAndGet();
+      return TokenVerification.valid(verifiedToken(new Date(System.currentTimeMillis() + 60_000L)));
+    });
+
+    // Then: 검증은 한 번만 수행되고 hit/miss가 기록된다.
+    assertThat(second).isSameAs(first);
+    assertThat(verifyCount.get()).isEqualTo(1);
+    assertThat(verifiedTokenCache.stats().hitCount()).isEqualTo(1);
+    assertThat(verifiedTokenCache.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("캐시를 MeterRegistry에 등록할 때, hit/miss 횟수가 cache.gets 지표로 노출된다.")
+  public void success_onMonitor_shouldExposeHitRateAsMeters() {
+    // Given: MeterRegistry에 등록된 캐시가 있다.
+    VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100);
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    verifiedTokenCache.monitor(meterRegistry);
+
+    // When: 같은 Access Token으로 세 번 조회한다.
+    for (int i = 0; i < 3; i++) {
+      verifiedTokenCache.get("token",
+          token -> TokenVerification.valid(verifiedToken(new Date(System.currentTimeMillis() + 60_000L))));
+    }
+
+    // Then: miss 1회, hit 2회가 지표로 조회된다.
+    assertThat(meterRegistry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME).tag("result", "miss")
+        .functionCounter().count()).isEqualTo(1.0);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME).tag("result", "hit")
+        .functionCounter().count()).isEqualTo(2.0);
+  }
+
+  @Test
+  @DisplayName("만료 시간이 지난 토큰일 때, 캐시에 남지 않고 다시 검증한다.")
+  public void success_onExpiredToken_shouldVerifyAgain() {
+    // Given: 이미 만료된 토큰을 검증하는 verifier가 주어진다.
+    VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100);
+    AtomicInteger verifyCount = new AtomicInteger();
+
+    // When: 같은 Access Token으로 두 번 조회한다.
+    verifiedTokenCache.get("expired", token -> {
+      verifyCount.incrementAndGet();
+      return TokenVerification.valid(verifiedToken(new Date(System.currentTimeMillis() - 1_000L)));
+    });
+    verifiedTokenCache.get("expired", token -> {
+      verifyCount.incrementAndGet();
+      return TokenVerification.valid(verifiedToken(new Date(System.currentTimeMillis() - 1_000L)));
+    });
+
+    // Then: 두 번 모두 검증한다.
+    assertThat(verifyCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("검증에 실패한 토큰일 때, 결과를 캐시하지 않고 다시 검증한다.")
+  public void fail_onInvalidToken_shouldNotCacheFailure() {
+    // Given: 서명이 잘못된 토큰으로 판단하는 verifier가 주어진다.
+    VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100);
+    AtomicInteger verifyCount = new AtomicInteger();
+
+    // When: 같은 Access Token으로 두 번 조회한다.
+    TokenVerification first = verifiedTokenCache.get("forged", token -> {
+      verifyCount.incrementAndGet();
+      return TokenVerification.failure(TokenStatus.BAD_SIGNATURE);
+    });
+    verifiedTokenCache.get("forged", token -> {
+      verifyCount.incrementAndGet();
+      return TokenVerification.failure(TokenStatus.BAD_SIGNATURE);
+    });
+
+    // Then: 실패 상태를 그대로 반환하고, 두 번 모두 검증한다.
+    assertThat(first.getStatus()).isEqualTo(TokenStatus.BAD_SIGNATURE);
+    assertThat(verifyCount.get()).isEqualTo(2);
+    assertThat(verifiedTokenCache.estimatedSize()).isZero();
+  }
+
+  private VerifiedToken verifiedToken(Date expiration) {
+    return new VerifiedToken("test@test.kr", Collections.singletonList(new SimpleGrantedAuthority("USER")), expiration);
+  }
+}
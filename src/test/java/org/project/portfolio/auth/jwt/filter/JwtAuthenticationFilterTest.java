@@ -0,0 +1,125 @@
+package org.project.portfolio.auth.jwt.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.cache.VerifiedTokenCache;
+import org.project.portfolio.auth.dto.TokenStatus;
+import org.project.portfolio.auth.filter.JwtAuthenticationFilter;
+import org.project.portfolio.auth.metrics.AuthMetrics;
+import org.project.portfolio.auth.service.JwtService;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class JwtAuthenticationFilterTest {
+
+  private String secretKey;
+  private JwtService jwtService;
+  private AuthMetrics authMetrics;
+  private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+  @BeforeEach
+  public void setUp() {
+    secretKey = Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+    jwtService = spy(new JwtService(secretKey, "Authorization", 60_000L));
+    authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+    jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtService, new VerifiedTokenCache(100), authMetrics);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("Bearer 토큰이 없는 요청은 JWT 검증 없이 통과하고 exception attribute를 남기지 않는다.")
+  public void anonymousRequest_shouldSkipJwtVerification() throws Exception {
+    // Given: Authorization 헤더가 없는 요청이 주어진다.
+    MockHttpServletRequest request = request("GET", "/api/v1/users");
+
+    // When: 필터를 통과시킨다.
+    MockFilterChain filterChain = new MockFilterChain();
+    jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+    // Then: 다음 필터로 넘어가고, 검증과 실패 기록이 일어나지 않는다.
+    assertThat(filterChain.getRequest()).isSameAs(request);
+    assertThat(request.getAttribute(JwtAuthenticationFilter.TOKEN_STATUS_ATTRIBUTE)).isNull();
+    assertThat(authMetrics.getJwtFilterFailure().count()).isZero();
+    verify(jwtService, never()).validate(any());
+  }
+
+  @Test
+  @DisplayName("회원 가입 요청은 Bearer 토큰이 있어도 JWT 검증 없이 통과한다.")
+  public void publicRequest_withBearerToken_shouldSkipJwtVerification() throws Exception {
+    // Given: 유효한 Bearer 토큰이 붙은 회원 가입 요청이 주어진다.
+    MockHttpServletRequest request = request("POST", "/api/v1/signup");
+    request.addHeader("Authorization", "Bearer " + jwtService.createAccessToken("test@test.kr", "USER"));
+
+    // When: 필터를 통과시킨다.
+    jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    // Then: 인증 정보가 설정되지 않는다.
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    verify(jwtService, never()).validate(any());
+  }
+
+  @Test
+  @DisplayName("로그인 요청에 유효한 Bearer 토큰이 있으면 인증 정보를 설정해 이미 로그인된 상태를 판별할 수 있어야 한다.")
+  public void loginRequest_withBearerToken_shouldAuthenticate() throws Exception {
+    // Given: 유효한 Bearer 토큰이 붙은 로그인 요청이 주어진다.
+    MockHttpServletRequest request = request("POST", "/api/v1/login");
+    request.addHeader("Authorization", "Bearer " + jwtService.createAccessToken("test@test.kr", "USER"));
+
+    // When: 필터를 통과시킨다.
+    jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    // Then: SecurityContext에 인증 정보가 설정된다.
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    assertThat(authentication).isNotNull();
+    assertThat(authentication.getPrincipal()).isEqualTo("test@test.kr");
+    // And: 요청당 토큰은 한 번만 추출된다.
+    verify(jwtService, times(1)).extractAccessToken(request);
+  }
+
+  @Test
+  @DisplayName("만료된 Bearer 토큰이 주어질 때, 예외 없이 EXPIRED 상태를 남기고 다음 필터로 넘어간다.")
+  public void expiredToken_shouldRecordStatusWithoutAuthentication() throws Exception {
+    // Given: 같은 키로 서명했지만 이미 만료된 Access Token이 주어진다.
+    MockHttpServletRequest request = request("GET", "/api/v1/users");
+    request.addHeader("Authorization", "Bearer " + expiredAccessToken());
+
+    // When: 필터를 통과시킨다.
+    MockFilterChain filterChain = new MockFilterChain();
+    jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+    // Then: 인증 정보 없이 다음 필터로 넘어가고, EXPIRED 상태와 실패 횟수가 기록된다.
+    assertThat(filterChain.getRequest()).isSameAs(request);
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    assertThat(request.getAttribute(JwtAuthenticationFilter.TOKEN_STATUS_ATTRIBUTE)).isEqualTo(TokenStatus.EXPIRED);
+    assertThat(authMetrics.getJwtFilterFailure().count()).isEqualTo(1);
+  }
+
+  private String expiredAccessToken() {
+    return new JwtService(secretKey, "Authorization", -60_000L).createAccessToken("test@test.kr", "USER");
+  }
+
+  private MockHttpServletRequest request(String method, String path) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+    request.setServletPath(path);
+    return request;
+  }
+}
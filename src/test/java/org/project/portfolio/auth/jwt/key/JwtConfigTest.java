@@ -0,0 +1,35 @@
+package org.project.portfolio.auth.jwt.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.key.JwtKeyRing;
+import org.project.portfolio.global.config.JwtConfig;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+public class JwtConfigTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withUserConfiguration(JwtConfig.class)
+      .withPropertyValues("jwt.signing.algorithm=ES256");
+
+  @Test
+  @DisplayName("비대칭 알고리즘에 서명 키가 없을 때, 임의의 키를 만들지 않고 시작에 실패한다.")
+  public void fail_onAsymmetricAlgorithmWithoutKeys_shouldFailStartup() {
+    // When & Then: 서명 키 없이 컨텍스트를 시작하면 설정 오류로 실패한다.
+    contextRunner.run(context -> assertThat(context).hasFailed()
+        .getFailure()
+        .rootCause()
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("jwt.signing.keys"));
+  }
+
+  @Test
+  @DisplayName("개발용으로 생성 키를 허용했을 때, 서명 키 없이도 시작한다.")
+  public void success_onAllowedGeneratedKeys_shouldStartWithGeneratedKeyRing() {
+    // When & Then: 생성 키를 허용하면 키 링이 만들어진다.
+    contextRunner.withPropertyValues("jwt.signing.allow-generated-keys=true")
+        .run(context -> assertThat(context).hasNotFailed().hasSingleBean(JwtKeyRing.class));
+  }
+}
@@ -0,0 +1,96 @@
+package org.project.portfolio.auth.jwt.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.dto.TokenStatus;
+import org.project.portfolio.auth.key.JwtKeyRing;
+import org.project.portfolio.auth.key.JwtKeyRing.SigningKey;
+import org.project.portfolio.auth.key.JwtSigningAlgorithm;
+import org.project.portfolio.auth.service.JwtService;
+
+public class JwtKeyRingTest {
+
+  private static final KeyPair OLD_KEY_PAIR = JwtSigningAlgorithm.ES256.generateKeyPair();
+  private static final KeyPair NEW_KEY_PAIR = JwtSigningAlgorithm.ES256.generateKeyPair();
+
+  @Test
+  @DisplayName("활성 키를 교체해도 이전 키의 공개키가 남아 있으면 이전 토큰을 검증할 수 있다.")
+  public void success_onRotatedActiveKey_shouldVerifyTokensSignedWithPreviousKey() {
+    // Given: old 키로 서명하는 서비스와, new 키로 교체하면서 old 공개키를 남겨 둔 서비스가 주어진다.
+    JwtService beforeRotation = jwtService(JwtKeyRing.asymmetric(JwtSigningAlgorithm.ES256, "old",
+        List.of(signingKey("old", OLD_KEY_PAIR, true))));
+    JwtService afterRotation = jwtService(JwtKeyRing.asymmetric(JwtSigningAlgorithm.ES256, "new",
+        List.of(signingKey("old", OLD_KEY_PAIR, false), signingKey("new", NEW_KEY_PAIR, true))));
+
+    // When: 교체 전후에 발급한 토큰을 검증한다.
+    String oldAccessToken = beforeRotation.createAccessToken("test@test.kr", "USER");
+    String newAccessToken = afterRotation.createAccessToken("test@test.kr", "USER");
+
+    // Then: 교체 후 서비스는 두 토큰을 모두 검증하고, 새 토큰에는 new kid가 붙는다.
+    assertThat(afterRotation.validate(oldAccessToken).getStatus()).isEqualTo(TokenStatus.VALID);
+    assertThat(afterRotation.validate(newAccessToken).getStatus()).isEqualTo(TokenStatus.VALID);
+    assertThat(header(newAccessToken)).contains("\"kid\":\"new\"");
+    // And: new 키를 모르는 서비스에서는 서명 오류로 판단한다.
+    assertThat(beforeRotation.validate(newAccessToken).getStatus()).isEqualTo(TokenStatus.BAD_SIGNATURE);
+  }
+
+  @Test
+  @DisplayName("EdDSA 키로 서명한 토큰을 같은 키 링으로 검증할 수 있다.")
+  public void success_onEdDsaKeyRing_shouldSignAndVerify() {
+    // Given: 시작 시 생성한 EdDSA 키 링이 주어진다.
+    JwtService jwtService = jwtService(JwtKeyRing.generated(JwtSigningAlgorithm.EDDSA));
+
+    // When: 토큰을 발급하고 검증한다.
+    String accessToken = jwtService.createAccessToken("test@test.kr", "USER");
+
+    // Then: 유효한 토큰이다.
+    assertThat(jwtService.validate(accessToken).getStatus()).isEqualTo(TokenStatus.VALID);
+    assertThat(header(accessToken)).contains("\"alg\":\"EdDSA\"");
+  }
+
+  @Test
+  @DisplayName("JWKS에는 모든 검증용 공개키가 kid와 함께 담기고, 개인키와 HMAC 비밀키는 담기지 않는다.")
+  public void success_onPublicJwks_shouldExposeOnlyPublicKeys() {
+    // Given: 공개키 두 개를 가진 ES256 키 링과 HMAC 키 링이 주어진다.
+    JwtKeyRing asymmetric = JwtKeyRing.asymmetric(JwtSigningAlgorithm.ES256, "new",
+        List.of(signingKey("old", OLD_KEY_PAIR, false), signingKey("new", NEW_KEY_PAIR, true)));
+    JwtKeyRing hmac = JwtKeyRing.hmac(Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded()));
+
+    // When: JWKS에 실을 공개키를 조회한다.
+    List<Map<String, ?>> asymmetricJwks = asymmetric.publicJwks();
+
+    // Then: 두 공개키만 담기고 HMAC 키 링은 아무 키도 공개하지 않는다.
+    assertThat(asymmetricJwks).extracting(jwk -> jwk.get("kid")).containsExactlyInAnyOrder("old", "new");
+    assertThat(asymmetricJwks).allSatisfy(jwk -> {
+      assertThat(jwk.get("kty")).isEqualTo("EC");
+      assertThat(jwk.get("alg")).isEqualTo("ES256");
+      assertThat(jwk.containsKey("d")).isFalse();
+    });
+    assertThat(hmac.publicJwks()).isEmpty();
+  }
+
+  private JwtService jwtService(JwtKeyRing jwtKeyRing) {
+    return new JwtService(jwtKeyRing, "Authorization", 60_000L);
+  }
+
+  private SigningKey signingKey(String id, KeyPair keyPair, boolean withPrivateKey) {
+    Base64.Encoder encoder = Base64.getEncoder();
+    return new SigningKey(id,
+        withPrivateKey ? encoder.encodeToString(keyPair.getPrivate().getEncoded()) : null,
+        encoder.encodeToString(keyPair.getPublic().getEncoded()));
+  }
+
+  private String header(String accessToken) {
+    String encodedHeader = accessToken.substring(0, accessToken.indexOf('.'));
+    return new String(Base64.getUrlDecoder().decode(encodedHeader), StandardCharsets.UTF_8);
+  }
+}
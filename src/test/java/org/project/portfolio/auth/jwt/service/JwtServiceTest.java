@@ -0,0 +1,124 @@
+package org.project.portfolio.auth.jwt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.dto.TokenStatus;
+import org.project.portfolio.auth.dto.TokenVerification;
+import org.project.portfolio.auth.dto.VerifiedToken;
+import org.project.portfolio.auth.exception.InvalidTokenException;
+import org.project.portfolio.auth.key.JwtKeyRing;
+import org.project.portfolio.auth.service.JwtService;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+public class JwtServiceTest {
+
+  private JwtService jwtService;
+
+  @BeforeEach
+  public void setUp() {
+    jwtService = new JwtService(randomSecretKey(), "Authorization", 60_000L);
+  }
+
+  @Test
+  @DisplayName("유효한 Access Token이 주어질 때, 한 번의 검증으로 email과 권한을 반환한다.")
+  public void success_onValidAccessToken_shouldReturnEmailAndAuthorities() {
+    // Given: 유효한 Access Token이 주어진다.
+    String accessToken = jwtService.createAccessToken("test@test.kr", "USER,ADMIN");
+
+    // When: verify()를 호출한다.
+    VerifiedToken verifiedToken = jwtService.verify(accessToken);
+
+    // Then: email과 권한, 만료 시간이 반환된다.
+    assertThat(verifiedToken.getEmail()).isEqualTo("test@test.kr");
+    assertThat(verifiedToken.getAuthorities())
+        .containsExactly(new SimpleGrantedAuthority("USER"), new SimpleGrantedAuthority("ADMIN"));
+    assertThat(verifiedToken.getExpiration()).isInFuture();
+  }
+
+  @Test
+  @DisplayName("다른 키로 서명된 Access Token이 주어질 때, Exception이 발생한다.")
+  public void fail_onAccessTokenSignedWithOtherKey_shouldThrowException() {
+    // Given: 다른 키로 서명된 Access Token이 주어진다.
+    JwtService otherJwtService = new JwtService(randomSecretKey(), "Authorization", 60_000L);
+    String accessToken = otherJwtService.createAccessToken("test@test.kr", "USER");
+
+    // When: verify()를 호출한다.
+    // Then: JwtException이 발생한다.
+    assertThatThrownBy(() -> jwtService.verify(accessToken))
+        .isInstanceOf(JwtException.class)
+        .hasMessage("Invalid JWT signature");
+  }
+
+  @Test
+  @DisplayName("Access Token이 없을 때, Exception이 발생한다.")
+  public void fail_onMissingAccessToken_shouldThrowException() {
+    // When: verify()를 null로 호출한다.
+    // Then: JwtException이 발생한다.
+    assertThatThrownBy(() -> jwtService.verify(null))
+        .isInstanceOf(JwtException.class);
+  }
+
+  @Test
+  @DisplayName("만료되거나 형식이 잘못된 Access Token이 주어질 때, validate()는 예외 없이 상태를 반환한다.")
+  public void fail_onInvalidAccessToken_shouldReturnStatusWithoutException() {
+    // Given: 만료된 토큰, 다른 키로 서명된 토큰, 형식이 잘못된 토큰이 주어진다.
+    String secretKey = randomSecretKey();
+    JwtService signingJwtService = new JwtService(secretKey, "Authorization", 60_000L);
+    String expiredAccessToken = new JwtService(secretKey, "Authorization", -60_000L)
+        .createAccessToken("test@test.kr", "USER");
+    String forgedAccessToken = new JwtService(randomSecretKey(), "Authorization", 60_000L)
+        .createAccessToken("test@test.kr", "USER");
+
+    // When: validate()를 호출한다.
+    TokenVerification expired = signingJwtService.validate(expiredAccessToken);
+    TokenVerification forged = signingJwtService.validate(forgedAccessToken);
+    TokenVerification malformed = signingJwtService.validate("not.a.jwt");
+    TokenVerification missing = signingJwtService.validate(null);
+
+    // Then: 각 토큰에 맞는 상태가 반환된다.
+    assertThat(expired.getStatus()).isEqualTo(TokenStatus.EXPIRED);
+    assertThat(forged.getStatus()).isEqualTo(TokenStatus.BAD_SIGNATURE);
+    assertThat(malformed.getStatus()).isEqualTo(TokenStatus.MALFORMED);
+    assertThat(missing.getStatus()).isEqualTo(TokenStatus.MISSING);
+    assertThat(expired.getVerifiedToken()).isNull();
+  }
+
+  @Test
+  @DisplayName("nbf가 미래인 Access Token이 주어질 때, 아직 사용할 수 없는 토큰으로 거부한다.")
+  public void fail_onFutureNotBefore_shouldRejectAccessToken() {
+    // Given: 같은 키로 서명했지만 nbf가 한 시간 뒤인 토큰이 주어진다.
+    String secretKey = randomSecretKey();
+    JwtService signingJwtService = new JwtService(secretKey, "Authorization", 60_000L);
+    long now = System.currentTimeMillis();
+    String prematureAccessToken = JwtKeyRing.hmac(secretKey)
+        .sign(Jwts.builder()
+            .subject("AccessToken")
+            .claim("email", "test@test.kr")
+            .claim("auth", "USER")
+            .notBefore(new Date(now + 3_600_000L))
+            .expiration(new Date(now + 7_200_000L)))
+        .compact();
+
+    // When: validate()를 호출한다.
+    TokenVerification premature = signingJwtService.validate(prematureAccessToken);
+
+    // Then: 유효하지 않은 토큰으로 판정되고, verify()는 예외를 던진다.
+    assertThat(premature.isValid()).isFalse();
+    assertThat(premature.getStatus()).isEqualTo(TokenStatus.MALFORMED);
+    assertThat(premature.getVerifiedToken()).isNull();
+    assertThatThrownBy(() -> signingJwtService.verify(prematureAccessToken))
+        .isInstanceOf(InvalidTokenException.class);
+  }
+
+  private String randomSecretKey() {
+    return Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+  }
+}
@@ -0,0 +1,142 @@
+package org.project.portfolio.auth.login.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.cache.AuthenticatedUserCache;
+import org.project.portfolio.auth.service.AuthService;
+import org.project.portfolio.user.entity.User;
+import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class AuthenticatedUserCacheTest {
+
+  private static final String EMAIL = "test@test.kr";
+  private static final String PASSWORD = "q1w2e3r4t5!@";
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicInteger matchCount = new AtomicInteger();
+  private UserRepository userRepository;
+  private AuthenticatedUserCache authenticatedUserCache;
+  private DaoAuthenticationProvider authenticationProvider;
+
+  @BeforeEach
+  public void setUp() {
+    userRepository = mock(UserRepository.class);
+    when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder()
+        .email(EMAIL)
+        .password("{noop}" + PASSWORD)
+        .build()));
+    authenticatedUserCache = new AuthenticatedUserCache(100, Duration.ofSeconds(60), nanos::get);
+    PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    authenticationProvider = new DaoAuthenticationProvider();
+    authenticationProvider.setPasswordEncoder(new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        matchCount.incrementAndGet();
+        return passwordEncoder.matches(rawPassword, encodedPassword);
+      }
+    });
+    // SecurityConfig와 같이 캐시는 AuthService에만 두고 Provider에는 붙이지 않는다.
+    authenticationProvider.setUserDetailsService(new AuthService(userRepository, authenticatedUserCache));
+  }
+
+  @Test
+  @DisplayName("같은 계정으로 다시 로그인할 때, DB 조회 없이 캐시된 인증 정보를 사용한다.")
+  public void success_onRepeatedLogin_shouldSkipLookup() {
+    // When: 같은 계정으로 세 번 로그인한다.
+    for (int i = 0; i < 3; i++) {
+      authenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD));
+    }
+
+    // Then: 조회는 한 번만 수행되고 hit가 기록된다.
+    verify(userRepository, times(1)).findByEmail(EMAIL);
+    assertThat(authenticatedUserCache.stats().hitCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("캐시를 MeterRegistry에 등록할 때, 로그인 조회의 hit/miss 횟수가 cache.gets 지표로 노출된다.")
+  public void success_onMonitor_shouldExposeHitRateAsMeters() {
+    // Given: MeterRegistry에 등록된 캐시가 있다.
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    authenticatedUserCache.monitor(meterRegistry);
+
+    // When: 같은 계정으로 세 번 로그인한다.
+    for (int i = 0; i < 3; i++) {
+      authenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD));
+    }
+
+    // Then: miss 1회, hit 2회가 지표로 조회된다.
+    assertThat(meterRegistry.get("cache.gets").tag("cache", AuthenticatedUserCache.CACHE_NAME).tag("result", "miss")
+        .functionCounter().count()).isEqualTo(1.0);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", AuthenticatedUserCache.CACHE_NAME).tag("result", "hit")
+        .functionCounter().count()).isEqualTo(2.0);
+  }
+
+  @Test
+  @DisplayName("TTL이 지났을 때, 인증 정보를 다시 조회한다.")
+  public void success_onExpiredEntry_shouldLookupAgain() {
+    // Given: 한 번 로그인해서 캐시에 저장된다.
+    authenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD));
+
+    // When: TTL이 지난 뒤 다시 로그인한다.
+    nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+    authenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD));
+
+    // Then: 조회가 다시 수행된다.
+    verify(userRepository, times(2)).findByEmail(EMAIL);
+  }
+
+  @Test
+  @DisplayName("캐시에서 제거되었을 때, 인증 정보를 다시 조회한다.")
+  public void success_onRemovedEntry_shouldLookupAgain() {
+    // Given: 한 번 로그인해서 캐시에 저장된다.
+    authenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD));
+
+    // When: 캐시에서 제거한 뒤 다시 로그인한다.
+    authenticatedUserCache.removeUserFromCache(EMAIL);
+    authenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD));
+
+    // Then: 조회가 다시 수행된다.
+    verify(userRepository, times(2)).findByEmail(EMAIL);
+    assertThat(authenticatedUserCache.estimatedSize()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("캐시된 계정에 틀린 비밀번호로 로그인할 때, 다시 조회하거나 한 번 더 검증하지 않고 실패한다.")
+  public void fail_onWrongPasswordWithCachedUser_shouldRejectAfterSingleVerification() {
+    // Given: 한 번 로그인해서 캐시에 저장된다.
+    authenticationProvider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD));
+    matchCount.set(0);
+
+    // When & Then: 틀린 비밀번호로 로그인하면 실패한다.
+    assertThatThrownBy(() -> authenticationProvider.authenticate(
+        UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, "wrong")))
+        .isInstanceOf(BadCredentialsException.class);
+    // And: 비밀번호 검증은 한 번만 수행되고, DB 조회는 처음 로그인할 때의 한 번뿐이다.
+    assertThat(matchCount.get()).isEqualTo(1);
+    verify(userRepository, times(1)).findByEmail(EMAIL);
+  }
+}
@@ -0,0 +1,90 @@
+package org.project.portfolio.auth.login.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.codec.LoginJsonCodec;
+import org.project.portfolio.auth.dto.LoginRequestDto;
+import org.project.portfolio.auth.dto.LoginResponseDto;
+import org.project.portfolio.global.constants.Message;
+
+public class LoginJsonCodecTest {
+
+  private static final int WARM_UP_LOGINS = 2_000;
+  private static final int MEASURED_LOGINS = 2_000;
+  private static final byte[] LOGIN_REQUEST_BODY =
+      "{\"email\":\"test@test.kr\",\"password\":\"q1w2e3r4t5!@\"}".getBytes(StandardCharsets.UTF_8);
+  private static final LoginResponseDto LOGIN_RESPONSE_BODY = LoginResponseDto.builder()
+      .message(Message.OK)
+      .accessToken("header.payload.signature")
+      .build();
+
+  private final LoginJsonCodec loginJsonCodec = new LoginJsonCodec(new ObjectMapper());
+
+  @Test
+  @DisplayName("LoginRequestDto를 읽고 LoginResponseDto를 쓸 때, 기존 ObjectMapper와 같은 JSON을 만든다.")
+  public void success_onReadAndWrite_shouldProduceSameJsonAsObjectMapper() throws IOException {
+    // When: 로그인 요청을 읽고 응답을 쓴다.
+    LoginRequestDto loginRequestDto = loginJsonCodec.readLoginRequest(new ByteArrayInputStream(LOGIN_REQUEST_BODY));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    loginJsonCodec.writeLoginResponse(outputStream, LOGIN_RESPONSE_BODY);
+
+    // Then: 필드가 그대로 읽히고, 응답은 ObjectMapper의 결과와 같다.
+    assertThat(loginRequestDto.getEmail()).isEqualTo("test@test.kr");
+    assertThat(loginRequestDto.getPassword()).isEqualTo("q1w2e3r4t5!@");
+    assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(new ObjectMapper().writeValueAsString(LOGIN_RESPONSE_BODY));
+  }
+
+  @Test
+  @DisplayName("로그인 한 번에 할당되는 바이트가 매번 ObjectMapper를 생성할 때보다 적어야 한다.")
+  public void allocation_perLogin_shouldBeLessThanNewObjectMapperPerRequest() throws IOException {
+    // Given: 두 경로를 모두 워밍업한다.
+    for (int i = 0; i < WARM_UP_LOGINS; i++) {
+      loginWithNewObjectMapper();
+      loginWithCodec();
+    }
+
+    // When: 로그인 한 번당 할당되는 바이트를 측정한다.
+    long bytesPerLoginWithNewObjectMapper = allocatedBytesPerLogin(this::loginWithNewObjectMapper);
+    long bytesPerLoginWithCodec = allocatedBytesPerLogin(this::loginWithCodec);
+
+    // Then: LoginJsonCodec은 절반 이하만 할당한다.
+    assertThat(bytesPerLoginWithCodec)
+        .as("allocated bytes per login: new ObjectMapper=%d, LoginJsonCodec=%d",
+            bytesPerLoginWithNewObjectMapper, bytesPerLoginWithCodec)
+        .isLessThan(bytesPerLoginWithNewObjectMapper / 2);
+  }
+
+  private void loginWithNewObjectMapper() throws IOException {
+    new ObjectMapper().readValue(new ByteArrayInputStream(LOGIN_REQUEST_BODY), LoginRequestDto.class);
+    new ObjectMapper().writeValue(new ByteArrayOutputStream(), LOGIN_RESPONSE_BODY);
+  }
+
+  private void loginWithCodec() throws IOException {
+    loginJsonCodec.readLoginRequest(new ByteArrayInputStream(LOGIN_REQUEST_BODY));
+    loginJsonCodec.writeLoginResponse(new ByteArrayOutputStream(), LOGIN_RESPONSE_BODY);
+  }
+
+  private long allocatedBytesPerLogin(Login login) throws IOException {
+    com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    long before = threadMXBean.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < MEASURED_LOGINS; i++) {
+      login.run();
+    }
+    return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_LOGINS;
+  }
+
+  @FunctionalInterface
+  private interface Login {
+
+    void run() throws IOException;
+  }
+}
@@ -2,9 +2,13 @@ package org.project.portfolio.auth.login.filter;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -21,6 +25,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -36,6 +41,8 @@ import org.springframework.test.web.servlet.ResultActions;
 @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
 public class JsonLoginFilterTest {
 
+  private static final int EMAIL_LOGIN_CAPACITY = 10;
+
   @Autowired
   private MockMvc mockMvc;
   @Autowired
@@ -172,6 +179,71 @@ public class JsonLoginFilterTest {
     resultActions.andExpect(jsonPath("$.detail", containsString(Message.ONLY_SUPPORTED_APPLICATION_JSON)));
   }
 
+  @Test
+  @DisplayName("요청 본문이 최대 크기를 넘을 때, 413 Payload Too Large를 응답해야한다.")
+  public void fail_onOversizedRequestBody_shouldReturn413PayloadTooLarge() throws Exception {
+    // Given: 최대 크기를 넘는 password를 가진 LoginRequestDto가 주어진다.
+    LoginRequestDto oversizedLoginRequestDto = RequestDto.validLoginRequestDto();
+    oversizedLoginRequestDto.setPassword("q1w2e3r4t5!@".repeat(1_000));
+
+    // When: Login API를 호출한다.
+    ResultActions resultActions = callApiWith(oversizedLoginRequestDto, MediaType.APPLICATION_JSON);
+
+    // Then: Status는 413 Payload Too Large이다.
+    resultActions.andExpect(status().isPayloadTooLarge());
+    // And: Response Body로 message를 반환한다.
+    resultActions.andExpect(jsonPath("$.message", is(Message.PAYLOAD_TOO_LARGE)));
+  }
+
+  @Test
+  @DisplayName("필드 길이가 최대 길이를 넘을 때, 400 Bad Request를 응답해야한다.")
+  public void fail_onOverlongFieldInLoginRequestDto_shouldReturn400BadRequest() throws Exception {
+    // Given: 최대 길이를 넘는 password를 가진 LoginRequestDto가 주어진다.
+    LoginRequestDto overlongLoginRequestDto = RequestDto.validLoginRequestDto();
+    overlongLoginRequestDto.setPassword("q1w2e3r4t5!@".repeat(30));
+
+    // When: Login API를 호출한다.
+    ResultActions resultActions = callApiWith(overlongLoginRequestDto, MediaType.APPLICATION_JSON);
+
+    // Then: Status는 400 Bad Request이다.
+    resultActions.andExpect(status().isBadRequest());
+    // And: Response Body로 message와 detail을 반환한다.
+    resultActions.andExpect(jsonPath("$.message", is(Message.BAD_REQUEST)));
+    resultActions.andExpect(jsonPath("$.detail", is(Message.INVALID_REQUEST_BODY)));
+  }
+
+  @Test
+  @DisplayName("같은 email로 허용 횟수를 넘겨 로그인할 때, 비밀번호 검증 없이 429 Too Many Requests를 응답해야한다.")
+  public void fail_onTooManyLoginAttemptsWithSameEmail_shouldReturn429TooManyRequests() throws Exception {
+    // Given: 다른 테스트와 겹치지 않는 email을 가진 LoginRequestDto가 주어진다.
+    LoginRequestDto validLoginRequestDto = RequestDto.validLoginRequestDto();
+    validLoginRequestDto.setEmail("limited@test.kr");
+    // Mocking
+    User mockUser = new User(
+        validLoginRequestDto.getEmail(),
+        validLoginRequestDto.getPassword(),
+        Collections.singleton(new SimpleGrantedAuthority("USER"))
+    );
+    when(authService.loadUserByUsername(validLoginRequestDto.getEmail())).thenReturn(mockUser);
+    when(passwordEncoder.matches(any(), any())).thenReturn(false);
+
+    // When: email 당 허용 횟수만큼 실패한 뒤 한 번 더 Login API를 호출한다.
+    for (int i = 0; i < EMAIL_LOGIN_CAPACITY; i++) {
+      callApiWith(validLoginRequestDto, MediaType.APPLICATION_JSON).andExpect(status().isUnauthorized());
+    }
+    ResultActions resultActions = callApiWith(validLoginRequestDto, MediaType.APPLICATION_JSON);
+
+    // Then: Status는 429 Too Many Requests이다.
+    resultActions.andExpect(status().isTooManyRequests());
+    // And: Retry-After는 email 한도(1분에 10회)의 토큰 하나가 충전될 때까지 남은 초(최대 6초)이다.
+    resultActions.andExpect(header().string(HttpHeaders.RETRY_AFTER, matchesPattern("[1-6]")));
+    // And: Response Body로 message와 detail을 반환한다.
+    resultActions.andExpect(jsonPath("$.message", is(Message.TOO_MANY_REQUESTS)));
+    resultActions.andExpect(jsonPath("$.detail", is(Message.TOO_MANY_LOGIN_ATTEMPTS)));
+    // And: 거부된 요청은 비밀번호를 검증하지 않는다.
+    verify(passwordEncoder, times(EMAIL_LOGIN_CAPACITY)).matches(any(), any());
+  }
+
   private ResultActions callApiWith(LoginRequestDto validLoginRequestDto, MediaType contentType) throws Exception {
     String requestBody = objectMapper.writeValueAsString(validLoginRequestDto);
     return mockMvc.perform(
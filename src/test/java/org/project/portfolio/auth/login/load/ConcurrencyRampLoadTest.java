@@ -0,0 +1,176 @@
+package org.project.portfolio.auth.login.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.helper.dto.RequestDto;
+import org.project.portfolio.helper.load.LatencyRecorder;
+import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@Tag("load")
+@SpringBootTest(
+    classes = PortfolioApplication.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.jpa.show-sql=false",
+        "security.login.rate-limit.enabled=false",
+        "security.password.bcrypt-strength=4",
+        "security.password.verification.queue-capacity=4096"
+    }
+)
+@ActiveProfiles("test")
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class ConcurrencyRampLoadTest {
+
+  private static final int[] CONCURRENCY_LEVELS = Arrays.stream(
+      System.getProperty("load.ramp.levels", "16,32,64,128,256,512").split(","))
+      .mapToInt(Integer::parseInt)
+      .toArray();
+  private static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.ramp.requests-per-client", 20);
+  private static final double TARGET_P99_MILLIS = Double.parseDouble(System.getProperty("load.ramp.p99-millis", "200"));
+  private static final String SIGN_UP_TEMPLATE =
+      "{\"userId\":\"%s\",\"password\":\"q1w2e3r4t5!@\",\"username\":\"테스트\","
+          + "\"email\":\"ramp%d@test.kr\",\"phone\":\"010-1234-5678\"}";
+
+  @LocalServerPort
+  private int port;
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private final AtomicLong signUpSequence = new AtomicLong();
+
+  @BeforeEach
+  public void setUp() {
+    userRepository.save(RequestDto.validSignUpRequestDto().toEntity(passwordEncoder));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    userRepository.deleteAllInBatch();
+  }
+
+  @Test
+  @DisplayName("동시 로그인 수를 늘려가며 p99 latency가 목표 이내인 최대 동시성을 측정한다.")
+  public void maxConcurrentLogins_atTargetP99() throws Exception {
+    HttpRequest loginRequest = HttpRequest.newBuilder(uri("/api/v1/login"))
+        .header("Content-Type", "application/json")
+        .POST(BodyPublishers.ofString(objectMapper.writeValueAsString(RequestDto.validLoginRequestDto())))
+        .build();
+
+    assertRamp("login", () -> loginRequest, 200);
+  }
+
+  @Test
+  @DisplayName("동시 회원 가입 수를 늘려가며 p99 latency가 목표 이내인 최대 동시성을 측정한다.")
+  public void maxConcurrentSignUps_atTargetP99() throws Exception {
+    assertRamp("sign-up", this::signUpRequest, 201);
+  }
+
+  private void assertRamp(String name, Supplier<HttpRequest> requests, int expectedStatus) throws Exception {
+    int maxConcurrencyWithinTarget = 0;
+    List<String> rows = new ArrayList<>();
+    for (int concurrency : CONCURRENCY_LEVELS) {
+      AtomicInteger failures = new AtomicInteger();
+      LatencyRecorder latencyRecorder = runLevel(concurrency, requests, expectedStatus, failures);
+      double p99 = latencyRecorder.percentileMillis(99);
+      rows.add(String.format("%6d %8d %9.2f %9.2f %8d", concurrency, latencyRecorder.count(),
+          latencyRecorder.percentileMillis(50), p99, failures.get()));
+      if (p99 > TARGET_P99_MILLIS || failures.get() > 0) {
+        break;
+      }
+      maxConcurrencyWithinTarget = concurrency;
+    }
+
+    System.out.printf("%s ramp (virtual threads: %s, Java %s)%n", name, virtualThreads, Runtime.version().feature());
+    System.out.println("  conc.    reqs   p50(ms)   p99(ms) failures");
+    rows.forEach(row -> System.out.println("  " + row));
+    System.out.printf("%s: max concurrency with p99 <= %.0fms = %d%n", name, TARGET_P99_MILLIS, maxConcurrencyWithinTarget);
+
+    assertThat(rows).isNotEmpty();
+  }
+
+  private LatencyRecorder runLevel(int concurrency, Supplier<HttpRequest> requests, int expectedStatus,
+      AtomicInteger failures) throws InterruptedException {
+    LatencyRecorder latencyRecorder = new LatencyRecorder();
+    ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int client = 0; client < concurrency; client++) {
+      clients.execute(() -> {
+        try {
+          start.await();
+          for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+            long startNanos = System.nanoTime();
+            int status = httpClient.send(requests.get(), BodyHandlers.discarding()).statusCode();
+            latencyRecorder.record(System.nanoTime() - startNanos);
+            if (status != expectedStatus) {
+              failures.incrementAndGet();
+            }
+          }
+        } catch (Exception e) {
+          failures.incrementAndGet();
+        }
+      });
+    }
+    start.countDown();
+    clients.shutdown();
+    clients.awaitTermination(5, TimeUnit.MINUTES);
+    return latencyRecorder;
+  }
+
+  private HttpRequest signUpRequest() {
+    long sequence = signUpSequence.incrementAndGet();
+    return HttpRequest.newBuilder(uri("/api/v1/signup"))
+        .header("Content-Type", "application/json")
+        .POST(BodyPublishers.ofString(String.format(SIGN_UP_TEMPLATE, lettersOnlyUserId(sequence), sequence)))
+        .build();
+  }
+
+  private String lettersOnlyUserId(long number) {
+    char[] letters = new char[6];
+    letters[0] = 'r';
+    for (int i = letters.length - 1; i > 0; i--) {
+      letters[i] = (char) ('a' + number % 26);
+      number /= 26;
+    }
+    return new String(letters);
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+}
@@ -0,0 +1,136 @@
+package org.project.portfolio.auth.login.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.helper.dto.RequestDto;
+import org.project.portfolio.helper.load.LatencyRecorder;
+import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@Tag("load")
+@SpringBootTest(
+    classes = PortfolioApplication.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {"spring.jpa.show-sql=false", "security.login.rate-limit.enabled=false"}
+)
+@ActiveProfiles("test")
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class LoginStormLoadTest {
+
+  private static final int PROBE_REQUESTS = 2_000;
+  private static final int STORM_THREADS = Runtime.getRuntime().availableProcessors() * 4;
+  private static final long STORM_RAMP_UP_MILLIS = 1_000L;
+  private static final String INVALID_SIGN_UP_BODY = "{\"userId\":\"x\"}";
+
+  @LocalServerPort
+  private int port;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  @BeforeEach
+  public void setUp() {
+    userRepository.save(RequestDto.validSignUpRequestDto().toEntity(passwordEncoder));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    userRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("로그인 요청이 몰릴 때, 로그인이 아닌 API의 p99 latency는 크게 늘어나지 않는다.")
+  public void nonLoginP99_shouldStayFlat_duringLoginStorm() throws Exception {
+    // Given: 로그인 요청이 없을 때의 p99 latency를 측정한다.
+    LatencyRecorder baseline = probeNonLoginEndpoint();
+
+    // When: 로그인 요청을 계속 보내는 동안 다시 측정한다.
+    AtomicBoolean storming = new AtomicBoolean(true);
+    AtomicInteger loginOk = new AtomicInteger();
+    AtomicInteger loginUnavailable = new AtomicInteger();
+    AtomicInteger loginOther = new AtomicInteger();
+    HttpRequest loginRequest = loginRequest();
+    ExecutorService storm = Executors.newFixedThreadPool(STORM_THREADS);
+    for (int i = 0; i < STORM_THREADS; i++) {
+      storm.execute(() -> {
+        while (storming.get()) {
+          try {
+            int status = httpClient.send(loginRequest, BodyHandlers.discarding()).statusCode();
+            (status == 200 ? loginOk : status == 503 ? loginUnavailable : loginOther).incrementAndGet();
+          } catch (Exception e) {
+            loginOther.incrementAndGet();
+          }
+        }
+      });
+    }
+    Thread.sleep(STORM_RAMP_UP_MILLIS);
+    LatencyRecorder duringStorm = probeNonLoginEndpoint();
+    storming.set(false);
+    storm.shutdown();
+    storm.awaitTermination(30, TimeUnit.SECONDS);
+
+    System.out.printf("non-login p50/p99 (ms): baseline=%.2f/%.2f, during login storm=%.2f/%.2f%n",
+        baseline.percentileMillis(50), baseline.percentileMillis(99),
+        duringStorm.percentileMillis(50), duringStorm.percentileMillis(99));
+    System.out.printf("login storm (%d threads): 200=%d, 503=%d, other=%d%n",
+        STORM_THREADS, loginOk.get(), loginUnavailable.get(), loginOther.get());
+
+    // Then: p99 latency는 기준치의 5배 또는 50ms 증가를 넘지 않는다.
+    double baselineP99 = baseline.percentileMillis(99);
+    assertThat(duringStorm.percentileMillis(99)).isLessThan(Math.max(baselineP99 * 5, baselineP99 + 50));
+  }
+
+  private LatencyRecorder probeNonLoginEndpoint() throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/signup"))
+        .header("Content-Type", "application/json")
+        .POST(BodyPublishers.ofString(INVALID_SIGN_UP_BODY))
+        .build();
+    LatencyRecorder latencyRecorder = new LatencyRecorder();
+    for (int i = 0; i < PROBE_REQUESTS; i++) {
+      long startNanos = System.nanoTime();
+      HttpResponse<Void> response = httpClient.send(request, BodyHandlers.discarding());
+      latencyRecorder.record(System.nanoTime() - startNanos);
+      assertThat(response.statusCode()).isEqualTo(400);
+    }
+    return latencyRecorder;
+  }
+
+  private HttpRequest loginRequest() throws Exception {
+    return HttpRequest.newBuilder(uri("/api/v1/login"))
+        .header("Content-Type", "application/json")
+        .POST(BodyPublishers.ofString(objectMapper.writeValueAsString(RequestDto.validLoginRequestDto())))
+        .build();
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+}
@@ -0,0 +1,59 @@
+package org.project.portfolio.auth.login.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.metrics.AuthMetrics;
+import org.project.portfolio.auth.metrics.AuthMetrics.LoginFailure;
+
+public class AuthMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AuthMetrics authMetrics = new AuthMetrics(meterRegistry);
+
+  @Test
+  @DisplayName("AuthMetrics를 생성할 때, 요청 전에 모든 timer와 counter가 등록된다.")
+  public void success_onCreate_shouldPreRegisterAllMeters() {
+    // Then: 로그인 단계별 timer와 JWT 필터 단계별 timer가 등록된다.
+    assertThat(meterRegistry.find("auth.login.step").timers()).hasSize(5);
+    assertThat(meterRegistry.find("auth.jwt.filter.step").timers()).hasSize(3);
+    // And: 실패 원인마다 counter가 등록된다.
+    assertThat(meterRegistry.find("auth.login.failure").counters()).hasSize(LoginFailure.values().length);
+  }
+
+  @Test
+  @DisplayName("로그인이 실패할 때, 매핑된 예외 타입과 status 태그의 counter만 증가한다.")
+  public void success_onLoginFailed_shouldIncrementTaggedCounter() {
+    // When: 잘못된 자격 증명으로 두 번 실패한다.
+    authMetrics.loginFailed(LoginFailure.BAD_CREDENTIALS);
+    authMetrics.loginFailed(LoginFailure.BAD_CREDENTIALS);
+
+    // Then: BadCredentialsException/401 counter만 증가한다.
+    assertThat(meterRegistry.get("auth.login.failure")
+        .tag("exception", "BadCredentialsException")
+        .tag("status", "401")
+        .counter()
+        .count()).isEqualTo(2);
+    assertThat(meterRegistry.get("auth.login.failure")
+        .tag("exception", "TooManyRequestsException")
+        .counter()
+        .count()).isZero();
+  }
+
+  @Test
+  @DisplayName("단계 시간을 기록할 때, 시작 시각부터 경과한 시간이 해당 timer에 기록된다.")
+  public void success_onRecord_shouldRecordElapsedTime() {
+    // Given: 1ms 전에 시작한 단계가 주어진다.
+    long startNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(1);
+
+    // When: 파싱 단계 시간을 기록한다.
+    AuthMetrics.record(authMetrics.getLoginParse(), startNanos);
+
+    // Then: parse timer에 1ms 이상이 기록된다.
+    assertThat(authMetrics.getLoginParse().count()).isEqualTo(1);
+    assertThat(authMetrics.getLoginParse().totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(1);
+  }
+}
@@ -0,0 +1,63 @@
+package org.project.portfolio.auth.login.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.password.PasswordEncoders;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class PasswordEncodersTest {
+
+  private static final String RAW_PASSWORD = "q1w2e3r4t5!@";
+  private static final int ARGON2_MEMORY_KIB = 1024;
+  private static final int ARGON2_ITERATIONS = 1;
+
+  @Test
+  @DisplayName("접두사가 없는 기존 bcrypt 해시일 때, 검증에 성공하고 재해시 대상이 된다.")
+  public void legacyBcryptHash_shouldMatchAndNeedUpgrade() {
+    // Given: 접두사 없이 저장된 bcrypt 해시가 주어진다.
+    PasswordEncoder passwordEncoder = PasswordEncoders.delegating(PasswordEncoders.BCRYPT, 4, ARGON2_MEMORY_KIB, ARGON2_ITERATIONS);
+    String legacyHash = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+
+    // Then: 검증에 성공하고 재해시가 필요하다.
+    assertThat(passwordEncoder.matches(RAW_PASSWORD, legacyHash)).isTrue();
+    assertThat(passwordEncoder.upgradeEncoding(legacyHash)).isTrue();
+  }
+
+  @Test
+  @DisplayName("bcrypt cost가 목표와 다를 때, 높든 낮든 재해시 대상이 된다.")
+  public void bcryptHashWithDifferentCost_shouldNeedUpgrade() {
+    // Given: 목표 cost가 5인 encoder가 주어진다.
+    PasswordEncoder passwordEncoder = PasswordEncoders.delegating(PasswordEncoders.BCRYPT, 5, ARGON2_MEMORY_KIB, ARGON2_ITERATIONS);
+    String lowerCost = PasswordEncoders.delegating(PasswordEncoders.BCRYPT, 4, ARGON2_MEMORY_KIB, ARGON2_ITERATIONS)
+        .encode(RAW_PASSWORD);
+    String higherCost = PasswordEncoders.delegating(PasswordEncoders.BCRYPT, 6, ARGON2_MEMORY_KIB, ARGON2_ITERATIONS)
+        .encode(RAW_PASSWORD);
+    String targetCost = passwordEncoder.encode(RAW_PASSWORD);
+
+    // Then: 목표와 다른 cost만 재해시가 필요하다.
+    assertThat(targetCost).startsWith("{bcrypt}");
+    assertThat(passwordEncoder.upgradeEncoding(lowerCost)).isTrue();
+    assertThat(passwordEncoder.upgradeEncoding(higherCost)).isTrue();
+    assertThat(passwordEncoder.upgradeEncoding(targetCost)).isFalse();
+  }
+
+  @Test
+  @DisplayName("목표 알고리즘이 argon2일 때, bcrypt 해시는 검증에 성공하고 argon2로 재해시 대상이 된다.")
+  public void bcryptHash_whenTargetIsArgon2_shouldMatchAndNeedUpgrade() {
+    // Given: argon2를 목표로 하는 encoder와 bcrypt 해시가 주어진다.
+    PasswordEncoder passwordEncoder = PasswordEncoders.delegating(PasswordEncoders.ARGON2, 4, ARGON2_MEMORY_KIB, ARGON2_ITERATIONS);
+    String bcryptHash = PasswordEncoders.delegating(PasswordEncoders.BCRYPT, 4, ARGON2_MEMORY_KIB, ARGON2_ITERATIONS)
+        .encode(RAW_PASSWORD);
+    String argon2Hash = passwordEncoder.encode(RAW_PASSWORD);
+
+    // Then: bcrypt 해시는 재해시가 필요하고, 새 argon2 해시는 필요하지 않다.
+    assertThat(passwordEncoder.matches(RAW_PASSWORD, bcryptHash)).isTrue();
+    assertThat(passwordEncoder.upgradeEncoding(bcryptHash)).isTrue();
+    assertThat(argon2Hash).startsWith("{argon2}");
+    assertThat(passwordEncoder.matches(RAW_PASSWORD, argon2Hash)).isTrue();
+    assertThat(passwordEncoder.upgradeEncoding(argon2Hash)).isFalse();
+  }
+}
@@ -0,0 +1,84 @@
+package org.project.portfolio.auth.login.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.password.PasswordVerificationExecutor;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.ServiceUnavailableException;
+
+public class PasswordVerificationExecutorTest {
+
+  private final PasswordVerificationExecutor passwordVerificationExecutor = new PasswordVerificationExecutor(1, 1, 1_000L);
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @AfterEach
+  public void tearDown() {
+    release.countDown();
+    passwordVerificationExecutor.shutdown();
+  }
+
+  @Test
+  @DisplayName("여유가 있을 때, 검증 결과를 그대로 반환한다.")
+  public void success_onIdlePool_shouldReturnResult() {
+    // When: 검증 작업을 실행한다.
+    boolean matches = passwordVerificationExecutor.execute(() -> true);
+
+    // Then: 결과를 그대로 반환한다.
+    assertThat(matches).isTrue();
+  }
+
+  @Test
+  @DisplayName("스레드와 큐가 모두 차 있을 때, 기다리지 않고 Exception이 발생한다.")
+  public void fail_onSaturatedPool_shouldThrowServiceUnavailableImmediately() throws InterruptedException {
+    // Given: 하나의 스레드와 하나의 큐 자리를 모두 점유한다.
+    CountDownLatch started = new CountDownLatch(1);
+    new Thread(() -> passwordVerificationExecutor.execute(() -> {
+      started.countDown();
+      release.await();
+      return true;
+    })).start();
+    started.await();
+    new Thread(() -> passwordVerificationExecutor.execute(() -> true)).start();
+    while (passwordVerificationExecutor.getQueueSize() == 0) {
+      Thread.onSpinWait();
+    }
+
+    // When: 검증 작업을 하나 더 실행한다.
+    // Then: ServiceUnavailableException이 발생한다.
+    long startNanos = System.nanoTime();
+    assertThatThrownBy(() -> passwordVerificationExecutor.execute(() -> true))
+        .isInstanceOf(ServiceUnavailableException.class)
+        .hasMessage(Message.LOGIN_SERVICE_BUSY);
+    assertThat(System.nanoTime() - startNanos).isLessThan(100_000_000L);
+  }
+
+  @Test
+  @DisplayName("스레드와 큐가 모두 차 있을 때 대량 작업을 제출하면, 거절하지 않고 호출한 스레드에서 실행한다.")
+  public void success_onSaturatedPoolWithSubmitOrRun_shouldRunOnCallerThread() throws Exception {
+    // Given: 하나의 스레드와 하나의 큐 자리를 모두 점유한다.
+    CountDownLatch started = new CountDownLatch(1);
+    new Thread(() -> passwordVerificationExecutor.execute(() -> {
+      started.countDown();
+      release.await();
+      return true;
+    })).start();
+    started.await();
+    new Thread(() -> passwordVerificationExecutor.execute(() -> true)).start();
+    while (passwordVerificationExecutor.getQueueSize() == 0) {
+      Thread.onSpinWait();
+    }
+
+    // When: 작업을 하나 더 제출한다.
+    Future<Thread> future = passwordVerificationExecutor.submitOrRun(Thread::currentThread);
+
+    // Then: 호출한 스레드에서 이미 실행을 마쳤다.
+    assertThat(future.isDone()).isTrue();
+    assertThat(future.get()).isSameAs(Thread.currentThread());
+  }
+}
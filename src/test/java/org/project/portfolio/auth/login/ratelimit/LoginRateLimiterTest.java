@@ -0,0 +1,55 @@
+package org.project.portfolio.auth.login.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.ratelimit.LoginRateLimiter;
+import org.project.portfolio.auth.ratelimit.TokenBucketLimiter;
+
+public class LoginRateLimiterTest {
+
+  private static final Duration REFILL_PERIOD = Duration.ofMinutes(1);
+
+  @Test
+  @DisplayName("토큰을 모두 쓴 key로 요청할 때, 다음 토큰이 충전될 때까지 남은 시간을 반환한다.")
+  public void fail_onExhaustedBucket_shouldReturnTimeUntilNextToken() {
+    // Given: 1분에 10개가 충전되는 limiter에서 토큰을 모두 쓴다.
+    AtomicLong nanos = new AtomicLong();
+    TokenBucketLimiter limiter = new TokenBucketLimiter(10, REFILL_PERIOD, 100, nanos::get);
+    for (int i = 0; i < 10; i++) {
+      assertThat(limiter.acquire("test@test.kr")).isZero();
+    }
+
+    // When: 바로, 그리고 2초 뒤에 다시 요청한다.
+    long waitNanos = limiter.acquire("test@test.kr");
+    nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+    long waitNanosAfterTwoSeconds = limiter.acquire("test@test.kr");
+
+    // Then: 토큰 하나의 충전 주기(6초)에서 흐른 시간만큼 줄어든 대기 시간을 반환한다.
+    assertThat(waitNanos).isEqualTo(Duration.ofSeconds(6).toNanos());
+    assertThat(waitNanosAfterTwoSeconds).isEqualTo(Duration.ofSeconds(4).toNanos());
+  }
+
+  @Test
+  @DisplayName("email 한도로 거부된 요청일 때, IP 한도는 소모하지 않는다.")
+  public void fail_onEmailLimit_shouldNotSpendIpToken() {
+    // Given: IP는 3회, email은 1회까지 허용하는 limiter가 주어진다.
+    TokenBucketLimiter ipLimiter = new TokenBucketLimiter(3, REFILL_PERIOD, 100, () -> 0L);
+    TokenBucketLimiter emailLimiter = new TokenBucketLimiter(1, REFILL_PERIOD, 100, () -> 0L);
+    LoginRateLimiter loginRateLimiter = new LoginRateLimiter(ipLimiter, emailLimiter);
+
+    // When: 같은 IP에서 한 email로 다섯 번 요청한다.
+    assertThat(loginRateLimiter.acquire("10.0.0.1", "limited@test.kr")).isZero();
+    for (int i = 0; i < 4; i++) {
+      assertThat(loginRateLimiter.acquire("10.0.0.1", "limited@test.kr")).isPositive();
+    }
+
+    // Then: 거부된 네 번은 IP 토큰을 쓰지 않아, 같은 IP의 다른 email은 두 번 더 허용된다.
+    assertThat(loginRateLimiter.tryAcquire("10.0.0.1", "first@test.kr")).isTrue();
+    assertThat(loginRateLimiter.tryAcquire("10.0.0.1", "second@test.kr")).isTrue();
+    assertThat(loginRateLimiter.tryAcquire("10.0.0.1", "third@test.kr")).isFalse();
+  }
+}
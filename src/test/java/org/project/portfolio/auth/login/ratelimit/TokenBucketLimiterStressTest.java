@@ -0,0 +1,114 @@
+package org.project.portfolio.auth.login.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.ratelimit.LoginRateLimiter;
+import org.project.portfolio.auth.ratelimit.TokenBucketLimiter;
+
+public class TokenBucketLimiterStressTest {
+
+  private static final int THREADS = 16;
+  private static final int ATTEMPTS_PER_THREAD = 10_000;
+  private static final int CAPACITY = 10;
+  private static final Duration REFILL_PERIOD = Duration.ofMinutes(1);
+  private static final long EMISSION_INTERVAL_NANOS = REFILL_PERIOD.toNanos() / CAPACITY;
+  private static final long MAXIMUM_KEYS = 10_000;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("여러 스레드가 같은 key로 동시에 요청할 때, 정확히 capacity만큼만 허용한다.")
+  public void accuracy_onConcurrentAttemptsWithSameKey_shouldAllowExactlyCapacity() throws Exception {
+    // Given: 시간이 멈춘 limiter가 주어진다.
+    TokenBucketLimiter limiter = new TokenBucketLimiter(CAPACITY, REFILL_PERIOD, 1_000, () -> 0L);
+
+    // When: 16개의 스레드가 같은 key로 동시에 요청한다.
+    long allowed = runConcurrently(thread -> limiter.tryAcquire("test@test.kr"));
+
+    // Then: 정확히 capacity만큼 허용된다.
+    assertThat(allowed).isEqualTo(CAPACITY);
+  }
+
+  @Test
+  @DisplayName("시간이 흐르는 동안 동시에 요청할 때, capacity와 충전된 토큰의 합만큼만 허용한다.")
+  public void accuracy_onConcurrentAttemptsWhileRefilling_shouldAllowCapacityPlusRefilledTokens() throws Exception {
+    // Given: 요청마다 1/100 토큰 주기씩 흐르는 시계가 주어진다.
+    AtomicLong nanos = new AtomicLong();
+    TokenBucketLimiter limiter = new TokenBucketLimiter(CAPACITY, REFILL_PERIOD, 1_000,
+        () -> nanos.addAndGet(EMISSION_INTERVAL_NANOS / 100));
+
+    // When: 16개의 스레드가 같은 key로 동시에 요청한다.
+    long allowed = runConcurrently(thread -> limiter.tryAcquire("test@test.kr"));
+
+    // Then: 허용 수는 capacity + 흐른 시간 동안 충전된 토큰 수를 넘지 않는다.
+    long refilled = nanos.get() / EMISSION_INTERVAL_NANOS;
+    assertThat(allowed).isBetween(refilled, CAPACITY + refilled);
+  }
+
+  @Test
+  @DisplayName("많은 key로 동시에 요청할 때, 메모리는 최대 key 수로 제한된다.")
+  public void bound_onConcurrentAttemptsWithManyKeys_shouldStayWithinMaximumKeys() throws Exception {
+    // Given: 최대 key 수가 제한된 IP/email limiter가 주어진다.
+    TokenBucketLimiter ipLimiter = new TokenBucketLimiter(CAPACITY, REFILL_PERIOD, MAXIMUM_KEYS);
+    TokenBucketLimiter emailLimiter = new TokenBucketLimiter(CAPACITY, REFILL_PERIOD, MAXIMUM_KEYS);
+    LoginRateLimiter loginRateLimiter = new LoginRateLimiter(ipLimiter, emailLimiter);
+    AtomicLong emails = new AtomicLong();
+
+    // When: 16개의 스레드가 각자의 IP와 매번 다른 email로 요청한다.
+    runConcurrently(thread -> loginRateLimiter.tryAcquire("10.0.0." + thread, "user" + emails.incrementAndGet() + "@test.kr"));
+
+    // Then: 오래된 key가 제거되어 key 수가 최대 key 수로 제한된다.
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (emailLimiter.estimatedSize() > MAXIMUM_KEYS && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(emailLimiter.estimatedSize()).isLessThanOrEqualTo(MAXIMUM_KEYS);
+  }
+
+  private long runConcurrently(Attempt attempt) throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Long>> futures = new ArrayList<>();
+    for (int thread = 0; thread < THREADS; thread++) {
+      int threadNumber = thread;
+      futures.add(executor.submit(() -> {
+        start.await();
+        long allowed = 0;
+        for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+          if (attempt.tryAcquire(threadNumber)) {
+            allowed++;
+          }
+        }
+        return allowed;
+      }));
+    }
+    start.countDown();
+    long allowed = 0;
+    for (Future<Long> future : futures) {
+      allowed += future.get();
+    }
+    return allowed;
+  }
+
+  @FunctionalInterface
+  private interface Attempt {
+
+    boolean tryAcquire(int thread);
+  }
+}
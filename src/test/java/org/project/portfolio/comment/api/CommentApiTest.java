@@ -0,0 +1,245 @@
+package org.project.portfolio.comment.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.project.portfolio.helper.fixture.EntityFixture.user;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.auth.service.JwtService;
+import org.project.portfolio.comment.dto.CommentListResponseDto;
+import org.project.portfolio.comment.dto.CommentRequestDto;
+import org.project.portfolio.comment.dto.CommentResponseDto;
+import org.project.portfolio.global.config.SecurityConfig;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.helper.fixture.DatabaseCleaner;
+import org.project.portfolio.post.entity.Post;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.user.entity.User;
+import org.project.portfolio.user.repository.UserRepository;
+import org.project.portfolio.user.service.UserIdResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = PortfolioApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(SecurityConfig.class)
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class CommentApiTest {
+
+  private static final String AUTHOR_EMAIL = "test@test.kr";
+  private static final String OTHER_EMAIL = "other@test.kr";
+
+  @LocalServerPort
+  private int port;
+  @Value("${jwt.access.header}")
+  private String accessHeader;
+  @Autowired
+  private TestRestTemplate restTemplate;
+  @Autowired
+  private PostRepository postRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private UserIdResolver userIdResolver;
+  @Autowired
+  private JwtService jwtService;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private DatabaseCleaner databaseCleaner;
+  private Long postId;
+
+  @BeforeEach
+  public void setUp() {
+    databaseCleaner = new DatabaseCleaner(jdbcTemplate);
+    databaseCleaner.cleanUp();
+    userIdResolver.invalidate(AUTHOR_EMAIL);
+    userIdResolver.invalidate(OTHER_EMAIL);
+    User author = userRepository.save(user(AUTHOR_EMAIL, "testId"));
+    userRepository.save(user(OTHER_EMAIL, "otherId"));
+    postId = postRepository.save(Post.builder()
+        .author(author)
+        .title("댓글 테스트")
+        .content("내용")
+        .build()).getId();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    databaseCleaner.cleanUp();
+  }
+
+  @Test
+  @DisplayName("댓글을 등록할 때, 201 Created와 Location을 응답하고 목록에 작성자 요약과 함께 조회된다.")
+  public void success_onCreate_shouldListCommentWithAuthorSummary() {
+    // When: 회원이 댓글 등록 API를 호출한다.
+    ResponseEntity<Map> response = restTemplate.exchange(commentsUrl(), HttpMethod.POST,
+        new HttpEntity<>(commentRequest("첫 댓글"), authorized(AUTHOR_EMAIL)), Map.class);
+
+    // Then: Status Code는 201 Created이고 Location이 있다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(response.getHeaders().getLocation().getPath()).startsWith("/api/v1/posts/" + postId + "/comments/");
+    // And: 목록에 작성자 아이디와 이름이 함께 조회된다.
+    List<CommentResponseDto> comments = findComments(null, 20).getComments();
+    assertThat(comments).hasSize(1);
+    assertThat(comments.get(0).getContent()).isEqualTo("첫 댓글");
+    assertThat(comments.get(0).getAuthorId()).isEqualTo("testId");
+    assertThat(comments.get(0).getAuthor()).isEqualTo("테스트");
+  }
+
+  @Test
+  @DisplayName("긴 댓글 목록을 커서로 넘길 때, 등록순으로 누락과 중복 없이 조회되고 마지막 페이지에는 커서가 없다.")
+  public void success_onCursorPagination_shouldWalkThreadWithoutGapsOrDuplicates() {
+    // Given: 댓글 다섯 개를 등록한다.
+    for (int i = 1; i <= 5; i++) {
+      createComment(i % 2 == 0 ? OTHER_EMAIL : AUTHOR_EMAIL, "댓글 " + i);
+    }
+
+    // When: 페이지 크기 2로 끝까지 조회한다.
+    List<String> contents = new ArrayList<>();
+    List<String> cursors = new ArrayList<>();
+    String cursor = null;
+    do {
+      CommentListResponseDto page = findComments(cursor, 2);
+      page.getComments().forEach(comment -> contents.add(comment.getContent()));
+      cursor = page.getNextCursor();
+      cursors.add(cursor);
+    } while (cursor != null);
+
+    // Then: 등록순으로 모든 댓글이 한 번씩 조회되고, 세 번째 페이지에서 끝난다.
+    assertThat(contents).containsExactly("댓글 1", "댓글 2", "댓글 3", "댓글 4", "댓글 5");
+    assertThat(cursors).hasSize(3).last().isNull();
+  }
+
+  @Test
+  @DisplayName("작성자가 댓글을 수정하고 삭제할 때, 수정 내용이 조회되고 삭제한 댓글은 목록에서 제외된다.")
+  public void success_onUpdateAndSoftDeleteByAuthor_shouldApplyChanges() {
+    // Given: 댓글 두 개를 등록한다.
+    URI updated = createComment(AUTHOR_EMAIL, "수정 전");
+    URI deleted = createComment(AUTHOR_EMAIL, "삭제할 댓글");
+
+    // When: 하나는 수정하고 하나는 삭제한다.
+    ResponseEntity<String> updateResponse = restTemplate.exchange(createUrlWithPort(updated.getPath()),
+        HttpMethod.PUT, new HttpEntity<>(commentRequest("수정 후"), authorized(AUTHOR_EMAIL)), String.class);
+    ResponseEntity<String> deleteResponse = restTemplate.exchange(createUrlWithPort(deleted.getPath()),
+        HttpMethod.DELETE, new HttpEntity<>(authorized(AUTHOR_EMAIL)), String.class);
+
+    // Then: 수정·삭제 요청이 성공한다.
+    assertThat(updateResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(deleteResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    // And: 수정한 댓글만 조회된다.
+    assertThat(findComments(null, 20).getComments()).extracting(CommentResponseDto::getContent)
+        .containsExactly("수정 후");
+  }
+
+  @Test
+  @DisplayName("작성자가 아닌 회원이 댓글을 수정하거나 삭제할 때, 403 Forbidden을 응답한다.")
+  public void fail_onUpdateOrDeleteByOtherUser_shouldReturn403Forbidden() {
+    // Given: 작성자가 댓글을 등록한다.
+    URI comment = createComment(AUTHOR_EMAIL, "작성자의 댓글");
+
+    // When: 다른 회원이 수정과 삭제를 요청한다.
+    ResponseEntity<Map> updateResponse = restTemplate.exchange(createUrlWithPort(comment.getPath()),
+        HttpMethod.PUT, new HttpEntity<>(commentRequest("다른 회원의 수정"), authorized(OTHER_EMAIL)), Map.class);
+    ResponseEntity<Map> deleteResponse = restTemplate.exchange(createUrlWithPort(comment.getPath()),
+        HttpMethod.DELETE, new HttpEntity<>(authorized(OTHER_EMAIL)), Map.class);
+
+    // Then: Status Code는 403 Forbidden이고 댓글은 그대로이다.
+    assertThat(updateResponse.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    assertThat(updateResponse.getBody().get("detail")).isEqualTo(Message.NOT_COMMENT_AUTHOR);
+    assertThat(deleteResponse.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    assertThat(findComments(null, 20).getComments()).extracting(CommentResponseDto::getContent)
+        .containsExactly("작성자의 댓글");
+  }
+
+  @Test
+  @DisplayName("인증 없이 댓글을 등록할 때, 401 Unauthorized를 응답한다.")
+  public void fail_onCreateWithoutAuthentication_shouldReturn401Unauthorized() {
+    // When: Access Token 없이 댓글 등록 API를 호출한다.
+    ResponseEntity<Map> response = restTemplate.postForEntity(commentsUrl(), commentRequest("인증 없는 댓글"),
+        Map.class);
+
+    // Then: Status Code는 401 Unauthorized이다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    assertThat(response.getBody().get("message")).isEqualTo(Message.UNAUTHORIZED);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 게시글의 댓글을 조회할 때, 404 Not Found를 응답한다.")
+  public void fail_onMissingPost_shouldReturn404NotFound() {
+    // When: 존재하지 않는 게시글의 댓글 목록 API를 호출한다.
+    ResponseEntity<Map> response = restTemplate.getForEntity(
+        createUrlWithPort("/api/v1/posts/" + (postId + 1000) + "/comments"), Map.class);
+
+    // Then: Status Code는 404 Not Found이다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    assertThat(response.getBody().get("detail")).isEqualTo(Message.NOT_FOUND_POST);
+  }
+
+  @Test
+  @DisplayName("잘못된 페이지 크기나 커서로 댓글을 조회할 때, 400 Bad Request와 댓글 목록 오류 메시지를 응답한다.")
+  public void fail_onInvalidPageSizeOrCursor_shouldReturn400WithCommentMessage() {
+    // When: 페이지 크기가 0이거나 디코딩할 수 없는 커서로 댓글 목록 API를 호출한다.
+    ResponseEntity<Map> sizeResponse = restTemplate.getForEntity(commentsUrl() + "?size=0", Map.class);
+    ResponseEntity<Map> cursorResponse = restTemplate.getForEntity(commentsUrl() + "?cursor=not-a-cursor", Map.class);
+
+    // Then: Status Code는 400 Bad Request이고 게시글이 아닌 댓글 목록 메시지가 반환된다.
+    assertThat(sizeResponse.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(sizeResponse.getBody().get("detail")).isEqualTo(Message.INVALID_COMMENT_PAGE_SIZE);
+    assertThat(cursorResponse.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(cursorResponse.getBody().get("detail")).isEqualTo(Message.INVALID_COMMENT_CURSOR);
+  }
+
+  private URI createComment(String email, String content) {
+    ResponseEntity<String> response = restTemplate.exchange(commentsUrl(), HttpMethod.POST,
+        new HttpEntity<>(commentRequest(content), authorized(email)), String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    return response.getHeaders().getLocation();
+  }
+
+  private CommentListResponseDto findComments(String cursor, int size) {
+    String url = commentsUrl() + "?size=" + size + (cursor == null ? "" : "&cursor=" + cursor);
+    ResponseEntity<CommentListResponseDto> response = restTemplate.getForEntity(url, CommentListResponseDto.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return response.getBody();
+  }
+
+  private HttpHeaders authorized(String email) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(accessHeader, "Bearer " + jwtService.createAccessToken(email, "USER"));
+    return headers;
+  }
+
+  private static CommentRequestDto commentRequest(String content) {
+    return CommentRequestDto.builder()
+        .content(content)
+        .build();
+  }
+
+  private String commentsUrl() {
+    return createUrlWithPort("/api/v1/posts/" + postId + "/comments");
+  }
+
+  private String createUrlWithPort(String uri) {
+    return "http://localhost:" + port + uri;
+  }
+}
@@ -0,0 +1,186 @@
+package org.project.portfolio.comment.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.project.portfolio.helper.fixture.EntityFixture.user;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.auth.service.JwtService;
+import org.project.portfolio.comment.dto.CommentListResponseDto;
+import org.project.portfolio.comment.dto.CommentRequestDto;
+import org.project.portfolio.comment.entity.Comment;
+import org.project.portfolio.comment.repository.CommentRepository;
+import org.project.portfolio.global.config.SecurityConfig;
+import org.project.portfolio.helper.fixture.DatabaseCleaner;
+import org.project.portfolio.helper.query.QueryBudget;
+import org.project.portfolio.post.entity.Post;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.user.entity.User;
+import org.project.portfolio.user.repository.UserRepository;
+import org.project.portfolio.user.service.UserIdResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(classes = PortfolioApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(SecurityConfig.class)
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class CommentQueryBudgetTest {
+
+  private static final int COMMENT_AUTHORS = 25;
+
+  @LocalServerPort
+  private int port;
+  @Value("${jwt.access.header}")
+  private String accessHeader;
+  @Autowired
+  private TestRestTemplate restTemplate;
+  @Autowired
+  private CommentRepository commentRepository;
+  @Autowired
+  private PostRepository postRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private UserIdResolver userIdResolver;
+  @Autowired
+  private JwtService jwtService;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private DatabaseCleaner databaseCleaner;
+  private QueryBudget queryBudget;
+  private Long postId;
+  private Long firstCommentId;
+
+  @BeforeEach
+  public void setUp() {
+    databaseCleaner = new DatabaseCleaner(jdbcTemplate);
+    databaseCleaner.cleanUp();
+    queryBudget = new QueryBudget(entityManagerFactory);
+
+    // 작성자가 모두 다른 댓글을 달아, 작성자를 지연 로딩하면 댓글 수만큼 쿼리가 늘어나게 한다.
+    List<User> authors = new ArrayList<>();
+    for (int i = 0; i < COMMENT_AUTHORS; i++) {
+      userIdResolver.invalidate("user" + i + "@test.kr");
+      authors.add(userRepository.save(user("user" + i + "@test.kr", "user" + i)));
+    }
+    Post post = postRepository.save(Post.builder()
+        .author(authors.get(0))
+        .title("쿼리 수 테스트")
+        .content("내용")
+        .build());
+    postId = post.getId();
+    for (User author : authors) {
+      Comment comment = commentRepository.save(Comment.builder()
+          .post(post)
+          .author(author)
+          .content(author.getUserId() + "의 댓글")
+          .build());
+      if (firstCommentId == null) {
+        firstCommentId = comment.getId();
+      }
+    }
+  }
+
+  @AfterEach
+  public void tearDown() {
+    databaseCleaner.cleanUp();
+  }
+
+  @Test
+  @DisplayName("작성자가 모두 다른 댓글 목록을 조회할 때, 페이지마다 게시글 확인과 댓글 조회 두 번의 쿼리만 실행한다.")
+  public void success_onCommentThread_shouldStayWithinQueryBudget() {
+    // When: 첫 페이지와 다음 페이지를 조회한다.
+    CommentListResponseDto firstPage = queryBudget.expectAtMost(2, () -> findComments(null));
+    CommentListResponseDto secondPage = queryBudget.expectAtMost(2, () -> findComments(firstPage.getNextCursor()));
+
+    // Then: 모든 댓글이 작성자 요약과 함께 조회된다.
+    assertThat(firstPage.getComments()).hasSize(20).allSatisfy(comment -> assertThat(comment.getAuthorId()).isNotNull());
+    assertThat(secondPage.getComments()).hasSize(COMMENT_AUTHORS - 20);
+    assertThat(secondPage.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("댓글을 등록하고 수정할 때, 정해진 쿼리 수 안에서 처리한다.")
+  public void success_onCreateAndUpdate_shouldStayWithinQueryBudget() {
+    // When: 작성자 ID 조회, 게시글 확인, 시퀀스, INSERT 안에서 등록한다.
+    ResponseEntity<String> createResponse = queryBudget.expectAtMost(4, () -> restTemplate.exchange(
+        commentsUrl(), HttpMethod.POST, new HttpEntity<>(commentRequest("새 댓글"), authorized("user0@test.kr")),
+        String.class));
+    // And: 댓글과 작성자를 함께 읽는 SELECT와 UPDATE 안에서 수정한다.
+    ResponseEntity<String> updateResponse = queryBudget.expectAtMost(2, () -> restTemplate.exchange(
+        commentsUrl() + "/" + firstCommentId, HttpMethod.PUT,
+        new HttpEntity<>(commentRequest("수정한 댓글"), authorized("user0@test.kr")), String.class));
+
+    // Then: 요청은 모두 성공한다.
+    assertThat(createResponse.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    assertThat(updateResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+  }
+
+  @Test
+  @DisplayName("댓글마다 작성자를 지연 로딩할 때, 쿼리 수 예산을 넘어 테스트가 실패한다.")
+  public void fail_onLazyLoadedAuthors_shouldExceedQueryBudget() {
+    // When: 댓글 엔티티를 읽은 뒤 작성자 이름을 하나씩 꺼내는 N+1 조회를 예산 2로 실행한다.
+    // Then: 예산 초과로 AssertionError가 발생한다.
+    assertThatThrownBy(() -> queryBudget.expectAtMost(2, () -> transactionTemplate.execute(status -> {
+      List<String> authors = new ArrayList<>();
+      for (Comment comment : commentRepository.findAll()) {
+        authors.add(comment.getAuthor().getUsername());
+      }
+      return authors;
+    }))).isInstanceOf(AssertionError.class)
+        .hasMessageContaining("SQL statements executed by the request");
+  }
+
+  private CommentListResponseDto findComments(String cursor) {
+    String url = commentsUrl() + "?size=20" + (cursor == null ? "" : "&cursor=" + cursor);
+    ResponseEntity<CommentListResponseDto> response = restTemplate.getForEntity(url, CommentListResponseDto.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return response.getBody();
+  }
+
+  private HttpHeaders authorized(String email) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(accessHeader, "Bearer " + jwtService.createAccessToken(email, "USER"));
+    return headers;
+  }
+
+  private static CommentRequestDto commentRequest(String content) {
+    return CommentRequestDto.builder()
+        .content(content)
+        .build();
+  }
+
+  private String commentsUrl() {
+    return createUrlWithPort("/api/v1/posts/" + postId + "/comments");
+  }
+
+  private String createUrlWithPort(String uri) {
+    return "http://localhost:" + port + uri;
+  }
+}
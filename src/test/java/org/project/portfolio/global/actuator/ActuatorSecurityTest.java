@@ -0,0 +1,78 @@
+package org.project.portfolio.global.actuator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.auth.service.JwtService;
+import org.project.portfolio.global.config.SecurityConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = PortfolioApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(SecurityConfig.class)
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class ActuatorSecurityTest {
+
+  @LocalServerPort
+  private int port;
+  @Value("${jwt.access.header}")
+  private String accessHeader;
+  @Autowired
+  private TestRestTemplate restTemplate;
+  @Autowired
+  private JwtService jwtService;
+
+  @Test
+  @DisplayName("인증 없이 prometheus 지표를 조회할 때, 401 Unauthorized를 응답한다.")
+  public void fail_onAnonymousPrometheusScrape_shouldReturn401Unauthorized() {
+    // When: Access Token 없이 /actuator/prometheus를 호출한다.
+    ResponseEntity<String> response = restTemplate.getForEntity(createUrlWithPort("/actuator/prometheus"),
+        String.class);
+
+    // Then: Status Code는 401 Unauthorized이고 지표는 노출되지 않는다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    assertThat(response.getBody()).doesNotContain("auth_login_failure");
+  }
+
+  @Test
+  @DisplayName("일반 회원이 prometheus 지표를 조회할 때, 403 Forbidden을 응답한다.")
+  public void fail_onUserPrometheusScrape_shouldReturn403Forbidden() {
+    // When: USER 권한의 Access Token으로 /actuator/prometheus를 호출한다.
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(accessHeader, "Bearer " + jwtService.createAccessToken("test@test.kr", "USER"));
+    ResponseEntity<String> response = restTemplate.exchange(createUrlWithPort("/actuator/prometheus"),
+        HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+    // Then: Status Code는 403 Forbidden이다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+  }
+
+  @Test
+  @DisplayName("인증 없이 health를 조회할 때, 200 OK를 응답한다.")
+  public void success_onAnonymousHealthCheck_shouldReturn200Ok() {
+    // When: Access Token 없이 /actuator/health를 호출한다.
+    ResponseEntity<String> response = restTemplate.getForEntity(createUrlWithPort("/actuator/health"),
+        String.class);
+
+    // Then: Status Code는 200 OK이다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+  }
+
+  private String createUrlWithPort(String uri) {
+    return "http://localhost:" + port + uri;
+  }
+}
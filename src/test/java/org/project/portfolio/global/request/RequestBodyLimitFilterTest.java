@@ -0,0 +1,102 @@
+package org.project.portfolio.global.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.global.response.ResponseBodyRegistry;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class RequestBodyLimitFilterTest {
+
+  @Test
+  @DisplayName("제한된 본문을 ReadListener로 읽을 때, 본문 전체를 읽은 뒤 읽기 완료를 알린다.")
+  public void success_onReadListener_shouldDeliverBufferedBodyAndCompletion() throws Exception {
+    // Given: 크기 제한 안의 로그인 요청이 필터를 통과한다.
+    byte[] body = "{\"email\":\"test@test.kr\"}".getBytes(StandardCharsets.UTF_8);
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/login");
+    request.setServletPath("/api/v1/login");
+    request.setContent(body);
+    MockFilterChain filterChain = new MockFilterChain();
+    new RequestBodyLimitFilter(1024, 4096, new ResponseBodyRegistry(new ObjectMapper()))
+        .doFilter(request, new MockHttpServletResponse(), filterChain);
+    assertThat(filterChain.getRequest()).isNotSameAs(request);
+    ServletInputStream inputStream = filterChain.getRequest().getInputStream();
+
+    // When: 비동기 방식으로 ReadListener를 등록한다.
+    ByteArrayOutputStream read = new ByteArrayOutputStream();
+    List<String> callbacks = new ArrayList<>();
+    inputStream.setReadListener(new ReadListener() {
+      @Override
+      public void onDataAvailable() throws IOException {
+        callbacks.add("data");
+        byte[] buffer = new byte[8];
+        while (inputStream.isReady() && !inputStream.isFinished()) {
+          int length = inputStream.read(buffer);
+          read.write(buffer, 0, length);
+        }
+      }
+
+      @Override
+      public void onAllDataRead() {
+        callbacks.add("done");
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+        callbacks.add("error");
+      }
+    });
+
+    // Then: 본문 전체가 전달되고, 데이터와 완료 콜백이 순서대로 호출된다.
+    assertThat(read.toByteArray()).isEqualTo(body);
+    assertThat(callbacks).containsExactly("data", "done");
+  }
+
+  @Test
+  @DisplayName("대량 가입 요청의 선언된 크기가 제한을 넘을 때, 본문을 읽지 않고 413을 응답한다.")
+  public void fail_onOversizedBulkContentLength_shouldRejectWithoutReading() throws Exception {
+    // Given: 선언된 크기가 대량 가입 제한보다 큰 요청이 있다.
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/signup/bulk");
+    request.setServletPath("/api/v1/signup/bulk");
+    request.setContent(new byte[4097]);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain filterChain = new MockFilterChain();
+
+    // When: 필터를 통과시킨다.
+    new RequestBodyLimitFilter(1024, 4096, new ResponseBodyRegistry(new ObjectMapper()))
+        .doFilter(request, response, filterChain);
+
+    // Then: Status Code는 413이고, 다음 필터로 넘어가지 않는다.
+    assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+    assertThat(filterChain.getRequest()).isNull();
+  }
+
+  @Test
+  @DisplayName("대량 가입 요청이 제한 안일 때, 본문을 메모리에 모으지 않고 그대로 넘긴다.")
+  public void success_onBulkWithinLimit_shouldPassRequestThroughUnbuffered() throws Exception {
+    // Given: 로그인 본문 제한보다 크지만 대량 가입 제한 안인 요청이 있다.
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/signup/bulk");
+    request.setServletPath("/api/v1/signup/bulk");
+    request.setContent(new byte[2048]);
+    MockFilterChain filterChain = new MockFilterChain();
+
+    // When: 필터를 통과시킨다.
+    new RequestBodyLimitFilter(1024, 4096, new ResponseBodyRegistry(new ObjectMapper()))
+        .doFilter(request, new MockHttpServletResponse(), filterChain);
+
+    // Then: 원래 요청이 그대로 다음 필터로 넘어간다.
+    assertThat(filterChain.getRequest()).isSameAs(request);
+  }
+}
@@ -0,0 +1,59 @@
+package org.project.portfolio.global.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.auth.codec.LoginJsonCodec;
+import org.project.portfolio.auth.dto.LoginResponseDto;
+import org.project.portfolio.global.constants.Message;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ResponseBodyRegistryTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final LoginJsonCodec loginJsonCodec = new LoginJsonCodec(objectMapper);
+
+  @Test
+  @DisplayName("미리 직렬화한 응답은 매번 직렬화한 응답과 같은 JSON이다.")
+  public void success_onPrecomputedBody_shouldMatchStreamingSerialization() throws IOException {
+    // Given: 상수 메시지로만 이루어진 응답이 등록된 registry가 주어진다.
+    ResponseBodyRegistry responseBodyRegistry = new ResponseBodyRegistry(objectMapper);
+
+    // When: 미리 직렬화한 응답과 매번 직렬화한 응답을 만든다.
+    ResponseEntity<byte[]> created = responseBodyRegistry.find(Message.CREATED).toResponseEntity(HttpStatus.CREATED);
+    MockHttpServletResponse alreadyLogin = new MockHttpServletResponse();
+    responseBodyRegistry.find(Message.FORBIDDEN, Message.ALREADY_LOGIN).writeTo(alreadyLogin);
+
+    // Then: 두 응답의 바이트는 같다.
+    assertThat(created.getBody()).isEqualTo(objectMapper.writeValueAsBytes(Map.of("message", Message.CREATED)));
+    assertThat(alreadyLogin.getContentAsByteArray()).isEqualTo(streamed(Message.FORBIDDEN, Message.ALREADY_LOGIN));
+    assertThat(alreadyLogin.getContentLength()).isEqualTo(alreadyLogin.getContentAsByteArray().length);
+  }
+
+  @Test
+  @DisplayName("동적인 detail을 가진 응답은 registry에 없으므로 매번 직렬화해야 한다.")
+  public void fail_onDynamicDetail_shouldFallBackToStreaming() throws IOException {
+    // Given: 상수 메시지로만 이루어진 응답이 등록된 registry가 주어진다.
+    ResponseBodyRegistry responseBodyRegistry = new ResponseBodyRegistry(objectMapper);
+
+    // When: 검증 오류처럼 요청마다 달라지는 detail로 조회한다.
+    PrecomputedResponseBody responseBody = responseBodyRegistry.find(Message.BAD_REQUEST,
+        String.join(", ", Message.INVALID_EMAIL, Message.INVALID_PASSWORD));
+
+    // Then: 조회 결과가 없다.
+    assertThat(responseBody).isNull();
+  }
+
+  private byte[] streamed(String message, String detail) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    loginJsonCodec.writeLoginResponse(outputStream, LoginResponseDto.builder().message(message).detail(detail).build());
+    return outputStream.toByteArray();
+  }
+}
@@ -0,0 +1,22 @@
+package org.project.portfolio.helper.fixture;
+
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 외래 키가 걸린 자식 테이블부터 비워, 어떤 테스트 데이터가 남아 있어도 순서 문제 없이 지운다.
+public class DatabaseCleaner {
+
+  private static final List<String> TABLES = List.of("comments", "post_likes", "posts", "users");
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public DatabaseCleaner(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public void cleanUp() {
+    for (String table : TABLES) {
+      jdbcTemplate.update("delete from " + table);
+    }
+  }
+}
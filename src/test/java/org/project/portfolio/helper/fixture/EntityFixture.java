@@ -0,0 +1,16 @@
+package org.project.portfolio.helper.fixture;
+
+import org.project.portfolio.user.entity.User;
+
+public class EntityFixture {
+
+  public static User user(String email, String userId) {
+    return User.builder()
+        .email(email)
+        .password("password")
+        .userId(userId)
+        .username("테스트")
+        .phone("010-1234-5678")
+        .build();
+  }
+}
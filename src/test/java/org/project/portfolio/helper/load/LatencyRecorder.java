@@ -0,0 +1,28 @@
+package org.project.portfolio.helper.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+public class LatencyRecorder {
+
+  private static final int SIGNIFICANT_VALUE_DIGITS = 3;
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final Histogram histogram = new ConcurrentHistogram(SIGNIFICANT_VALUE_DIGITS);
+
+  public void record(long latencyNanos) {
+    histogram.recordValue(Math.max(latencyNanos, 0));
+  }
+
+  public int count() {
+    return (int) histogram.getTotalCount();
+  }
+
+  public double percentileMillis(double percentile) {
+    return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+  }
+
+  public double maxMillis() {
+    return histogram.getMaxValue() / NANOS_PER_MILLI;
+  }
+}
@@ -0,0 +1,85 @@
+package org.project.portfolio.helper.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+public class LoadGenerator {
+
+  private static final long RANDOM_SEED = 42L;
+
+  private final HttpClient httpClient;
+  private final List<Operation> operations = new ArrayList<>();
+  private int totalWeight;
+
+  public LoadGenerator(HttpClient httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  public LoadGenerator operation(String name, int weight, int expectedStatus, Supplier<HttpRequest> request) {
+    if (weight > 0) {
+      operations.add(new Operation(name, weight, expectedStatus, request));
+      totalWeight += weight;
+    }
+    return this;
+  }
+
+  public LoadReport run(int requestsPerSecond, Duration duration) {
+    LoadReport loadReport = new LoadReport(operations.stream().map(Operation::name).toList());
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+    long totalRequests = duration.getSeconds() * requestsPerSecond;
+    List<CompletableFuture<?>> inFlight = new ArrayList<>((int) totalRequests);
+    Random random = new Random(RANDOM_SEED);
+
+    long startNanos = System.nanoTime();
+    for (long i = 0; i < totalRequests; i++) {
+      long intendedStartNanos = startNanos + i * intervalNanos;
+      parkUntil(intendedStartNanos);
+      Operation operation = pick(random);
+      HttpRequest request = operation.request().get();
+      inFlight.add(httpClient.sendAsync(request, BodyHandlers.discarding()).whenComplete((response, throwable) -> {
+        long latencyNanos = System.nanoTime() - intendedStartNanos;
+        if (throwable != null) {
+          loadReport.recordError(operation.name(), throwable.getClass().getSimpleName(), latencyNanos);
+        } else if (response.statusCode() != operation.expectedStatus()) {
+          loadReport.recordError(operation.name(), "HTTP " + response.statusCode(), latencyNanos);
+        } else {
+          loadReport.recordSuccess(operation.name(), latencyNanos);
+        }
+      }));
+    }
+    CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).exceptionally(throwable -> null).join();
+    loadReport.finish(System.nanoTime() - startNanos);
+    return loadReport;
+  }
+
+  private Operation pick(Random random) {
+    int ticket = random.nextInt(totalWeight);
+    for (Operation operation : operations) {
+      ticket -= operation.weight();
+      if (ticket < 0) {
+        return operation;
+      }
+    }
+    throw new IllegalStateException("no operation configured");
+  }
+
+  private void parkUntil(long deadlineNanos) {
+    long remainingNanos;
+    while ((remainingNanos = deadlineNanos - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remainingNanos);
+    }
+  }
+
+  private record Operation(String name, int weight, int expectedStatus, Supplier<HttpRequest> request) {
+
+  }
+}
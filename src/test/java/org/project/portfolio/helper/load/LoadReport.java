@@ -0,0 +1,83 @@
+package org.project.portfolio.helper.load;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LoadReport {
+
+  private final Map<String, LatencyRecorder> latencies = new LinkedHashMap<>();
+  private final Map<String, LongAdder> successes = new LinkedHashMap<>();
+  private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+  private final LatencyRecorder overall = new LatencyRecorder();
+  private long elapsedNanos;
+
+  LoadReport(List<String> operationNames) {
+    for (String operationName : operationNames) {
+      latencies.put(operationName, new LatencyRecorder());
+      successes.put(operationName, new LongAdder());
+    }
+  }
+
+  void recordSuccess(String operationName, long latencyNanos) {
+    successes.get(operationName).increment();
+    record(operationName, latencyNanos);
+  }
+
+  void recordError(String operationName, String reason, long latencyNanos) {
+    errors.computeIfAbsent(operationName + " " + reason, key -> new LongAdder()).increment();
+    record(operationName, latencyNanos);
+  }
+
+  void finish(long elapsedNanos) {
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public long totalRequests() {
+    return overall.count();
+  }
+
+  public long totalErrors() {
+    return errors.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  public double throughputPerSecond() {
+    return overall.count() / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
+  public LatencyRecorder latency(String operationName) {
+    return latencies.get(operationName);
+  }
+
+  public String format() {
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("requests=%d, errors=%d, elapsed=%.1fs, throughput=%.1f req/s%n",
+        totalRequests(), totalErrors(), elapsedNanos / 1e9, throughputPerSecond()));
+    report.append(String.format("%-14s %8s %8s %9s %9s %9s %9s%n",
+        "operation", "count", "ok", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+    appendRow(report, "all", overall, totalRequests() - totalErrors());
+    latencies.forEach((operationName, latencyRecorder) ->
+        appendRow(report, operationName, latencyRecorder, successes.get(operationName).sum()));
+    if (!errors.isEmpty()) {
+      report.append("errors:").append(System.lineSeparator());
+      new TreeMap<>(errors).forEach((reason, count) ->
+          report.append(String.format("  %-40s %8d%n", reason, count.sum())));
+    }
+    return report.toString();
+  }
+
+  private void record(String operationName, long latencyNanos) {
+    latencies.get(operationName).record(latencyNanos);
+    overall.record(latencyNanos);
+  }
+
+  private void appendRow(StringBuilder report, String name, LatencyRecorder latencyRecorder, long ok) {
+    report.append(String.format("%-14s %8d %8d %9.2f %9.2f %9.2f %9.2f%n", name, latencyRecorder.count(), ok,
+        latencyRecorder.percentileMillis(50), latencyRecorder.percentileMillis(99),
+        latencyRecorder.percentileMillis(99.9), latencyRecorder.maxMillis()));
+  }
+}
@@ -0,0 +1,30 @@
+package org.project.portfolio.helper.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+// 요청 하나가 DB로 보낸 SQL 문 수를 Hibernate 통계로 세고, 예산을 넘으면 테스트(와 빌드)를 실패시킨다.
+// 통계는 SessionFactory 전역 값이므로 측정 구간에 다른 요청이 끼어들지 않는 테스트에서만 사용한다.
+public class QueryBudget {
+
+  private final Statistics statistics;
+
+  public QueryBudget(EntityManagerFactory entityManagerFactory) {
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    this.statistics.setStatisticsEnabled(true);
+  }
+
+  public <T> T expectAtMost(long budget, Supplier<T> request) {
+    statistics.clear();
+    T result = request.get();
+    long statements = statistics.getPrepareStatementCount();
+    assertThat(statements)
+        .as("SQL statements executed by the request (budget %d)", budget)
+        .isLessThanOrEqualTo(budget);
+    return result;
+  }
+}
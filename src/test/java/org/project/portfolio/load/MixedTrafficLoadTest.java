@@ -0,0 +1,135 @@
+package org.project.portfolio.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.auth.dto.LoginResponseDto;
+import org.project.portfolio.helper.dto.RequestDto;
+import org.project.portfolio.helper.load.LoadGenerator;
+import org.project.portfolio.helper.load.LoadReport;
+import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@Tag("load")
+@SpringBootTest(
+    classes = PortfolioApplication.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.jpa.show-sql=false",
+        "security.login.rate-limit.enabled=false",
+        "security.password.bcrypt-strength=4",
+        "security.password.verification.queue-capacity=4096"
+    }
+)
+@ActiveProfiles("test")
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class MixedTrafficLoadTest {
+
+  private static final int REQUESTS_PER_SECOND = Integer.getInteger("load.rate", 100);
+  private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30));
+  private static final int SIGN_UP_WEIGHT = Integer.getInteger("load.mix.signup", 1);
+  private static final int LOGIN_WEIGHT = Integer.getInteger("load.mix.login", 2);
+  private static final int AUTHENTICATED_WEIGHT = Integer.getInteger("load.mix.authenticated", 7);
+  private static final double MAX_ERROR_RATIO = Double.parseDouble(System.getProperty("load.max-error-ratio", "0.01"));
+  private static final String AUTHENTICATED_PATH = System.getProperty("load.authenticated-path", "/actuator/health");
+  private static final String SIGN_UP_TEMPLATE =
+      "{\"userId\":\"%s\",\"password\":\"q1w2e3r4t5!@\",\"username\":\"테스트\","
+          + "\"email\":\"load%d@test.kr\",\"phone\":\"010-1234-5678\"}";
+
+  @LocalServerPort
+  private int port;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private final AtomicLong signUpSequence = new AtomicLong();
+
+  @BeforeEach
+  public void setUp() {
+    userRepository.save(RequestDto.validSignUpRequestDto().toEntity(passwordEncoder));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    userRepository.deleteAllInBatch();
+  }
+
+  @Test
+  @DisplayName("sign-up/login/JWT 인증 요청을 목표 처리량으로 섞어 보낼 때의 latency와 오류를 측정한다.")
+  public void mixedTraffic_atTargetRate() throws Exception {
+    // Given: 로그인 요청과 Access Token이 붙은 요청이 주어진다.
+    HttpRequest loginRequest = HttpRequest.newBuilder(uri("/api/v1/login"))
+        .header("Content-Type", "application/json")
+        .POST(BodyPublishers.ofString(objectMapper.writeValueAsString(RequestDto.validLoginRequestDto())))
+        .build();
+    HttpRequest authenticatedRequest = HttpRequest.newBuilder(uri(AUTHENTICATED_PATH))
+        .header("Authorization", "Bearer " + accessToken(loginRequest))
+        .GET()
+        .build();
+    LoadGenerator loadGenerator = new LoadGenerator(httpClient)
+        .operation("signup", SIGN_UP_WEIGHT, 201, this::signUpRequest)
+        .operation("login", LOGIN_WEIGHT, 200, () -> loginRequest)
+        .operation("authenticated", AUTHENTICATED_WEIGHT, 200, () -> authenticatedRequest);
+
+    // When: 목표 처리량으로 정해진 시간 동안 요청한다.
+    LoadReport loadReport = loadGenerator.run(REQUESTS_PER_SECOND, DURATION);
+    System.out.printf("mixed traffic at %d req/s for %ds (signup:login:authenticated = %d:%d:%d)%n",
+        REQUESTS_PER_SECOND, DURATION.getSeconds(), SIGN_UP_WEIGHT, LOGIN_WEIGHT, AUTHENTICATED_WEIGHT);
+    System.out.print(loadReport.format());
+
+    // Then: 모든 요청이 완료되고 오류 비율은 허용치 이하이다.
+    assertThat(loadReport.totalRequests()).isEqualTo(REQUESTS_PER_SECOND * DURATION.getSeconds());
+    assertThat(loadReport.totalErrors()).isLessThanOrEqualTo((long) (loadReport.totalRequests() * MAX_ERROR_RATIO));
+  }
+
+  private String accessToken(HttpRequest loginRequest) throws Exception {
+    HttpResponse<String> response = httpClient.send(loginRequest, BodyHandlers.ofString());
+    assertThat(response.statusCode()).isEqualTo(200);
+    return objectMapper.readValue(response.body(), LoginResponseDto.class).getAccessToken();
+  }
+
+  private HttpRequest signUpRequest() {
+    long sequence = signUpSequence.incrementAndGet();
+    return HttpRequest.newBuilder(uri("/api/v1/signup"))
+        .header("Content-Type", "application/json")
+        .POST(BodyPublishers.ofString(String.format(SIGN_UP_TEMPLATE, lettersOnlyUserId(sequence), sequence)))
+        .build();
+  }
+
+  private String lettersOnlyUserId(long number) {
+    char[] letters = new char[6];
+    letters[0] = 'l';
+    for (int i = letters.length - 1; i > 0; i--) {
+      letters[i] = (char) ('a' + number % 26);
+      number /= 26;
+    }
+    return new String(letters);
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+}
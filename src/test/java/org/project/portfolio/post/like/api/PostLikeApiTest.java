@@ -0,0 +1,218 @@
+package org.project.portfolio.post.like.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.project.portfolio.helper.fixture.EntityFixture.user;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.auth.service.JwtService;
+import org.project.portfolio.global.config.SecurityConfig;
+import org.project.portfolio.helper.fixture.DatabaseCleaner;
+import org.project.portfolio.post.dto.PostDetailResponseDto;
+import org.project.portfolio.post.dto.PostLikeResponseDto;
+import org.project.portfolio.post.entity.Post;
+import org.project.portfolio.post.like.LikeEvent;
+import org.project.portfolio.post.like.LikeEventFlusher;
+import org.project.portfolio.post.repository.PostLikeBatchRepository;
+import org.project.portfolio.post.repository.PostLikeRepository;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.user.entity.User;
+import org.project.portfolio.user.repository.UserRepository;
+import org.project.portfolio.user.service.UserIdResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = PortfolioApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(SecurityConfig.class)
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class PostLikeApiTest {
+
+  @LocalServerPort
+  private int port;
+  @Value("${jwt.access.header}")
+  private String accessHeader;
+  @Autowired
+  private TestRestTemplate restTemplate;
+  @Autowired
+  private PostRepository postRepository;
+  @Autowired
+  private PostLikeRepository postLikeRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private UserIdResolver userIdResolver;
+  @Autowired
+  private JwtService jwtService;
+  @Autowired
+  private LikeEventFlusher likeEventFlusher;
+  @Autowired
+  private PostLikeBatchRepository postLikeBatchRepository;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private DatabaseCleaner databaseCleaner;
+  private Long postId;
+
+  @BeforeEach
+  public void setUp() {
+    databaseCleaner = new DatabaseCleaner(jdbcTemplate);
+    databaseCleaner.cleanUp();
+    userIdResolver.invalidate("test@test.kr");
+    userIdResolver.invalidate("other@test.kr");
+    User author = userRepository.save(user("test@test.kr", "testId"));
+    userRepository.save(user("other@test.kr", "otherId"));
+    postId = postRepository.save(Post.builder()
+        .author(author)
+        .title("좋아요 테스트")
+        .content("내용")
+        .build()).getId();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    likeEventFlusher.flush();
+    databaseCleaner.cleanUp();
+  }
+
+  @Test
+  @DisplayName("같은 회원이 좋아요를 여러 번 누를 때, 좋아요 수는 한 번만 증가하고 flush 후 DB와 일치한다.")
+  public void success_onRepeatedLikesBySameUser_shouldCountOnce() {
+    // Given: 두 회원이 있다.
+
+    // When: 한 회원이 좋아요를 두 번, 다른 회원이 한 번 누른다.
+    PostLikeResponseDto first = like(HttpMethod.PUT, "test@test.kr");
+    PostLikeResponseDto second = like(HttpMethod.PUT, "test@test.kr");
+    PostLikeResponseDto other = like(HttpMethod.PUT, "other@test.kr");
+
+    // Then: 같은 회원의 반복 좋아요는 좋아요 수를 올리지 않는다.
+    assertThat(first.isLiked()).isTrue();
+    assertThat(first.getLikeCount()).isEqualTo(1L);
+    assertThat(second.getLikeCount()).isEqualTo(1L);
+    assertThat(other.getLikeCount()).isEqualTo(2L);
+    // And: flush 후 좋아요 행과 게시글의 좋아요 수가 기록된다.
+    likeEventFlusher.flush();
+    assertThat(postLikeRepository.findUserIdsByPostId(postId)).hasSize(2);
+    assertThat(postRepository.findById(postId).orElseThrow().getLikeCount()).isEqualTo(2L);
+    assertThat(detail().getLikeCount()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("좋아요를 취소할 때, 좋아요 수가 줄고 반복 취소는 영향이 없으며 flush 후 DB와 일치한다.")
+  public void success_onUnlike_shouldDecreaseCountIdempotently() {
+    // Given: 두 회원이 좋아요를 누르고 DB에 기록되었다.
+    like(HttpMethod.PUT, "test@test.kr");
+    like(HttpMethod.PUT, "other@test.kr");
+    likeEventFlusher.flush();
+
+    // When: 한 회원이 좋아요를 두 번 취소한다.
+    PostLikeResponseDto first = like(HttpMethod.DELETE, "test@test.kr");
+    PostLikeResponseDto second = like(HttpMethod.DELETE, "test@test.kr");
+
+    // Then: 좋아요 수는 한 번만 줄어든다.
+    assertThat(first.isLiked()).isFalse();
+    assertThat(first.getLikeCount()).isEqualTo(1L);
+    assertThat(second.getLikeCount()).isEqualTo(1L);
+    // And: flush 후 취소한 회원의 좋아요 행이 삭제된다.
+    likeEventFlusher.flush();
+    assertThat(postLikeRepository.findUserIdsByPostId(postId)).hasSize(1);
+    assertThat(postRepository.findById(postId).orElseThrow().getLikeCount()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("이미 기록된 배치를 다시 적용할 때, 실제로 바뀐 행이 없으므로 좋아요 수는 그대로이다.")
+  public void success_onReappliedBatch_shouldAddOnlyNetDelta() {
+    // Given: 한 회원의 좋아요와 다른 회원의 취소가 담긴 배치가 기록되었다.
+    Long userId = userRepository.findByEmail("test@test.kr").orElseThrow().getId();
+    Long otherUserId = userRepository.findByEmail("other@test.kr").orElseThrow().getId();
+    List<LikeEvent> batch = List.of(new LikeEvent(postId, userId, true), new LikeEvent(postId, otherUserId, false));
+    postLikeBatchRepository.applyAll(batch);
+
+    // When: 같은 배치를 한 번 더 적용한다.
+    postLikeBatchRepository.applyAll(batch);
+
+    // Then: 좋아요 수는 실제 좋아요 행 수와 같다.
+    assertThat(postLikeRepository.findUserIdsByPostId(postId)).containsExactly(userId);
+    assertThat(postRepository.findById(postId).orElseThrow().getLikeCount()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("게시글의 좋아요 수가 좋아요 행과 어긋났을 때, 다시 세는 작업이 실제 행 수로 바로잡는다.")
+  public void success_onDriftedLikeCount_shouldRepairByRecount() {
+    // Given: 두 회원의 좋아요가 기록된 뒤, 게시글의 좋아요 수가 어긋났다.
+    like(HttpMethod.PUT, "test@test.kr");
+    like(HttpMethod.PUT, "other@test.kr");
+    likeEventFlusher.flush();
+    jdbcTemplate.update("update posts set like_count = 99 where id = ?", postId);
+
+    // When: 좋아요 수를 다시 센다.
+    likeEventFlusher.recount();
+
+    // Then: 좋아요 수는 좋아요 행 수와 같다.
+    assertThat(postRepository.findById(postId).orElseThrow().getLikeCount()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("인증 없이 좋아요를 누를 때, 401 Unauthorized를 응답한다.")
+  public void fail_onMissingToken_shouldReturn401Unauthorized() {
+    // When: 토큰 없이 좋아요 API를 호출한다.
+    ResponseEntity<String> response = restTemplate.exchange(
+        createUrlWithPort("/api/v1/posts/" + postId + "/likes"), HttpMethod.PUT, HttpEntity.EMPTY, String.class);
+
+    // Then: Status Code는 401 Unauthorized이다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 게시글에 좋아요를 누를 때, 404 Not Found를 응답한다.")
+  public void fail_onMissingPost_shouldReturn404NotFound() {
+    // When: 존재하지 않는 게시글의 좋아요 API를 호출한다.
+    ResponseEntity<String> response = restTemplate.exchange(
+        createUrlWithPort("/api/v1/posts/" + (postId + 1000) + "/likes"), HttpMethod.PUT,
+        new HttpEntity<>(authHeaders("test@test.kr")), String.class);
+
+    // Then: Status Code는 404 Not Found이다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
+  private PostLikeResponseDto like(HttpMethod method, String email) {
+    ResponseEntity<PostLikeResponseDto> response = restTemplate.exchange(
+        createUrlWithPort("/api/v1/posts/" + postId + "/likes"), method, new HttpEntity<>(authHeaders(email)),
+        PostLikeResponseDto.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return response.getBody();
+  }
+
+  private PostDetailResponseDto detail() {
+    ResponseEntity<PostDetailResponseDto> response = restTemplate.getForEntity(
+        createUrlWithPort("/api/v1/posts/" + postId), PostDetailResponseDto.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return response.getBody();
+  }
+
+  private HttpHeaders authHeaders(String email) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(accessHeader, "Bearer " + jwtService.createAccessToken(email, "USER"));
+    return headers;
+  }
+
+  private String createUrlWithPort(String uri) {
+    return "http://localhost:" + port + uri;
+  }
+}
@@ -0,0 +1,235 @@
+package org.project.portfolio.post.like.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.post.like.LikeBook;
+import org.project.portfolio.post.like.LikeEvent;
+import org.project.portfolio.post.like.PostLikes;
+
+public class LikeBookTest {
+
+  @Test
+  @DisplayName("같은 회원이 동시에 여러 번 좋아요를 누를 때, 좋아요 수는 1이고 이벤트는 하나만 기록된다.")
+  public void success_onConcurrentDoubleClicks_shouldCountOnceAndEmitOneEvent() throws Exception {
+    // Given: 좋아요가 없는 게시글이 있다.
+    LikeBook likeBook = likeBook(8);
+    PostLikes postLikes = likeBook.load(1L, postId -> List.of());
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    CountDownLatch start = new CountDownLatch(1);
+
+    // When: 8개 스레드가 같은 회원으로 동시에 좋아요를 누른다.
+    for (int i = 0; i < 8; i++) {
+      executorService.submit(() -> {
+        start.await();
+        return likeBook.set(postLikes, 7L, true);
+      });
+    }
+    start.countDown();
+    executorService.shutdown();
+    assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    List<LikeEvent> written = new ArrayList<>();
+    likeBook.flush(written::addAll);
+
+    // Then: 좋아요 수는 1이고, 기록할 이벤트도 하나이다.
+    assertThat(postLikes.count()).isEqualTo(1L);
+    assertThat(postLikes.contains(7L)).isTrue();
+    assertThat(written).containsExactly(new LikeEvent(1L, 7L, true));
+  }
+
+  @Test
+  @DisplayName("여러 회원이 동시에 좋아요와 취소를 반복할 때, 좋아요 수는 최종 멤버십과 같다.")
+  public void success_onConcurrentToggles_shouldKeepCountConsistentWithMembership() throws Exception {
+    // Given: 이미 회원 1~100의 좋아요가 있는 게시글이 있다.
+    LikeBook likeBook = likeBook(8);
+    List<Long> likers = new ArrayList<>();
+    for (long userId = 1; userId <= 100; userId++) {
+      likers.add(userId);
+    }
+    PostLikes postLikes = likeBook.load(1L, postId -> likers);
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+    // When: 8개 스레드가 회원 1~200의 좋아요를 번갈아 누르고 취소한 뒤, 짝수 회원만 좋아요로 끝낸다.
+    for (int t = 0; t < 8; t++) {
+      executorService.submit(() -> {
+        for (int round = 0; round < 100; round++) {
+          for (long userId = 1; userId <= 200; userId++) {
+            likeBook.set(postLikes, userId, round % 2 == 0);
+          }
+        }
+        for (long userId = 1; userId <= 200; userId++) {
+          likeBook.set(postLikes, userId, userId % 2 == 0);
+        }
+      });
+    }
+    executorService.shutdown();
+    assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+    // Then: 좋아요 수는 짝수 회원 수와 같다.
+    assertThat(postLikes.count()).isEqualTo(100L);
+    assertThat(postLikes.contains(2L)).isTrue();
+    assertThat(postLikes.contains(1L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("좋아요와 취소가 flush 사이에 반복될 때, 마지막 상태 하나로 합쳐 기록한다.")
+  public void success_onToggleBetweenFlushes_shouldCollapseToLatestState() {
+    // Given: 좋아요가 없는 게시글이 있다.
+    LikeBook likeBook = likeBook(4);
+    PostLikes postLikes = likeBook.load(1L, postId -> List.of());
+
+    // When: 한 회원은 좋아요, 취소, 좋아요를 누르고 다른 회원은 좋아요 후 취소한다.
+    likeBook.set(postLikes, 1L, true);
+    likeBook.set(postLikes, 1L, false);
+    likeBook.set(postLikes, 1L, true);
+    likeBook.set(postLikes, 2L, true);
+    likeBook.set(postLikes, 2L, false);
+    List<LikeEvent> written = new ArrayList<>();
+    int flushed = likeBook.flush(written::addAll);
+
+    // Then: 회원별 마지막 상태만 기록된다.
+    assertThat(flushed).isEqualTo(2);
+    assertThat(written).containsExactly(new LikeEvent(1L, 1L, true), new LikeEvent(1L, 2L, false));
+    assertThat(postLikes.count()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("DB 기록이 실패할 때, 이벤트를 유지했다가 다음 flush에서 새 이벤트와 합쳐 다시 기록한다.")
+  public void success_onFailedWrite_shouldRetryWithNewerEvents() {
+    // Given: 두 회원이 좋아요를 눌렀다.
+    LikeBook likeBook = likeBook(4);
+    PostLikes postLikes = likeBook.load(1L, postId -> List.of());
+    likeBook.set(postLikes, 1L, true);
+    likeBook.set(postLikes, 2L, true);
+
+    // When: 첫 flush가 실패하고, 한 회원이 취소한 뒤 다시 flush한다.
+    assertThatThrownBy(() -> likeBook.flush(events -> {
+      throw new IllegalStateException("database unavailable");
+    })).isInstanceOf(IllegalStateException.class);
+    likeBook.set(postLikes, 2L, false);
+    List<LikeEvent> written = new ArrayList<>();
+    likeBook.flush(written::addAll);
+
+    // Then: 실패한 이벤트는 최신 상태로 갱신되어 한 번씩 기록되고, 이후 flush할 것은 없다.
+    assertThat(written).containsExactly(new LikeEvent(1L, 1L, true), new LikeEvent(1L, 2L, false));
+    assertThat(likeBook.flush(events -> {
+    })).isZero();
+  }
+
+  @Test
+  @DisplayName("없는 게시글을 적재할 때, null을 반환하고 아무것도 남기지 않는다.")
+  public void fail_onMissingPost_shouldNotLoad() {
+    // Given: 게시글을 찾지 못하는 loader가 있다.
+    LikeBook likeBook = likeBook(4);
+
+    // When: 게시글 좋아요 상태를 적재한다.
+    PostLikes postLikes = likeBook.load(1L, postId -> null);
+
+    // Then: 적재된 상태가 없다.
+    assertThat(postLikes).isNull();
+    assertThat(likeBook.find(1L)).isNull();
+  }
+
+  @Test
+  @DisplayName("기록 전 이벤트가 남은 게시글이 캐시에서 밀려난 뒤 다시 적재될 때, 대기 중인 이벤트를 DB 조회 결과에 반영한다.")
+  public void success_onReloadWithPendingEvents_shouldReplayPendingEvents() {
+    // Given: 회원 1의 좋아요만 DB에 있는 게시글에서, 회원 1은 취소하고 회원 2는 좋아요를 눌렀다.
+    LikeBook likeBook = likeBook(4);
+    PostLikes postLikes = likeBook.load(1L, postId -> List.of(1L));
+    likeBook.set(postLikes, 1L, false);
+    likeBook.set(postLikes, 2L, true);
+
+    // When: flush 전에 캐시에서 밀려난 뒤 DB 상태로 다시 적재한다.
+    likeBook.forget(1L);
+    PostLikes reloaded = likeBook.load(1L, postId -> List.of(1L));
+    List<LikeEvent> written = new ArrayList<>();
+    likeBook.flush(written::addAll);
+
+    // Then: 다시 적재한 상태에 대기 중이던 이벤트가 반영되고, 이벤트는 한 번씩만 기록된다.
+    assertThat(reloaded).isNotSameAs(postLikes);
+    assertThat(reloaded.contains(1L)).isFalse();
+    assertThat(reloaded.contains(2L)).isTrue();
+    assertThat(reloaded.count()).isEqualTo(1L);
+    assertThat(written).containsExactly(new LikeEvent(1L, 1L, false), new LikeEvent(1L, 2L, true));
+  }
+
+  @Test
+  @DisplayName("loader 안에서 다른 게시글을 적재할 때, 캐시 잠금 밖에서 조회하므로 막히지 않는다.")
+  public void success_onNestedLoad_shouldLoadOutsideCacheLock() {
+    // Given: 적재 중에 다른 게시글도 적재하는 loader가 있다.
+    LikeBook likeBook = likeBook(4);
+
+    // When: 게시글 1을 적재한다.
+    PostLikes postLikes = likeBook.load(1L, postId -> {
+      likeBook.load(2L, otherPostId -> List.of(9L));
+      return List.of(7L);
+    });
+
+    // Then: 두 게시글 모두 적재된다.
+    assertThat(postLikes.contains(7L)).isTrue();
+    assertThat(likeBook.find(1L)).isSameAs(postLikes);
+    assertThat(likeBook.find(2L).contains(9L)).isTrue();
+  }
+
+  @Test
+  @DisplayName("같은 이벤트 때문에 배치 기록이 계속 실패할 때, 최대 시도 횟수 뒤에는 그 이벤트만 버리고 나머지를 기록한다.")
+  public void fail_onPoisonEvent_shouldDropOnlyThatEventAfterMaxAttempts() {
+    // Given: 회원 2의 이벤트가 포함되면 항상 실패하는 writer와, 두 번까지 시도하는 LikeBook이 있다.
+    LikeBook likeBook = new LikeBook(4, 1_000, Duration.ofMinutes(10), 2);
+    PostLikes postLikes = likeBook.load(1L, postId -> List.of());
+    likeBook.set(postLikes, 1L, true);
+    likeBook.set(postLikes, 2L, true);
+    List<LikeEvent> written = new ArrayList<>();
+    Consumer<List<LikeEvent>> writer = events -> {
+      if (events.stream().anyMatch(event -> event.userId() == 2L)) {
+        throw new IllegalStateException("foreign key violation");
+      }
+      written.addAll(events);
+    };
+
+    // When: 첫 flush는 실패하고, 두 번째 flush에서 최대 시도 횟수에 도달한다.
+    assertThatThrownBy(() -> likeBook.flush(writer)).isInstanceOf(IllegalStateException.class);
+    int flushed = likeBook.flush(writer);
+
+    // Then: 실패하는 이벤트만 버려지고, 이후 flush할 것은 없다.
+    assertThat(flushed).isEqualTo(1);
+    assertThat(written).containsExactly(new LikeEvent(1L, 1L, true));
+    assertThat(likeBook.flush(writer)).isZero();
+  }
+
+  @Test
+  @DisplayName("적재 뒤 좋아요가 늘어난 게시글은, flush 때 늘어난 회원 id 수로 다시 재어 캐시 한도를 넘으면 밀려난다.")
+  public void success_onGrownPostLikes_shouldReweighAndEvictOnFlush() throws InterruptedException {
+    // Given: 회원 id 100개까지 담는 LikeBook에 좋아요가 없는 게시글이 적재되어 있다.
+    LikeBook likeBook = new LikeBook(4, 100, Duration.ofMinutes(10), 3);
+    PostLikes postLikes = likeBook.load(1L, postId -> List.of());
+
+    // When: 회원 150명이 좋아요를 누른 뒤 flush한다.
+    for (long userId = 1; userId <= 150; userId++) {
+      likeBook.set(postLikes, userId, true);
+    }
+    likeBook.flush(events -> {
+    });
+
+    // Then: 한도를 넘은 게시글은 캐시에서 밀려난다.
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (likeBook.find(1L) != null && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(likeBook.find(1L)).isNull();
+  }
+
+  private static LikeBook likeBook(int stripes) {
+    return new LikeBook(stripes, 1_000, Duration.ofMinutes(10), 3);
+  }
+}
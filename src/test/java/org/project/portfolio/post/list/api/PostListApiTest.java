@@ -0,0 +1,168 @@
+package org.project.portfolio.post.list.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.global.config.SecurityConfig;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.post.dto.PostListResponseDto;
+import org.project.portfolio.post.dto.PostSummaryDto;
+import org.project.portfolio.post.entity.Post;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.user.entity.User;
+import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = PortfolioApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(SecurityConfig.class)
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class PostListApiTest {
+
+  private static final int TOTAL_POSTS = 25;
+  private static final int DELETED_POSTS = 5;
+  private static final int PAGE_SIZE = 10;
+
+  @LocalServerPort
+  private int port;
+  @Autowired
+  private TestRestTemplate restTemplate;
+  @Autowired
+  private PostRepository postRepository;
+  @Autowired
+  private UserRepository userRepository;
+
+  @BeforeEach
+  public void setUp() {
+    postRepository.deleteAll();
+    userRepository.deleteAll();
+
+    User author = userRepository.save(User.builder()
+        .email("test@test.kr")
+        .password("password")
+        .userId("testId")
+        .username("테스트")
+        .phone("010-1234-5678")
+        .build());
+    List<Post> posts = postRepository.saveAll(IntStream.rangeClosed(1, TOTAL_POSTS)
+        .mapToObj(i -> Post.builder()
+            .author(author)
+            .title("게시글 " + i)
+            .content("내용 " + i)
+            .build())
+        .toList());
+    for (Post post : posts.subList(0, DELETED_POSTS)) {
+      post.softDelete();
+    }
+    postRepository.saveAll(posts);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    postRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("커서를 따라 내림차순으로 모든 페이지를 조회할 때, 삭제된 게시글 없이 중복 없이 생성일 내림차순으로 반환된다.")
+  public void success_onDescendingCursorTraversal_shouldReturnAllActivePostsWithoutDuplicates() {
+    // Given: 게시글 25개 중 5개가 삭제되어 있다.
+
+    // When: 다음 커서가 없을 때까지 내림차순 목록조회 API를 호출한다.
+    List<PostSummaryDto> traversed = traverse("desc");
+
+    // Then: 삭제되지 않은 게시글 20개가 모두 한 번씩 반환된다.
+    assertThat(traversed).hasSize(TOTAL_POSTS - DELETED_POSTS);
+    assertThat(traversed).extracting(PostSummaryDto::getId).doesNotHaveDuplicates();
+    // And: 삭제된 게시글은 포함되지 않는다.
+    assertThat(traversed).extracting(PostSummaryDto::getTitle)
+        .doesNotContain("게시글 1", "게시글 2", "게시글 3", "게시글 4", "게시글 5");
+    // And: (createdAt, id) 내림차순으로 정렬되어 있다.
+    assertThat(traversed).isSortedAccordingTo(
+        Comparator.comparing(PostSummaryDto::getCreatedAt).thenComparing(PostSummaryDto::getId).reversed());
+  }
+
+  @Test
+  @DisplayName("커서를 따라 오름차순으로 모든 페이지를 조회할 때, 생성일 오름차순으로 반환된다.")
+  public void success_onAscendingCursorTraversal_shouldReturnPostsInCreatedAtAscendingOrder() {
+    // Given: 게시글 25개 중 5개가 삭제되어 있다.
+
+    // When: 다음 커서가 없을 때까지 오름차순 목록조회 API를 호출한다.
+    List<PostSummaryDto> traversed = traverse("asc");
+
+    // Then: 삭제되지 않은 게시글 20개가 (createdAt, id) 오름차순으로 반환된다.
+    assertThat(traversed).hasSize(TOTAL_POSTS - DELETED_POSTS);
+    assertThat(traversed).extracting(PostSummaryDto::getId).doesNotHaveDuplicates();
+    assertThat(traversed).isSortedAccordingTo(
+        Comparator.comparing(PostSummaryDto::getCreatedAt).thenComparing(PostSummaryDto::getId));
+    // And: 작성자 이름이 함께 반환된다.
+    assertThat(traversed).extracting(PostSummaryDto::getAuthor).containsOnly("테스트");
+  }
+
+  @Test
+  @DisplayName("유효하지 않은 커서가 주어질 때, 400 Bad Request를 응답한다.")
+  public void fail_onInvalidCursor_shouldReturn400BadRequest() {
+    // Given: 디코딩할 수 없는 커서가 주어진다.
+    String invalidCursor = "not-a-cursor";
+
+    // When: 목록조회 API를 호출한다.
+    ResponseEntity<Map> response = restTemplate.getForEntity(
+        createUrlWithPort("/api/v1/posts?cursor=" + invalidCursor), Map.class);
+
+    // Then: Status Code는 400 Bad Request이다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    // And: 커서 오류 메시지가 반환된다.
+    assertThat(response.getBody().get("detail")).isEqualTo(Message.INVALID_POST_CURSOR);
+  }
+
+  @Test
+  @DisplayName("유효하지 않은 정렬 방향이 주어질 때, 400 Bad Request를 응답한다.")
+  public void fail_onInvalidOrder_shouldReturn400BadRequest() {
+    // Given: 지원하지 않는 정렬 방향이 주어진다.
+    String invalidOrder = "sideways";
+
+    // When: 목록조회 API를 호출한다.
+    ResponseEntity<Map> response = restTemplate.getForEntity(
+        createUrlWithPort("/api/v1/posts?order=" + invalidOrder), Map.class);
+
+    // Then: Status Code는 400 Bad Request이다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(response.getBody().get("detail")).isEqualTo(Message.INVALID_POST_ORDER);
+  }
+
+  private List<PostSummaryDto> traverse(String order) {
+    List<PostSummaryDto> traversed = new ArrayList<>();
+    String cursor = null;
+    do {
+      String url = "/api/v1/posts?order=" + order + "&size=" + PAGE_SIZE + (cursor == null ? "" : "&cursor=" + cursor);
+      ResponseEntity<PostListResponseDto> response = restTemplate
+          .getForEntity(createUrlWithPort(url), PostListResponseDto.class);
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+      assertThat(response.getBody().getPosts()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+      traversed.addAll(response.getBody().getPosts());
+      cursor = response.getBody().getNextCursor();
+    } while (cursor != null);
+    return traversed;
+  }
+
+  private String createUrlWithPort(String uri) {
+    return "http://localhost:" + port + uri;
+  }
+}
@@ -0,0 +1,216 @@
+package org.project.portfolio.post.search.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.project.portfolio.helper.fixture.EntityFixture.user;
+
+import java.net.URI;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.auth.service.JwtService;
+import org.project.portfolio.global.config.SecurityConfig;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.helper.fixture.DatabaseCleaner;
+import org.project.portfolio.post.dto.PostListResponseDto;
+import org.project.portfolio.post.dto.PostRequestDto;
+import org.project.portfolio.post.dto.PostSummaryDto;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.post.search.PostTitleIndexer;
+import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = PortfolioApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(SecurityConfig.class)
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class PostSearchApiTest {
+
+  private static final String AUTHOR_EMAIL = "test@test.kr";
+  private static final String OTHER_EMAIL = "other@test.kr";
+
+  @LocalServerPort
+  private int port;
+  @Value("${jwt.access.header}")
+  private String accessHeader;
+  @Autowired
+  private TestRestTemplate restTemplate;
+  @Autowired
+  private PostRepository postRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private JwtService jwtService;
+  @Autowired
+  private PostTitleIndexer postTitleIndexer;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private DatabaseCleaner databaseCleaner;
+
+  @BeforeEach
+  public void setUp() {
+    databaseCleaner = new DatabaseCleaner(jdbcTemplate);
+    databaseCleaner.cleanUp();
+    postTitleIndexer.rebuild();
+
+    userRepository.save(user(AUTHOR_EMAIL, "testId"));
+    userRepository.save(user(OTHER_EMAIL, "otherId"));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    databaseCleaner.cleanUp();
+    postTitleIndexer.rebuild();
+  }
+
+  @Test
+  @DisplayName("게시글을 등록할 때, 커밋 직후 제목의 부분 문자열로 검색된다.")
+  public void success_onCreate_shouldBeSearchableByTitleSubstring() {
+    // Given: 제목이 서로 다른 게시글 세 개를 등록한다.
+    createPost(AUTHOR_EMAIL, "스프링 부트 게시판 만들기");
+    createPost(AUTHOR_EMAIL, "JPA 연관관계 정리");
+    createPost(AUTHOR_EMAIL, "게시판 검색 기능 구현");
+
+    // When: 제목 일부로 목록조회 API를 호출한다.
+    PostListResponseDto response = search("게시판");
+
+    // Then: 부분 문자열을 포함한 게시글만 최신순으로 반환된다.
+    assertThat(response.getPosts()).extracting(PostSummaryDto::getTitle)
+        .containsExactly("게시판 검색 기능 구현", "스프링 부트 게시판 만들기");
+  }
+
+  @Test
+  @DisplayName("게시글 제목을 수정하거나 삭제할 때, 색인에 반영되어 이전 제목으로는 검색되지 않는다.")
+  public void success_onUpdateAndSoftDelete_shouldUpdateIndex() {
+    // Given: 게시글 두 개를 등록한다.
+    URI updated = createPost(AUTHOR_EMAIL, "수정 전 제목");
+    URI deleted = createPost(AUTHOR_EMAIL, "삭제할 제목");
+
+    // When: 하나는 제목을 수정하고 하나는 삭제한다.
+    ResponseEntity<String> updateResponse = restTemplate.exchange(createUrlWithPort(updated.getPath()), HttpMethod.PUT,
+        new HttpEntity<>(postRequest("수정 후 이름"), authorized(AUTHOR_EMAIL)), String.class);
+    ResponseEntity<String> deleteResponse = restTemplate.exchange(createUrlWithPort(deleted.getPath()),
+        HttpMethod.DELETE, new HttpEntity<>(authorized(AUTHOR_EMAIL)), String.class);
+
+    // Then: 수정·삭제 요청이 성공한다.
+    assertThat(updateResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(deleteResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    // And: 이전 제목으로는 검색되지 않고 새 제목으로 검색된다.
+    assertThat(search("제목").getPosts()).isEmpty();
+    assertThat(search("수정 후").getPosts()).extracting(PostSummaryDto::getTitle).containsExactly("수정 후 이름");
+  }
+
+  @Test
+  @DisplayName("색인에는 남아 있지만 DB에서 사라진 게시글이 있을 때, 다음 페이지 커서는 색인 기준으로 이어진다.")
+  public void success_onRowMissingFromDatabase_shouldKeepPagingByIndex() {
+    // Given: 게시글 세 개를 등록하고, 가장 최근 게시글만 색인을 거치지 않고 DB에서 지운다.
+    createPost(AUTHOR_EMAIL, "게시판 첫 번째");
+    createPost(AUTHOR_EMAIL, "게시판 두 번째");
+    URI newest = createPost(AUTHOR_EMAIL, "게시판 세 번째");
+    postRepository.deleteById(postIdOf(newest));
+
+    // When: 한 건씩 페이지를 넘기며 검색한다.
+    PostListResponseDto first = search("게시판", 1, null);
+    PostListResponseDto second = search("게시판", 1, first.getNextCursor());
+    PostListResponseDto third = search("게시판", 1, second.getNextCursor());
+
+    // Then: 사라진 게시글 자리는 비어 있어도 커서가 이어져 나머지 게시글을 모두 조회한다.
+    assertThat(first.getPosts()).isEmpty();
+    assertThat(first.getNextCursor()).isNotNull();
+    assertThat(second.getPosts()).extracting(PostSummaryDto::getTitle).containsExactly("게시판 두 번째");
+    assertThat(second.getNextCursor()).isNotNull();
+    assertThat(third.getPosts()).extracting(PostSummaryDto::getTitle).containsExactly("게시판 첫 번째");
+    assertThat(third.getNextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("인증 없이 게시글을 등록할 때, 401 Unauthorized를 응답한다.")
+  public void fail_onCreateWithoutAuthentication_shouldReturn401Unauthorized() {
+    // When: Access Token 없이 게시글 등록 API를 호출한다.
+    ResponseEntity<Map> response = restTemplate.postForEntity(createUrlWithPort("/api/v1/posts"),
+        postRequest("인증 없는 게시글"), Map.class);
+
+    // Then: Status Code는 401 Unauthorized이다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    assertThat(response.getBody().get("message")).isEqualTo(Message.UNAUTHORIZED);
+  }
+
+  @Test
+  @DisplayName("작성자가 아닌 회원이 게시글을 수정할 때, 403 Forbidden을 응답하고 색인은 바뀌지 않는다.")
+  public void fail_onUpdateByOtherUser_shouldReturn403Forbidden() {
+    // Given: 작성자가 게시글을 등록한다.
+    URI post = createPost(AUTHOR_EMAIL, "작성자의 게시글");
+
+    // When: 다른 회원이 제목 수정을 요청한다.
+    ResponseEntity<Map> response = restTemplate.exchange(createUrlWithPort(post.getPath()), HttpMethod.PUT,
+        new HttpEntity<>(postRequest("다른 회원의 수정"), authorized(OTHER_EMAIL)), Map.class);
+
+    // Then: Status Code는 403 Forbidden이다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    assertThat(response.getBody().get("detail")).isEqualTo(Message.NOT_POST_AUTHOR);
+    // And: 원래 제목으로 계속 검색된다.
+    assertThat(search("작성자의").getPosts()).hasSize(1);
+  }
+
+  private URI createPost(String email, String title) {
+    ResponseEntity<String> response = restTemplate.exchange(createUrlWithPort("/api/v1/posts"), HttpMethod.POST,
+        new HttpEntity<>(postRequest(title), authorized(email)), String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    return response.getHeaders().getLocation();
+  }
+
+  private PostListResponseDto search(String title) {
+    ResponseEntity<PostListResponseDto> response = restTemplate.getForEntity(
+        createUrlWithPort("/api/v1/posts?title={title}"), PostListResponseDto.class, title);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return response.getBody();
+  }
+
+  private PostListResponseDto search(String title, int size, String cursor) {
+    String uri = cursor == null
+        ? "/api/v1/posts?title={title}&size={size}"
+        : "/api/v1/posts?title={title}&size={size}&cursor=" + cursor;
+    ResponseEntity<PostListResponseDto> response = restTemplate.getForEntity(
+        createUrlWithPort(uri), PostListResponseDto.class, title, size);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return response.getBody();
+  }
+
+  private static Long postIdOf(URI location) {
+    String path = location.getPath();
+    return Long.valueOf(path.substring(path.lastIndexOf('/') + 1));
+  }
+
+  private HttpHeaders authorized(String email) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(accessHeader, "Bearer " + jwtService.createAccessToken(email, "USER"));
+    return headers;
+  }
+
+  private static PostRequestDto postRequest(String title) {
+    return PostRequestDto.builder()
+        .title(title)
+        .content("내용")
+        .build();
+  }
+
+  private String createUrlWithPort(String uri) {
+    return "http://localhost:" + port + uri;
+  }
+}
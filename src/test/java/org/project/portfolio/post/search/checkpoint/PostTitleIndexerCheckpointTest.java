@@ -0,0 +1,59 @@
+package org.project.portfolio.post.search.checkpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.project.portfolio.global.config.PostSearchProperties;
+import org.project.portfolio.post.dto.PostTitleRow;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.post.search.PostTitleIndexer;
+import org.project.portfolio.post.search.TitleIndexCheckpoint;
+import org.project.portfolio.post.search.TitleIndexEntry;
+import org.project.portfolio.post.search.TitleTrigramIndex;
+import org.springframework.data.domain.Limit;
+
+public class PostTitleIndexerCheckpointTest {
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  @DisplayName("체크포인트 파일이 잘려 있을 때, 시작을 중단하지 않고 파일을 지운 뒤 DB에서 전체 재색인한다.")
+  public void fail_onTruncatedCheckpoint_shouldDiscardAndRebuild() throws IOException {
+    // Given: 뒷부분이 잘린 체크포인트 파일과, 게시글 하나가 있는 DB가 있다.
+    Path path = directory.resolve("post-title-index.ckpt");
+    new TitleIndexCheckpoint(42L, List.of(new TitleIndexEntry(1L, 1L, "잘린 제목"))).write(path);
+    byte[] bytes = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 4));
+    PostRepository postRepository = mock(PostRepository.class);
+    when(postRepository.findActiveTitlesAfter(anyLong(), any(Limit.class)))
+        .thenReturn(List.of(new PostTitleRow(2L, "스프링 게시판", LocalDateTime.now(), null)));
+    TitleTrigramIndex titleTrigramIndex = new TitleTrigramIndex();
+    PostTitleIndexer postTitleIndexer = new PostTitleIndexer(titleTrigramIndex, postRepository,
+        new PostSearchProperties(path, Duration.ofMinutes(5), 100));
+
+    // When: 색인기를 시작한다.
+    postTitleIndexer.start();
+
+    // Then: 손상된 파일은 지워지고, DB의 게시글로 색인이 채워진다.
+    assertThat(postTitleIndexer.isRunning()).isTrue();
+    assertThat(path).doesNotExist();
+    assertThat(titleTrigramIndex.snapshot()).extracting(TitleIndexEntry::id).containsExactly(2L);
+    verify(postRepository, never()).findTitlesUpdatedSince(any(), anyLong(), any(Limit.class));
+  }
+}
@@ -0,0 +1,66 @@
+package org.project.portfolio.post.search.checkpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.project.portfolio.post.search.TitleIndexCheckpoint;
+import org.project.portfolio.post.search.TitleIndexEntry;
+
+public class TitleIndexCheckpointTest {
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  @DisplayName("체크포인트를 기록한 뒤 다시 읽을 때, 워터마크와 색인 항목이 그대로 복원된다.")
+  public void success_onWriteAndRead_shouldRestoreEntries() throws IOException {
+    // Given: 한글 제목을 포함한 색인 항목이 주어진다.
+    List<TitleIndexEntry> entries = List.of(
+        new TitleIndexEntry(1L, 1_700_000_000_000_000L, "스프링 게시판"),
+        new TitleIndexEntry(2L, 1_700_000_000_000_001L, "jpa keyset pagination")
+    );
+    Path path = directory.resolve("index").resolve("post-title-index.ckpt");
+
+    // When: 체크포인트를 기록하고 다시 읽는다.
+    new TitleIndexCheckpoint(42L, entries).write(path);
+    TitleIndexCheckpoint restored = TitleIndexCheckpoint.read(path);
+
+    // Then: 기록한 내용이 그대로 복원된다.
+    assertThat(restored).isNotNull();
+    assertThat(restored.watermarkMicros()).isEqualTo(42L);
+    assertThat(restored.entries()).containsExactlyElementsOf(entries);
+  }
+
+  @Test
+  @DisplayName("체크포인트 파일이 손상되었을 때, 예외 없이 null을 반환해 전체 재색인하게 한다.")
+  public void fail_onCorruptedCheckpoint_shouldReturnNull() throws IOException {
+    // Given: 정상 체크포인트의 뒷부분이 잘려 있다.
+    Path path = directory.resolve("post-title-index.ckpt");
+    new TitleIndexCheckpoint(42L, List.of(new TitleIndexEntry(1L, 1L, "잘린 제목"))).write(path);
+    byte[] bytes = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 4));
+
+    // When: 체크포인트를 읽는다.
+    TitleIndexCheckpoint restored = TitleIndexCheckpoint.read(path);
+
+    // Then: null이 반환된다.
+    assertThat(restored).isNull();
+  }
+
+  @Test
+  @DisplayName("체크포인트 파일이 없을 때, null을 반환한다.")
+  public void fail_onMissingCheckpoint_shouldReturnNull() throws IOException {
+    // When: 존재하지 않는 체크포인트를 읽는다.
+    TitleIndexCheckpoint restored = TitleIndexCheckpoint.read(directory.resolve("missing.ckpt"));
+
+    // Then: null이 반환된다.
+    assertThat(restored).isNull();
+  }
+}
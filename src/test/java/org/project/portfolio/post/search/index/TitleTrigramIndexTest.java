@@ -0,0 +1,102 @@
+package org.project.portfolio.post.search.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.post.dto.PostCursor;
+import org.project.portfolio.post.search.TitleTrigramIndex;
+import org.springframework.data.domain.Sort.Direction;
+
+public class TitleTrigramIndexTest {
+
+  @Test
+  @DisplayName("제목의 일부가 검색어로 주어질 때, 대소문자와 관계없이 해당 부분 문자열을 포함한 게시글만 최신순으로 반환한다.")
+  public void success_onSubstringTerm_shouldReturnMatchingPostsInLatestOrder() {
+    // Given: 제목이 서로 다른 게시글이 색인되어 있다.
+    TitleTrigramIndex index = new TitleTrigramIndex();
+    index.upsert(1L, 100L, "Spring 게시판 만들기");
+    index.upsert(2L, 200L, "스프링 시큐리티 정리");
+    index.upsert(3L, 300L, "spring boot 게시판");
+    index.upsert(4L, 400L, "JPA N+1 문제");
+
+    // When: 검색어로 조회한다.
+    List<Long> spring = index.search("SPRING", Direction.DESC, null, 10);
+    List<Long> board = index.search("게시판", Direction.ASC, null, 10);
+
+    // Then: 부분 문자열을 포함한 게시글만 정렬 방향대로 반환된다.
+    assertThat(spring).containsExactly(3L, 1L);
+    assertThat(board).containsExactly(1L, 3L);
+  }
+
+  @Test
+  @DisplayName("검색어의 트라이그램을 모두 포함하지만 연속되지 않은 제목일 때, 결과에서 제외한다.")
+  public void success_onTrigramsWithoutContiguousMatch_shouldExcludePost() {
+    // Given: "abcd"의 트라이그램(abc, bcd)을 모두 포함하지만 "abcd"는 포함하지 않는 제목이 색인되어 있다.
+    TitleTrigramIndex index = new TitleTrigramIndex();
+    index.upsert(1L, 100L, "abc bcd");
+    index.upsert(2L, 200L, "xabcdx");
+
+    // When: "abcd"로 검색한다.
+    List<Long> result = index.search("abcd", Direction.DESC, null, 10);
+
+    // Then: 연속으로 포함한 게시글만 반환된다.
+    assertThat(result).containsExactly(2L);
+  }
+
+  @Test
+  @DisplayName("제목이 수정되거나 게시글이 삭제될 때, 이전 제목으로는 더 이상 검색되지 않는다.")
+  public void success_onUpdateAndRemove_shouldMaintainPostingLists() {
+    // Given: 게시글 두 개가 색인되어 있다.
+    TitleTrigramIndex index = new TitleTrigramIndex();
+    index.upsert(1L, 100L, "오래된 제목");
+    index.upsert(2L, 200L, "삭제될 제목");
+
+    // When: 1번의 제목을 수정하고 2번을 삭제한다.
+    index.upsert(1L, 100L, "새로운 글");
+    index.remove(2L);
+
+    // Then: 이전 제목으로는 검색되지 않고 새 제목으로 검색된다.
+    assertThat(index.search("제목", Direction.DESC, null, 10)).isEmpty();
+    assertThat(index.search("새로운", Direction.DESC, null, 10)).containsExactly(1L);
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("트라이그램보다 짧은 검색어가 주어질 때, 전체 제목을 훑어 부분 문자열을 찾는다.")
+  public void success_onShortTerm_shouldScanTitles() {
+    // Given: 두 글자 이하 제목을 포함한 게시글이 색인되어 있다.
+    TitleTrigramIndex index = new TitleTrigramIndex();
+    index.upsert(1L, 100L, "공지");
+    index.upsert(2L, 200L, "자유 게시판");
+
+    // When: 한 글자 검색어로 조회한다.
+    List<Long> result = index.search("공", Direction.DESC, null, 10);
+
+    // Then: 해당 글자를 포함한 게시글이 반환된다.
+    assertThat(result).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("커서가 주어질 때, 같은 생성 시각의 게시글도 id로 구분해 중복 없이 다음 페이지를 반환한다.")
+  public void success_onCursor_shouldReturnNextPageWithoutDuplicates() {
+    // Given: 생성 시각이 같은 게시글을 포함해 5개가 색인되어 있다.
+    TitleTrigramIndex index = new TitleTrigramIndex();
+    index.upsert(1L, 100L, "검색 대상 1");
+    index.upsert(2L, 200L, "검색 대상 2");
+    index.upsert(3L, 200L, "검색 대상 3");
+    index.upsert(4L, 300L, "검색 대상 4");
+    index.upsert(5L, 400L, "검색 대상 5");
+
+    // When: 두 건씩 내림차순으로 세 페이지를 조회한다.
+    List<Long> first = index.search("검색 대상", Direction.DESC, null, 2);
+    List<Long> second = index.search("검색 대상", Direction.DESC, new PostCursor(PostCursor.fromEpochMicros(300L), 4L), 2);
+    List<Long> third = index.search("검색 대상", Direction.DESC, new PostCursor(PostCursor.fromEpochMicros(200L), 2L), 2);
+
+    // Then: (createdAt, id) 내림차순으로 이어진다.
+    assertThat(first).containsExactly(5L, 4L);
+    assertThat(second).containsExactly(3L, 2L);
+    assertThat(third).containsExactly(1L);
+  }
+}
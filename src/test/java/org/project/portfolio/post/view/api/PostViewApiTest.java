@@ -0,0 +1,126 @@
+package org.project.portfolio.post.view.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.project.portfolio.helper.fixture.EntityFixture.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.auth.service.JwtService;
+import org.project.portfolio.global.config.SecurityConfig;
+import org.project.portfolio.helper.fixture.DatabaseCleaner;
+import org.project.portfolio.post.dto.PostDetailResponseDto;
+import org.project.portfolio.post.entity.Post;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.post.view.ViewCountFlusher;
+import org.project.portfolio.user.entity.User;
+import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(classes = PortfolioApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(SecurityConfig.class)
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class PostViewApiTest {
+
+  @LocalServerPort
+  private int port;
+  @Value("${jwt.access.header}")
+  private String accessHeader;
+  @Autowired
+  private TestRestTemplate restTemplate;
+  @Autowired
+  private PostRepository postRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private JwtService jwtService;
+  @Autowired
+  private ViewCountFlusher viewCountFlusher;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private DatabaseCleaner databaseCleaner;
+  private Long postId;
+
+  @BeforeEach
+  public void setUp() {
+    databaseCleaner = new DatabaseCleaner(jdbcTemplate);
+    databaseCleaner.cleanUp();
+    User author = userRepository.save(user("test@test.kr", "testId"));
+    userRepository.save(user("other@test.kr", "otherId"));
+    postId = postRepository.save(Post.builder()
+        .author(author)
+        .title("조회수 테스트")
+        .content("내용")
+        .build()).getId();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    viewCountFlusher.flush();
+    databaseCleaner.cleanUp();
+  }
+
+  @Test
+  @DisplayName("같은 회원이 게시글을 여러 번 조회할 때, 조회수는 한 번만 증가하고 flush 후 DB에 반영된다.")
+  public void success_onRepeatedViewsBySameUser_shouldIncreaseViewCountOnce() {
+    // Given: 두 회원이 있다.
+
+    // When: 한 회원이 세 번, 다른 회원이 한 번 상세보기 API를 호출한다.
+    long first = view("test@test.kr");
+    long second = view("test@test.kr");
+    long third = view("test@test.kr");
+    long other = view("other@test.kr");
+
+    // Then: 같은 회원의 반복 조회는 조회수를 올리지 않는다.
+    assertThat(first).isEqualTo(1L);
+    assertThat(second).isEqualTo(1L);
+    assertThat(third).isEqualTo(1L);
+    assertThat(other).isEqualTo(2L);
+    // And: flush 후 DB에 조회수가 기록되고, 응답의 조회수는 그대로이다.
+    viewCountFlusher.flush();
+    assertThat(postRepository.findById(postId).orElseThrow().getViewCount()).isEqualTo(2L);
+    assertThat(view("other@test.kr")).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 게시글을 조회할 때, 404 Not Found를 응답한다.")
+  public void fail_onMissingPost_shouldReturn404NotFound() {
+    // When: 존재하지 않는 게시글의 상세보기 API를 호출한다.
+    ResponseEntity<String> response = restTemplate.getForEntity(
+        createUrlWithPort("/api/v1/posts/" + (postId + 1000)), String.class);
+
+    // Then: Status Code는 404 Not Found이다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
+  private long view(String email) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(accessHeader, "Bearer " + jwtService.createAccessToken(email, "USER"));
+    ResponseEntity<PostDetailResponseDto> response = restTemplate.exchange(
+        createUrlWithPort("/api/v1/posts/" + postId), HttpMethod.GET, new HttpEntity<>(headers),
+        PostDetailResponseDto.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    return response.getBody().getViewCount();
+  }
+
+  private String createUrlWithPort(String uri) {
+    return "http://localhost:" + port + uri;
+  }
+}
@@ -0,0 +1,87 @@
+package org.project.portfolio.post.view.buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.post.view.ViewCountBuffer;
+
+public class ViewCountBufferTest {
+
+  @Test
+  @DisplayName("여러 스레드가 한 게시글의 조회수를 올리면서 flush가 반복될 때, 모든 증가분이 정확히 한 번씩 기록된다.")
+  public void success_onConcurrentIncrementsAndFlushes_shouldWriteEveryViewExactlyOnce() throws Exception {
+    // Given: 8개 스레드가 같은 게시글 조회수를 10,000번씩 올린다.
+    ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+    Map<Long, Long> persisted = new HashMap<>();
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    CountDownLatch done = new CountDownLatch(8);
+    for (int i = 0; i < 8; i++) {
+      executorService.submit(() -> {
+        for (int j = 0; j < 10_000; j++) {
+          viewCountBuffer.increment(1L);
+        }
+        done.countDown();
+      });
+    }
+
+    // When: 증가가 진행되는 동안과 끝난 뒤에 flush한다.
+    while (!done.await(1, TimeUnit.MILLISECONDS)) {
+      viewCountBuffer.flush(deltas -> deltas.forEach((postId, delta) -> persisted.merge(postId, delta, Long::sum)));
+    }
+    viewCountBuffer.flush(deltas -> deltas.forEach((postId, delta) -> persisted.merge(postId, delta, Long::sum)));
+    executorService.shutdown();
+
+    // Then: 기록된 조회수는 전체 증가분과 같고 남은 증가분은 없다.
+    assertThat(persisted.get(1L)).isEqualTo(80_000L);
+    assertThat(viewCountBuffer.pending(1L)).isZero();
+  }
+
+  @Test
+  @DisplayName("DB 기록이 실패할 때, 증가분을 유지했다가 다음 flush에서 한 번만 다시 기록한다.")
+  public void success_onFailedWrite_shouldRetryDeltaOnNextFlush() {
+    // Given: 두 게시글에 조회수가 쌓여 있다.
+    ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+    viewCountBuffer.increment(1L);
+    viewCountBuffer.increment(1L);
+    viewCountBuffer.increment(2L);
+
+    // When: 첫 flush는 실패하고, 조회가 하나 더 들어온 뒤 다시 flush한다.
+    assertThatThrownBy(() -> viewCountBuffer.flush(deltas -> {
+      throw new IllegalStateException("database unavailable");
+    })).isInstanceOf(IllegalStateException.class);
+    viewCountBuffer.increment(1L);
+    Map<Long, Long> persisted = new HashMap<>();
+    viewCountBuffer.flush(persisted::putAll);
+
+    // Then: 실패한 증가분과 새 증가분이 함께 기록된다.
+    assertThat(persisted).containsEntry(1L, 3L).containsEntry(2L, 1L);
+    assertThat(viewCountBuffer.pending(1L)).isZero();
+  }
+
+  @Test
+  @DisplayName("조회가 없는 flush가 반복될 때, 게시글 카운터를 정리해 메모리를 반환한다.")
+  public void success_onIdleFlushes_shouldEvictCounters() {
+    // Given: 조회수가 한 번 기록된 게시글이 있다.
+    ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+    viewCountBuffer.increment(1L);
+    viewCountBuffer.flush(deltas -> {
+    });
+
+    // When: 조회 없이 세 번 flush한다.
+    for (int i = 0; i < 3; i++) {
+      viewCountBuffer.flush(deltas -> {
+      });
+    }
+
+    // Then: 카운터가 제거된다.
+    assertThat(viewCountBuffer.size()).isZero();
+  }
+}
@@ -0,0 +1,75 @@
+package org.project.portfolio.post.view.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.post.view.ViewDeduplicator;
+
+public class ViewDeduplicatorTest {
+
+  private static final Duration WINDOW = Duration.ofHours(24);
+
+  @Test
+  @DisplayName("같은 사용자가 같은 게시글을 다시 조회할 때, 첫 조회만 인정한다.")
+  public void success_onRepeatedView_shouldCountOnlyFirstView() {
+    // Given: 중복 제거기가 주어진다.
+    ViewDeduplicator viewDeduplicator = new ViewDeduplicator(WINDOW, 10_000, 0.001, new AtomicLong()::get);
+
+    // When: 같은 사용자가 같은 게시글을 세 번, 다른 게시글과 다른 사용자가 한 번씩 조회한다.
+    boolean first = viewDeduplicator.markFirstView(1L, 100L);
+    boolean second = viewDeduplicator.markFirstView(1L, 100L);
+    boolean third = viewDeduplicator.markFirstView(1L, 100L);
+    boolean otherPost = viewDeduplicator.markFirstView(1L, 101L);
+    boolean otherUser = viewDeduplicator.markFirstView(2L, 100L);
+
+    // Then: 각 (사용자, 게시글)의 첫 조회만 인정된다.
+    assertThat(first).isTrue();
+    assertThat(second).isFalse();
+    assertThat(third).isFalse();
+    assertThat(otherPost).isTrue();
+    assertThat(otherUser).isTrue();
+  }
+
+  @Test
+  @DisplayName("중복 제거 기간이 두 번 지났을 때, 같은 사용자의 조회를 다시 인정한다.")
+  public void success_onTwoWindowsElapsed_shouldCountViewAgain() {
+    // Given: 시계를 조작할 수 있는 중복 제거기에 조회가 기록되어 있다.
+    AtomicLong clock = new AtomicLong();
+    ViewDeduplicator viewDeduplicator = new ViewDeduplicator(WINDOW, 10_000, 0.001, clock::get);
+    viewDeduplicator.markFirstView(1L, 100L);
+
+    // When: 한 기간이 지난 뒤와 두 기간이 지난 뒤에 다시 조회한다.
+    clock.addAndGet(WINDOW.toNanos());
+    boolean afterOneWindow = viewDeduplicator.markFirstView(1L, 100L);
+    clock.addAndGet(WINDOW.toNanos() * 2);
+    boolean afterThreeWindows = viewDeduplicator.markFirstView(1L, 100L);
+
+    // Then: 이전 세대에 남아 있는 동안은 중복이고, 세대가 모두 바뀐 뒤에는 다시 인정된다.
+    assertThat(afterOneWindow).isFalse();
+    assertThat(afterThreeWindows).isTrue();
+  }
+
+  @Test
+  @DisplayName("예상 조회 수만큼 서로 다른 조회가 기록될 때, 첫 조회를 중복으로 잘못 판단하는 비율이 설정값 근처에 머문다.")
+  public void success_onExpectedLoad_shouldKeepFalsePositiveRateBounded() {
+    // Given: 예상 10,000건, 오탐률 1%로 설정된 중복 제거기에 9,000건의 서로 다른 조회가 기록되어 있다.
+    ViewDeduplicator viewDeduplicator = new ViewDeduplicator(WINDOW, 10_000, 0.01, new AtomicLong()::get);
+    for (long userId = 0; userId < 9_000; userId++) {
+      viewDeduplicator.markFirstView(userId, 1L);
+    }
+
+    // When: 처음 보는 1,000건의 조회를 기록한다.
+    int falsePositives = 0;
+    for (long userId = 0; userId < 1_000; userId++) {
+      if (!viewDeduplicator.markFirstView(userId, 2L)) {
+        falsePositives++;
+      }
+    }
+
+    // Then: 오탐은 3% 미만이다.
+    assertThat(falsePositives).isLessThan(30);
+  }
+}
@@ -0,0 +1,121 @@
+package org.project.portfolio.post.view.recovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.global.config.SecurityConfig;
+import org.project.portfolio.post.entity.Post;
+import org.project.portfolio.post.repository.PostRepository;
+import org.project.portfolio.post.repository.PostViewCountRepository;
+import org.project.portfolio.post.view.ViewCountBuffer;
+import org.project.portfolio.user.entity.User;
+import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(classes = PortfolioApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(SecurityConfig.class)
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class ViewCountCrashRecoveryTest {
+
+  @Autowired
+  private PostRepository postRepository;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private PostViewCountRepository postViewCountRepository;
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private Long postId;
+
+  @BeforeEach
+  public void setUp() {
+    postRepository.deleteAll();
+    userRepository.deleteAll();
+    User author = userRepository.save(User.builder()
+        .email("test@test.kr")
+        .password("password")
+        .userId("testId")
+        .username("테스트")
+        .phone("010-1234-5678")
+        .build());
+    postId = postRepository.save(Post.builder()
+        .author(author)
+        .title("조회수 복구")
+        .content("내용")
+        .build()).getId();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    postRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("flush 도중 프로세스가 죽을 때, DB에는 마지막으로 커밋된 flush까지만 남고 유실은 그 이후 조회로 한정된다.")
+  public void success_onCrashDuringFlush_shouldKeepLastCommittedCountAndLoseOnlyUnflushedViews() {
+    // Given: 조회 100건이 flush되어 DB에 기록되어 있다.
+    ViewCountBuffer beforeCrash = new ViewCountBuffer();
+    increment(beforeCrash, 100);
+    beforeCrash.flush(postViewCountRepository::addViewCounts);
+
+    // When: 30건이 더 쌓인 뒤, 배치 UPDATE를 실행하고 커밋하기 전에 프로세스가 죽는다.
+    increment(beforeCrash, 30);
+    assertThatThrownBy(() -> beforeCrash.flush(deltas -> transactionTemplate.executeWithoutResult(status -> {
+      postViewCountRepository.addViewCounts(deltas);
+      throw new IllegalStateException("process killed before commit");
+    }))).isInstanceOf(IllegalStateException.class);
+
+    // Then: DB에는 커밋된 100건만 남아 부분 반영이나 중복 반영이 없다.
+    assertThat(viewCountInDatabase()).isEqualTo(100L);
+    // And: 유실은 마지막 flush 이후의 조회(30건)로 한정된다.
+    assertThat(beforeCrash.pending(postId)).isEqualTo(30L);
+
+    // When: 재시작한 인스턴스가 새 버퍼로 조회 5건을 받아 flush한다.
+    ViewCountBuffer afterRestart = new ViewCountBuffer();
+    increment(afterRestart, 5);
+    afterRestart.flush(postViewCountRepository::addViewCounts);
+
+    // Then: DB의 조회수에 이어서 누적된다.
+    assertThat(viewCountInDatabase()).isEqualTo(105L);
+  }
+
+  @Test
+  @DisplayName("게시글을 수정할 때, flush된 조회수를 엔티티의 이전 값으로 덮어쓰지 않는다.")
+  public void success_onPostUpdate_shouldNotOverwriteFlushedViewCount() {
+    // Given: 엔티티를 읽은 뒤 조회수 10건이 flush된다.
+    Post loaded = postRepository.findById(postId).orElseThrow();
+    ViewCountBuffer viewCountBuffer = new ViewCountBuffer();
+    increment(viewCountBuffer, 10);
+    viewCountBuffer.flush(postViewCountRepository::addViewCounts);
+
+    // When: 앞서 읽은 엔티티의 제목을 수정해 저장한다.
+    loaded.update("수정된 제목", "수정된 내용");
+    postRepository.save(loaded);
+
+    // Then: 조회수는 그대로 유지된다.
+    assertThat(viewCountInDatabase()).isEqualTo(10L);
+  }
+
+  private void increment(ViewCountBuffer viewCountBuffer, int views) {
+    for (int i = 0; i < views; i++) {
+      viewCountBuffer.increment(postId);
+    }
+  }
+
+  private long viewCountInDatabase() {
+    return postRepository.findById(postId).orElseThrow().getViewCount();
+  }
+}
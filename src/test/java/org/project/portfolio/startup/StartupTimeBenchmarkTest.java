@@ -0,0 +1,135 @@
+package org.project.portfolio.startup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.helper.dto.RequestDto;
+
+@Tag("startup")
+public class StartupTimeBenchmarkTest {
+
+  private static final String JAVA = System.getProperty("startup.java", "java");
+  private static final String BOOT_JAR = System.getProperty("startup.boot-jar");
+  private static final String FAST_JAR = System.getProperty("startup.fast-jar");
+  private static final String CDS_ARCHIVE = System.getProperty("startup.cds-archive");
+  private static final boolean AOT = Boolean.getBoolean("startup.aot");
+  private static final File LOG_DIR = new File(System.getProperty("startup.log-dir", "build/reports/startup"));
+  private static final int RUNS = Integer.getInteger("startup.runs", 3);
+  private static final Duration TIMEOUT = Duration.ofSeconds(Integer.getInteger("startup.timeout-seconds", 60));
+  private static final long POLL_INTERVAL_MILLIS = 10;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("기본 jar와 fast-startup jar(AOT, CDS)의 첫 로그인 성공까지 걸리는 시간을 측정한다.")
+  public void timeToFirstSuccessfulLogin() throws Exception {
+    // Given: 기본 실행 방식과 fast-startup 실행 방식이 주어진다.
+    List<String> fastJvmArgs = new ArrayList<>(List.of("-XX:SharedArchiveFile=" + CDS_ARCHIVE, "-Xlog:cds=off"));
+    if (AOT) {
+      fastJvmArgs.add("-Dspring.aot.enabled=true");
+    }
+
+    // When: 각 방식으로 여러 번 기동하면서 첫 로그인이 성공하기까지의 시간을 잰다.
+    long[] defaultMillis = measure("default", List.of(), BOOT_JAR, List.of());
+    long[] fastMillis = measure("fast-startup", fastJvmArgs, FAST_JAR, List.of("--spring.profiles.active=fast-startup"));
+
+    System.out.printf("time-to-first-successful-login over %d runs (aot=%s)%n", RUNS, AOT);
+    System.out.printf("%-14s %10s %10s%n", "mode", "min(ms)", "median(ms)");
+    System.out.printf("%-14s %10d %10d%n", "default", defaultMillis[0], defaultMillis[RUNS / 2]);
+    System.out.printf("%-14s %10d %10d%n", "fast-startup", fastMillis[0], fastMillis[RUNS / 2]);
+
+    // Then: 두 방식 모두 제한 시간 안에 로그인에 성공한다.
+    assertThat(defaultMillis[RUNS - 1]).isLessThan(TIMEOUT.toMillis());
+    assertThat(fastMillis[RUNS - 1]).isLessThan(TIMEOUT.toMillis());
+  }
+
+  private long[] measure(String mode, List<String> jvmArgs, String jar, List<String> args) throws Exception {
+    long[] millis = new long[RUNS];
+    for (int run = 0; run < RUNS; run++) {
+      millis[run] = timeToFirstLogin(mode + "-" + run, jvmArgs, jar, args);
+    }
+    Arrays.sort(millis);
+    return millis;
+  }
+
+  private long timeToFirstLogin(String name, List<String> jvmArgs, String jar, List<String> args) throws Exception {
+    int port = freePort();
+    List<String> command = new ArrayList<>();
+    command.add(JAVA);
+    command.addAll(jvmArgs);
+    command.addAll(List.of("-jar", jar, "--server.port=" + port));
+    command.addAll(args);
+    LOG_DIR.mkdirs();
+    File log = new File(LOG_DIR, name + ".log");
+    ProcessBuilder processBuilder = new ProcessBuilder(command)
+        .redirectErrorStream(true)
+        .redirectOutput(log);
+
+    long startNanos = System.nanoTime();
+    Process process = processBuilder.start();
+    try {
+      awaitStatus(process, log, signUpRequest(port), 201, startNanos);
+      awaitStatus(process, log, loginRequest(port), 200, startNanos);
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    } finally {
+      process.destroy();
+      if (!process.waitFor(10, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+      }
+    }
+  }
+
+  private void awaitStatus(Process process, File log, HttpRequest request, int expectedStatus, long startNanos)
+      throws Exception {
+    while (System.nanoTime() - startNanos < TIMEOUT.toNanos()) {
+      assertThat(process.isAlive()).as("application exited during startup, see %s", log).isTrue();
+      try {
+        int status = httpClient.send(request, BodyHandlers.discarding()).statusCode();
+        assertThat(status).as("unexpected status from %s, see %s", request.uri(), log).isEqualTo(expectedStatus);
+        return;
+      } catch (ConnectException e) {
+        Thread.sleep(POLL_INTERVAL_MILLIS);
+      }
+    }
+    throw new AssertionError("no response from " + request.uri() + " within " + TIMEOUT + ", see " + log);
+  }
+
+  private HttpRequest signUpRequest(int port) throws IOException {
+    return jsonRequest(port, "/api/v1/signup", objectMapper.writeValueAsString(RequestDto.validSignUpRequestDto()));
+  }
+
+  private HttpRequest loginRequest(int port) throws IOException {
+    return jsonRequest(port, "/api/v1/login", objectMapper.writeValueAsString(RequestDto.validLoginRequestDto()));
+  }
+
+  private HttpRequest jsonRequest(int port, String path, String body) {
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+        .header("Content-Type", "application/json")
+        .POST(BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private int freePort() throws IOException {
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      return serverSocket.getLocalPort();
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package org.project.portfolio.user.signup.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.helper.dto.RequestDto;
+import org.project.portfolio.user.dto.BulkSignUpResultDto;
+import org.project.portfolio.user.dto.BulkSignUpResultDto.Status;
+import org.project.portfolio.user.dto.SignUpRequestDto;
+import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+    classes = PortfolioApplication.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = "security.password.bcrypt-strength=4"
+)
+@ActiveProfiles("test")
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class BulkSignUpApiTest {
+
+  @LocalServerPort
+  private int port;
+  @Autowired
+  private TestRestTemplate restTemplate;
+  @Autowired
+  private UserRepository userRepository;
+  @Autowired
+  private ObjectMapper objectMapper;
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @BeforeEach
+  public void setUp() {
+    userRepository.deleteAll();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    userRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("NDJSON으로 여러 회원이 주어질 때, 줄마다 생성/유효하지 않음/중복 결과를 응답한다.")
+  public void success_onNdjsonSignUps_shouldReturnResultPerLine() throws JsonProcessingException {
+    // Given: DB에 이미 저장된 회원이 있다.
+    SignUpRequestDto existing = RequestDto.validSignUpRequestDto();
+    userRepository.save(existing.toEntity(passwordEncoder));
+    // And: 새 회원, 유효하지 않은 회원, 파일 안에서 중복된 회원, DB와 중복된 회원이 주어진다.
+    SignUpRequestDto created = signUpRequestDto("newUser", "new@test.kr");
+    SignUpRequestDto invalid = signUpRequestDto("invalid12", "invalid@test.kr");
+    SignUpRequestDto duplicateInFile = signUpRequestDto("otherId", "new@test.kr");
+    String body = String.join("\n",
+        objectMapper.writeValueAsString(created),
+        objectMapper.writeValueAsString(invalid),
+        objectMapper.writeValueAsString(duplicateInFile),
+        objectMapper.writeValueAsString(existing)
+    );
+
+    // When: 대량 회원 가입 API를 호출한다.
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_NDJSON);
+    ResponseEntity<String> response = restTemplate.postForEntity(
+        createUrlWithPort("/api/v1/signup/bulk"), new HttpEntity<>(body, headers), String.class);
+
+    // Then: Status Code는 200 OK이다.
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    // And: 줄마다 결과가 순서대로 반환된다.
+    List<BulkSignUpResultDto> results = new ArrayList<>();
+    for (String line : response.getBody().split("\n")) {
+      results.add(objectMapper.readValue(line, BulkSignUpResultDto.class));
+    }
+    assertThat(results).extracting(BulkSignUpResultDto::getLine).containsExactly(1, 2, 3, 4);
+    assertThat(results).extracting(BulkSignUpResultDto::getStatus)
+        .containsExactly(Status.CREATED, Status.INVALID, Status.DUPLICATE, Status.DUPLICATE);
+    assertThat(results.get(1).getDetail()).isEqualTo(Message.INVALID_USER_ID);
+    assertThat(results.get(2).getDetail()).isEqualTo(Message.DUPLICATE_EMAIL);
+    assertThat(results.get(3).getDetail()).isEqualTo(Message.DUPLICATE_EMAIL);
+    // And: 새 회원만 DB에 저장된다.
+    assertThat(userRepository.count()).isEqualTo(2);
+    assertThat(userRepository.existsByEmail(created.getEmail())).isTrue();
+  }
+
+  @Test
+  @DisplayName("null 줄과 비밀번호가 빠진 회원이 섞여 있을 때, 해당 줄만 유효하지 않음으로 응답하고 나머지는 계속 처리한다.")
+  public void fail_onNullLineAndMissingPassword_shouldRejectOnlyThoseLines() throws JsonProcessingException {
+    // Given: 새 회원 사이에 JSON null 줄과 비밀번호가 없는 회원이 있다.
+    SignUpRequestDto first = signUpRequestDto("firstId", "first@test.kr");
+    SignUpRequestDto missingPassword = signUpRequestDto("noPass", "nopass@test.kr");
+    missingPassword.setPassword(null);
+    SignUpRequestDto last = signUpRequestDto("lastId", "last@test.kr");
+    String body = String.join("\n",
+        objectMapper.writeValueAsString(first),
+        "null",
+        objectMapper.writeValueAsString(missingPassword),
+        objectMapper.writeValueAsString(last)
+    );
+
+    // When: 대량 회원 가입 API를 호출한다.
+    List<BulkSignUpResultDto> results = bulkSignUp(body);
+
+    // Then: 모든 줄의 결과가 순서대로 반환된다.
+    assertThat(results).extracting(BulkSignUpResultDto::getLine).containsExactly(1, 2, 3, 4);
+    assertThat(results).extracting(BulkSignUpResultDto::getStatus)
+        .containsExactly(Status.CREATED, Status.INVALID, Status.INVALID, Status.CREATED);
+    assertThat(results.get(1).getDetail()).isEqualTo(Message.BAD_REQUEST);
+    assertThat(results.get(2).getDetail()).isEqualTo(Message.INVALID_PASSWORD);
+    // And: 유효한 두 회원만 저장된다.
+    assertThat(userRepository.count()).isEqualTo(2);
+    assertThat(userRepository.existsByEmail(missingPassword.getEmail())).isFalse();
+  }
+
+  @Test
+  @DisplayName("한 줄이 허용 길이를 넘을 때, 그 줄만 크기 초과로 응답하고 다음 줄은 계속 처리한다.")
+  public void fail_onOverlongLine_shouldRejectOnlyThatLine() throws JsonProcessingException {
+    // Given: 두 회원 사이에 허용 길이를 넘는 줄이 있다.
+    SignUpRequestDto first = signUpRequestDto("firstId", "first@test.kr");
+    SignUpRequestDto last = signUpRequestDto("lastId", "last@test.kr");
+    String body = String.join("\n",
+        objectMapper.writeValueAsString(first),
+        "{\"userId\":\"" + "a".repeat(8192) + "\"}",
+        objectMapper.writeValueAsString(last)
+    );
+
+    // When: 대량 회원 가입 API를 호출한다.
+    List<BulkSignUpResultDto> results = bulkSignUp(body);
+
+    // Then: 모든 줄의 결과가 순서대로 반환되고, 긴 줄만 크기 초과로 거절된다.
+    assertThat(results).extracting(BulkSignUpResultDto::getLine).containsExactly(1, 2, 3);
+    assertThat(results).extracting(BulkSignUpResultDto::getStatus)
+        .containsExactly(Status.CREATED, Status.INVALID, Status.CREATED);
+    assertThat(results.get(1).getDetail()).isEqualTo(Message.PAYLOAD_TOO_LARGE);
+    // And: 나머지 두 회원은 저장된다.
+    assertThat(userRepository.count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("필드가 허용 길이를 넘을 때, 로그인/가입과 같은 읽기 제한으로 그 줄을 거절한다.")
+  public void fail_onOverlongField_shouldRejectWithStreamReadConstraints() throws JsonProcessingException {
+    // Given: 줄 길이는 허용 범위 안이지만 필드 하나가 필드 길이 제한을 넘는다.
+    SignUpRequestDto longField = signUpRequestDto("longId", "long@test.kr");
+    longField.setUsername("가".repeat(1000));
+
+    // When: 대량 회원 가입 API를 호출한다.
+    List<BulkSignUpResultDto> results = bulkSignUp(objectMapper.writeValueAsString(longField));
+
+    // Then: 해당 줄은 유효하지 않음으로 응답한다.
+    assertThat(results).extracting(BulkSignUpResultDto::getStatus).containsExactly(Status.INVALID);
+    assertThat(results.get(0).getDetail()).isEqualTo(Message.BAD_REQUEST);
+    assertThat(userRepository.count()).isZero();
+  }
+
+  private List<BulkSignUpResultDto> bulkSignUp(String body) throws JsonProcessingException {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_NDJSON);
+    ResponseEntity<String> response = restTemplate.postForEntity(
+        createUrlWithPort("/api/v1/signup/bulk"), new HttpEntity<>(body, headers), String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    List<BulkSignUpResultDto> results = new ArrayList<>();
+    for (String line : response.getBody().split("\n")) {
+      results.add(objectMapper.readValue(line, BulkSignUpResultDto.class));
+    }
+    return results;
+  }
+
+  private SignUpRequestDto signUpRequestDto(String userId, String email) {
+    SignUpRequestDto signUpRequestDto = RequestDto.validSignUpRequestDto();
+    signUpRequestDto.setUserId(userId);
+    signUpRequestDto.setEmail(email);
+    return signUpRequestDto;
+  }
+
+  private String createUrlWithPort(String uri) {
+    return "http://localhost:" + port + uri;
+  }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.project.portfolio.auth.service.AuthService;
 import org.project.portfolio.auth.service.JwtService;
 import org.project.portfolio.global.config.SecurityConfig;
+import org.project.portfolio.global.config.UserCacheConfig;
 import org.project.portfolio.global.constants.Message;
 import org.project.portfolio.helper.dto.RequestDto;
 import org.project.portfolio.user.controller.SignUpController;
@@ -25,7 +26,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 @WebMvcTest(SignUpController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, UserCacheConfig.class})
 @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
 public class SignUpControllerTest {
 
@@ -165,6 +166,39 @@ public class SignUpControllerTest {
     resultActions.andExpect(jsonPath("$.details.phone", is(Message.INVALID_PHONE)));
   }
 
+  @Test
+  @DisplayName("요청 본문이 최대 크기를 넘을 때, 413 Payload Too Large를 응답해야한다.")
+  public void fail_onOversizedRequestBody_shouldReturn413PayloadTooLarge() throws Exception {
+    // Given: 최대 크기를 넘는 username을 가진 SignUpRequestDto가 주어진다.
+    SignUpRequestDto oversizedSignUpRequestDto = RequestDto.validSignUpRequestDto();
+    oversizedSignUpRequestDto.setUsername("테스트".repeat(1_000));
+
+    // When: SignUp API를 호출한다.
+    ResultActions resultActions = callApiWith(oversizedSignUpRequestDto);
+
+    // Then: Status는 413 Payload Too Large이다.
+    resultActions.andExpect(status().isPayloadTooLarge());
+    // And: Response Body로 message를 반환한다.
+    resultActions.andExpect(jsonPath("$.message", is(Message.PAYLOAD_TOO_LARGE)));
+  }
+
+  @Test
+  @DisplayName("필드 길이가 최대 길이를 넘을 때, 400 Bad Request를 응답해야한다.")
+  public void fail_onOverlongFieldInSignUpRequestDto_shouldReturn400BadRequest() throws Exception {
+    // Given: 최대 길이를 넘는 userId를 가진 SignUpRequestDto가 주어진다.
+    SignUpRequestDto overlongSignUpRequestDto = RequestDto.validSignUpRequestDto();
+    overlongSignUpRequestDto.setUserId("a".repeat(300));
+
+    // When: SignUp API를 호출한다.
+    ResultActions resultActions = callApiWith(overlongSignUpRequestDto);
+
+    // Then: Status는 400 Bad Request이다.
+    resultActions.andExpect(status().isBadRequest());
+    // And: Response Body로 message와 detail을 반환한다.
+    resultActions.andExpect(jsonPath("$.message", is(Message.BAD_REQUEST)));
+    resultActions.andExpect(jsonPath("$.detail", is(Message.INVALID_REQUEST_BODY)));
+  }
+
   private ResultActions callApiWith(SignUpRequestDto signUpRequestDto) throws Exception {
     String requestBody = objectMapper.writeValueAsString(signUpRequestDto);
     return mockMvc.perform(MockMvcRequestBuilders
@@ -0,0 +1,94 @@
+package org.project.portfolio.user.signup.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.PortfolioApplication;
+import org.project.portfolio.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+@Tag("load")
+@SpringBootTest(
+    classes = PortfolioApplication.class,
+    webEnvironment = WebEnvironment.RANDOM_PORT,
+    properties = {"spring.jpa.show-sql=false", "security.password.bcrypt-strength=4"}
+)
+@ActiveProfiles("test")
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class BulkSignUpThroughputLoadTest {
+
+  private static final int USERS = Integer.getInteger("load.bulk.users", 100_000);
+  private static final String LINE_TEMPLATE =
+      "{\"userId\":\"%s\",\"password\":\"q1w2e3r4t5!@\",\"username\":\"테스트\","
+          + "\"email\":\"bulk%d@test.kr\",\"phone\":\"010-1234-5678\"}\n";
+
+  @LocalServerPort
+  private int port;
+  @Autowired
+  private UserRepository userRepository;
+
+  @AfterEach
+  public void tearDown() {
+    userRepository.deleteAllInBatch();
+  }
+
+  @Test
+  @DisplayName("10만 명을 대량 가입시킬 때의 처리량을 측정한다.")
+  public void bulkSignUpThroughput() throws Exception {
+    // Given: 서로 다른 회원 10만 명의 NDJSON이 주어진다.
+    StringBuilder body = new StringBuilder(USERS * 128);
+    for (int i = 0; i < USERS; i++) {
+      body.append(String.format(LINE_TEMPLATE, lettersOnlyUserId(i), i));
+    }
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/signup/bulk"))
+        .header("Content-Type", "application/x-ndjson")
+        .POST(BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8))
+        .build();
+
+    // When: 대량 회원 가입 API를 호출하고 결과 스트림을 모두 읽는다.
+    long startNanos = System.nanoTime();
+    HttpResponse<InputStream> response = HttpClient.newHttpClient().send(request, BodyHandlers.ofInputStream());
+    int created = 0;
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.contains("\"CREATED\"")) {
+          created++;
+        }
+      }
+    }
+    double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    System.out.printf("bulk sign-up: %d users in %.2fs (%.0f users/s)%n", created, elapsedSeconds, created / elapsedSeconds);
+
+    // Then: 모든 회원이 저장된다.
+    assertThat(created).isEqualTo(USERS);
+    assertThat(userRepository.count()).isEqualTo(USERS);
+  }
+
+  private String lettersOnlyUserId(int number) {
+    char[] letters = new char[5];
+    letters[0] = 'u';
+    for (int i = letters.length - 1; i > 0; i--) {
+      letters[i] = (char) ('a' + number % 26);
+      number /= 26;
+    }
+    return new String(letters);
+  }
+}
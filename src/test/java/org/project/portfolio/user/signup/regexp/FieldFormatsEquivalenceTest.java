@@ -0,0 +1,96 @@
+package org.project.portfolio.user.signup.regexp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.global.constants.RegExp;
+import org.project.portfolio.global.validation.FieldFormats;
+
+public class FieldFormatsEquivalenceTest {
+
+  private static final long SEED = 20241018L;
+  private static final int SAMPLES = 200_000;
+  private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
+  private static final String COMMON = "aZq09_-.@%+!#$^&*(),?\":{}|<> 가힣각ㅈ\t" + LINE_TERMINATORS;
+  private static final List<String> EDGE_CASES = List.of(
+      "", "a", "abcd", "abcdefgh", "abcdefghi", "abcd\n", "가나", "가나다라마바", "ㅈㅎ", "가\n",
+      "q1w2e3r4t5!@", "q1w2e3r4t5!@\n", "q1w2e3r4t5\n!@", " q1w2e3r4t5!@", "aaaaa11111!가!",
+      "a@b.cd", "a@b.c", "a@.cd", "@b.cd", "a@b.cd.", "a@b..cd", "a@b.c1", "a@b@c.de", "a.b@c-d.e.fg", "a@b.cd\n",
+      "010-123-4567", "010-1234-5678", "011-12345-6789", "010-12-3456", "020-123-4567", "010-123-45678", "010-1234-567",
+      "010 1234-5678", "01a-123-4567", "010-1234-5678\n"
+  );
+
+  @Test
+  @DisplayName("userId 검증 결과는 RegExp.USER_ID와 같아야 한다.")
+  public void userId_shouldMatchRegExp() {
+    assertEquivalent(RegExp.USER_ID, FieldFormats::isUserId, "abcXYZ1-" + COMMON, 10);
+  }
+
+  @Test
+  @DisplayName("username 검증 결과는 RegExp.USERNAME과 같아야 한다.")
+  public void username_shouldMatchRegExp() {
+    assertEquivalent(RegExp.USERNAME, FieldFormats::isUsername, "가나다힣\uabff\ud7a4\ud83d\ude00a" + COMMON, 7);
+  }
+
+  @Test
+  @DisplayName("password 검증 결과는 RegExp.PASSWORD와 같아야 한다.")
+  public void password_shouldMatchRegExp() {
+    assertEquivalent(RegExp.PASSWORD, FieldFormats::isPassword, "abcXYZ0123456789!@.\"<>|" + COMMON, 20);
+  }
+
+  @Test
+  @DisplayName("email 검증 결과는 RegExp.EMAIL과 같아야 한다.")
+  public void email_shouldMatchRegExp() {
+    assertEquivalent(RegExp.EMAIL, FieldFormats::isEmail, "abcXY09@@...--_%+" + COMMON, 14);
+    assertEquivalent(RegExp.EMAIL, FieldFormats::isEmail, random ->
+        randomString(random, "abZ09._%+-@가\n", 4) + "@"
+            + randomString(random, "abZ09.-.@_\n", 5) + "."
+            + randomString(random, "abcZ1.\n", 3));
+  }
+
+  @Test
+  @DisplayName("phone 검증 결과는 RegExp.PHONE과 같아야 한다.")
+  public void phone_shouldMatchRegExp() {
+    assertEquivalent(RegExp.PHONE, FieldFormats::isPhone, "0000111123456789---a ", 14);
+    assertEquivalent(RegExp.PHONE, FieldFormats::isPhone, random ->
+        "01" + randomString(random, "0123456789-a", 2) + randomString(random, "0123456789", 5)
+            + randomString(random, "0123456789--", 6));
+  }
+
+  private void assertEquivalent(String regExp, Predicate<String> fieldFormat, String alphabet, int maxLength) {
+    assertEquivalent(regExp, fieldFormat, random -> randomString(random, alphabet, maxLength));
+  }
+
+  private void assertEquivalent(String regExp, Predicate<String> fieldFormat, Function<Random, String> generator) {
+    Pattern pattern = Pattern.compile(regExp);
+    for (String edgeCase : EDGE_CASES) {
+      assertSameResult(pattern, fieldFormat, edgeCase);
+    }
+
+    Random random = new Random(SEED);
+    for (int i = 0; i < SAMPLES; i++) {
+      assertSameResult(pattern, fieldFormat, generator.apply(random));
+    }
+  }
+
+  private void assertSameResult(Pattern pattern, Predicate<String> fieldFormat, String value) {
+    assertThat(fieldFormat.test(value))
+        .as("input: \"%s\"", value)
+        .isEqualTo(pattern.matcher(value).matches());
+  }
+
+  private String randomString(Random random, String alphabet, int maxLength) {
+    int length = random.nextInt(maxLength + 1);
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,114 @@
+package org.project.portfolio.user.signup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.portfolio.global.constants.Message;
+import org.project.portfolio.global.exception.DuplicateResourceException;
+import org.project.portfolio.helper.dto.RequestDto;
+import org.project.portfolio.user.dto.SignUpRequestDto;
+import org.project.portfolio.user.repository.UserRepository;
+import org.project.portfolio.user.service.SignUpService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "security.password.bcrypt-strength=4")
+@ActiveProfiles("test")
+@SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+public class SignUpServiceConcurrencyTest {
+
+  private static final int CONCURRENT_SIGN_UPS = 16;
+
+  @Autowired
+  private SignUpService signUpService;
+  @Autowired
+  private UserRepository userRepository;
+
+  @BeforeEach
+  public void setUp() {
+    userRepository.deleteAll();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    userRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("같은 email로 동시에 회원 가입할 때, 하나만 저장되고 나머지는 중복 email로 거절된다.")
+  public void concurrentSignUpsWithSameEmail_shouldSaveOnlyOne() throws Exception {
+    // Given: email이 같고 userId가 다른 SignUpRequestDto가 주어진다.
+    IntFunction<SignUpRequestDto> requestDtoOf = i -> {
+      SignUpRequestDto signUpRequestDto = RequestDto.validSignUpRequestDto();
+      signUpRequestDto.setUserId("user" + (char) ('a' + i));
+      return signUpRequestDto;
+    };
+
+    // When: 동시에 회원 가입을 호출한다.
+    List<String> failures = signUpConcurrently(requestDtoOf);
+
+    // Then: 하나만 저장되고 나머지는 DUPLICATE_EMAIL로 거절된다.
+    assertThat(userRepository.count()).isEqualTo(1);
+    assertThat(failures).hasSize(CONCURRENT_SIGN_UPS - 1).containsOnly(Message.DUPLICATE_EMAIL);
+  }
+
+  @Test
+  @DisplayName("같은 userId로 동시에 회원 가입할 때, 하나만 저장되고 나머지는 중복 userId로 거절된다.")
+  public void concurrentSignUpsWithSameUserId_shouldSaveOnlyOne() throws Exception {
+    // Given: userId가 같고 email이 다른 SignUpRequestDto가 주어진다.
+    IntFunction<SignUpRequestDto> requestDtoOf = i -> {
+      SignUpRequestDto signUpRequestDto = RequestDto.validSignUpRequestDto();
+      signUpRequestDto.setEmail("test" + i + "@test.kr");
+      return signUpRequestDto;
+    };
+
+    // When: 동시에 회원 가입을 호출한다.
+    List<String> failures = signUpConcurrently(requestDtoOf);
+
+    // Then: 하나만 저장되고 나머지는 DUPLICATE_USER_ID로 거절된다.
+    assertThat(userRepository.count()).isEqualTo(1);
+    assertThat(failures).hasSize(CONCURRENT_SIGN_UPS - 1).containsOnly(Message.DUPLICATE_USER_ID);
+  }
+
+  private List<String> signUpConcurrently(IntFunction<SignUpRequestDto> requestDtoOf) throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_SIGN_UPS);
+    CountDownLatch startGate = new CountDownLatch(1);
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < CONCURRENT_SIGN_UPS; i++) {
+      SignUpRequestDto signUpRequestDto = requestDtoOf.apply(i);
+      Callable<String> signUp = () -> {
+        startGate.await();
+        try {
+          signUpService.signUp(signUpRequestDto);
+          return null;
+        } catch (DuplicateResourceException e) {
+          return e.getMessage();
+        }
+      };
+      results.add(executorService.submit(signUp));
+    }
+    startGate.countDown();
+
+    List<String> failures = new ArrayList<>();
+    for (Future<String> result : results) {
+      String failure = result.get();
+      if (failure != null) {
+        failures.add(failure);
+      }
+    }
+    executorService.shutdown();
+    return failures;
+  }
+}
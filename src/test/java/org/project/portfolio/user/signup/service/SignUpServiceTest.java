@@ -7,6 +7,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +22,9 @@ import org.project.portfolio.user.dto.SignUpRequestDto;
 import org.project.portfolio.user.entity.User;
 import org.project.portfolio.user.repository.UserRepository;
 import org.project.portfolio.user.service.SignUpService;
+import org.project.portfolio.user.service.UserIdResolver;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,23 +36,30 @@ public class SignUpServiceTest {
   @Mock
   private BCryptPasswordEncoder passwordEncoder;
 
+  @Mock
+  private UserCache userCache;
+
+  @Mock
+  private UserIdResolver userIdResolver;
+
   @InjectMocks
   private SignUpService signUpService;
 
   @Test
-  @DisplayName("DB에 중복된 email이 없고 중복된 userId가 없을 때, User Entity를 반환한다.")
-  public void success_onNoDuplicateEmailAndNoDuplicateUserIdInDB_shouldReturnUserEntity() {
+  @DisplayName("DB에 중복된 email이 없고 중복된 userId가 없을 때, 조회 없이 한 번에 저장한다.")
+  public void success_onNoDuplicateEmailAndNoDuplicateUserIdInDB_shouldSaveWithoutExistsQueries() {
     // Given: 유효한 SignUpRequestDto가 주어진다.
     SignUpRequestDto validSignUpRequestDto = RequestDto.validSignUpRequestDto();
-    // Mocking
-    when(userRepository.existsByEmail(validSignUpRequestDto.getEmail())).thenReturn(false);
-    when(userRepository.existsByUserId(validSignUpRequestDto.getUserId())).thenReturn(false);
 
     // When: signUp()을 호출한다.
     signUpService.signUp(validSignUpRequestDto);
 
-    // Then: UserRepository의 save()가 정상적으로 호출된다.
-    verify(userRepository, times(1)).save(any(User.class));
+    // Then: UserRepository의 saveAndFlush()만 호출된다.
+    verify(userRepository, times(1)).saveAndFlush(any(User.class));
+    verify(userRepository, never()).existsByEmail(any());
+    verify(userRepository, never()).existsByUserId(any());
+    // And: 캐시된 인증 정보가 무효화된다.
+    verify(userCache, times(1)).removeUserFromCache(validSignUpRequestDto.getEmail());
   }
 
   @Test
@@ -56,6 +68,7 @@ public class SignUpServiceTest {
     // Given: 유효한 SignupRequestDto가 주어진다.
     SignUpRequestDto validSignUpRequestDto = RequestDto.validSignUpRequestDto();
     // Mocking
+    when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation("UK_USERS_EMAIL_INDEX_4"));
     when(userRepository.existsByEmail(validSignUpRequestDto.getEmail())).thenReturn(true);
 
     // When: signUp()을 호출한다.
@@ -63,8 +76,6 @@ public class SignUpServiceTest {
     assertThatThrownBy(() -> signUpService.signUp(validSignUpRequestDto))
         .isInstanceOf(DuplicateResourceException.class)
         .hasMessage(Message.DUPLICATE_EMAIL);
-    // And: UserRepository의 save()가 호출되지 않는다.
-    verify(userRepository, never()).save(any(User.class));
   }
 
   @Test
@@ -73,14 +84,35 @@ public class SignUpServiceTest {
     // Given: 유효한 SignupRequestDto가 주어진다.
     SignUpRequestDto validSignUpRequestDto = RequestDto.validSignUpRequestDto();
     // Mocking
-    when(userRepository.existsByUserId(validSignUpRequestDto.getUserId())).thenReturn(true);
+    when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation("UK_USERS_USER_ID_INDEX_4"));
+    when(userRepository.existsByEmail(validSignUpRequestDto.getEmail())).thenReturn(false);
 
     // When: signUp()을 호출한다.
     // Then: DuplicateResourceException이 발생한다.
     assertThatThrownBy(() -> signUpService.signUp(validSignUpRequestDto))
         .isInstanceOf(DuplicateResourceException.class)
         .hasMessage(Message.DUPLICATE_USER_ID);
-    // And: UserRepository의 save()가 호출되지 않는다.
-    verify(userRepository, never()).save(any(User.class));
+  }
+
+  @Test
+  @DisplayName("중복이 아닌 무결성 위반일 때, 원래 Exception이 그대로 발생한다.")
+  public void fail_onOtherIntegrityViolation_shouldRethrowOriginalException() {
+    // Given: 유효한 SignupRequestDto가 주어진다.
+    SignUpRequestDto validSignUpRequestDto = RequestDto.validSignUpRequestDto();
+    // Mocking
+    DataIntegrityViolationException notNullViolation = new DataIntegrityViolationException("NULL not allowed for column");
+    when(userRepository.saveAndFlush(any(User.class))).thenThrow(notNullViolation);
+
+    // When: signUp()을 호출한다.
+    // Then: 원래 Exception이 발생하고 중복 조회는 하지 않는다.
+    assertThatThrownBy(() -> signUpService.signUp(validSignUpRequestDto))
+        .isSameAs(notNullViolation);
+    verify(userRepository, never()).existsByEmail(any());
+  }
+
+  private DataIntegrityViolationException uniqueViolation(String constraintName) {
+    return new DataIntegrityViolationException("could not execute statement",
+        new ConstraintViolationException("could not execute statement",
+            new SQLException("Unique index or primary key violation", "23505"), constraintName));
   }
 }